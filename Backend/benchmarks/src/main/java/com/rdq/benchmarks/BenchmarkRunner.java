@@ -0,0 +1,42 @@
+package com.rdq.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Point d'entrée du jar de benchmarks
+ * - Accepte toutes les options JMH en ligne de commande (filtre, -f, -wi, -prof...)
+ * - Résultats en JSON par défaut dans jmh-results/, un fichier horodaté par exécution,
+ *   pour comparer les versions entre elles (ex. https://jmh.morethan.io)
+ */
+public final class BenchmarkRunner {
+    
+    private static final Path RESULTS_DIRECTORY = Path.of("jmh-results");
+    
+    private BenchmarkRunner() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            Files.createDirectories(RESULTS_DIRECTORY);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            options.result(RESULTS_DIRECTORY.resolve("rdq-" + timestamp + ".json").toString());
+        }
+        
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,68 @@
+package com.rdq.benchmarks;
+
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.entity.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jeux de données et utilitaires communs aux benchmarks
+ * - Données réalistes : chaque RDQ a un utilisateur et un manager, textes de longueur typique
+ */
+final class Fixtures {
+    
+    static final String DESCRIPTION = "Formation avancée sur Quarkus et la programmation réactive, "
+            + "avec mise en pratique sur le projet RDQ et partage des acquis à l'équipe.";
+    
+    private Fixtures() {
+    }
+    
+    static List<RdqEntity> rdqEntities(int count) {
+        List<RdqEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserEntity manager = user(10_000L + i, "manager" + i + "@example.com", UserRole.MANAGER, null);
+            UserEntity owner = user(i + 1L, "user" + i + "@example.com", UserRole.USER, manager);
+            entities.add(rdqEntity(i + 1L, owner));
+        }
+        return entities;
+    }
+    
+    static RdqEntity rdqEntity(long id, UserEntity user) {
+        RdqEntity rdq = new RdqEntity();
+        rdq.id = id;
+        rdq.title = "Formation Quarkus " + id;
+        rdq.description = DESCRIPTION;
+        rdq.type = RdqType.FORMATION;
+        rdq.status = RdqStatus.SUBMITTED;
+        rdq.priority = RdqPriority.MEDIUM;
+        rdq.user = user;
+        rdq.requestedDate = LocalDate.of(2024, 6, 1);
+        rdq.justification = "Montée en compétence nécessaire pour le projet";
+        rdq.createdAt = LocalDateTime.of(2024, 5, 1, 9, 30);
+        rdq.updatedAt = LocalDateTime.of(2024, 5, 2, 14, 0);
+        return rdq;
+    }
+    
+    static UserEntity user(long id, String email, UserRole role, UserEntity manager) {
+        UserEntity user = new UserEntity();
+        user.id = id;
+        user.email = email;
+        user.firstName = "Prénom";
+        user.lastName = "Nom";
+        user.passwordHash = "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl.jvKq.L7O";
+        user.role = role;
+        user.manager = manager;
+        user.active = true;
+        user.department = "Études";
+        user.createdAt = LocalDateTime.of(2024, 1, 15, 8, 0);
+        user.updatedAt = LocalDateTime.of(2024, 1, 15, 8, 0);
+        return user;
+    }
+}
@@ -0,0 +1,169 @@
+package com.rdq.benchmarks;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Débit de persist() Hibernate selon la stratégie d'identifiants (en RDQ par seconde)
+ * - Mêmes réglages que l'application : statement-batch-size=50, order_inserts, optimiseur pooled-lo
+ * - identity : colonne IDENTITY, Hibernate exécute chaque INSERT dès le persist pour lire la clé
+ * - pooled-lo : séquence par blocs de 50 (comme rdq_seq), INSERT regroupés en lots au flush
+ * - Complète RdqInsertBenchmark (SQL rejoué en JDBC) : ici le coût d'Hibernate (contexte de persistance,
+ *   génération d'identifiant, lots) est inclus
+ * - Base PostgreSQL réelle, tables bench_rdq_* créées puis supprimées par Hibernate :
+ *   -Drdq.bench.jdbc.url, -Drdq.bench.jdbc.user, -Drdq.bench.jdbc.password
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(HibernatePersistBenchmark.ROWS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HibernatePersistBenchmark {
+
+    static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    /**
+     * Colonnes de RdqEntity (hors relations, user_id en simple colonne)
+     */
+    @MappedSuperclass
+    public abstract static class BenchRdq {
+
+        @Column(nullable = false)
+        public String title;
+
+        @Column(nullable = false, columnDefinition = "TEXT")
+        public String description;
+
+        @Column(nullable = false, length = 50)
+        public String type;
+
+        @Column(nullable = false, length = 50)
+        public String status;
+
+        @Column(nullable = false, length = 50)
+        public String priority;
+
+        @Column(name = "user_id", nullable = false)
+        public Long userId;
+
+        @Column(name = "created_at", nullable = false)
+        public LocalDateTime createdAt;
+
+        @Column(name = "updated_at", nullable = false)
+        public LocalDateTime updatedAt;
+
+        abstract Long getId();
+    }
+
+    @Entity(name = "BenchIdentityRdq")
+    @Table(name = "bench_rdq_identity")
+    public static class IdentityRdq extends BenchRdq {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        public Long id;
+
+        @Override
+        Long getId() {
+            return id;
+        }
+    }
+
+    @Entity(name = "BenchPooledLoRdq")
+    @Table(name = "bench_rdq_pooled_lo")
+    public static class PooledLoRdq extends BenchRdq {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_rdq_seq")
+        @SequenceGenerator(name = "bench_rdq_seq", sequenceName = "bench_rdq_seq", allocationSize = BATCH_SIZE)
+        public Long id;
+
+        @Override
+        Long getId() {
+            return id;
+        }
+    }
+
+    @Param({"identity", "pooled-lo"})
+    String idStrategy;
+
+    private SessionFactory sessionFactory;
+    private Supplier<BenchRdq> newRdq;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean identity = "identity".equals(idStrategy);
+        newRdq = identity ? IdentityRdq::new : PooledLoRdq::new;
+        table = identity ? "bench_rdq_identity" : "bench_rdq_pooled_lo";
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(identity ? IdentityRdq.class : PooledLoRdq.class)
+                .setProperty(AvailableSettings.URL, System.getProperty("rdq.bench.jdbc.url",
+                        "jdbc:postgresql://localhost:5432/rdq_dev?reWriteBatchedInserts=true"))
+                .setProperty(AvailableSettings.USER, System.getProperty("rdq.bench.jdbc.user", "rdq_user"))
+                .setProperty(AvailableSettings.PASS, System.getProperty("rdq.bench.jdbc.password", "rdq_password"))
+                .setProperty(AvailableSettings.POOL_SIZE, "1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session ->
+                session.createNativeMutationQuery("TRUNCATE " + table).executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Création de ROWS RDQ par persist() dans une transaction, comme un import
+     */
+    @Benchmark
+    public long persistRows() {
+        LocalDateTime now = LocalDateTime.now();
+        BenchRdq last = null;
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                last = newRdq.get();
+                last.title = "Formation Quarkus " + i;
+                last.description = Fixtures.DESCRIPTION;
+                last.type = "FORMATION";
+                last.status = "DRAFT";
+                last.priority = "MEDIUM";
+                last.userId = 1L + i % 20;
+                last.createdAt = now;
+                last.updatedAt = now;
+                session.persist(last);
+            }
+            transaction.commit();
+        }
+        return last.getId();
+    }
+}
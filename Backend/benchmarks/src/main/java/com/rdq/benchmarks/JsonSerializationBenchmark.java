@@ -0,0 +1,65 @@
+package com.rdq.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rdq.config.JacksonConfig;
+import com.rdq.dto.PageDto;
+import com.rdq.dto.RdqDto;
+import com.rdq.mapper.RdqMapperImpl;
+import com.rdq.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sérialisation Jackson d'une page de RDQ (en pages par seconde), réglages par défaut de Quarkus
+ * (JavaTimeModule, dates ISO-8601)
+ * - reflection : getters Lombok appelés par réflexion (Jackson seul)
+ * - blackbird : ObjectMapper complété par JacksonConfig, comme dans l'application (module Blackbird)
+ * - Allocation par page : -prof gc, métrique gc.alloc.rate.norm (octets par opération)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    
+    @Param({"20", "100"})
+    int pageSize;
+    
+    @Param({"reflection", "blackbird"})
+    String accessors;
+    
+    private ObjectMapper objectMapper;
+    private PageDto<RdqDto> page;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("blackbird".equals(accessors)) {
+            new JacksonConfig().customize(objectMapper);
+        }
+        
+        List<RdqDto> content = new RdqMapperImpl(new UserMapperImpl()).toDtoList(Fixtures.rdqEntities(pageSize));
+        page = new PageDto<>();
+        page.setContent(content);
+        page.setTotalElements(1000);
+        page.setTotalPages(1000 / pageSize);
+        page.setNumber(0);
+        page.setSize(pageSize);
+        page.setFirst(true);
+        page.setLast(false);
+        page.setNumberOfElements(content.size());
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,56 @@
+package com.rdq.benchmarks;
+
+import com.rdq.dto.RdqDto;
+import com.rdq.dto.UserDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.mapper.RdqMapper;
+import com.rdq.mapper.RdqMapperImpl;
+import com.rdq.mapper.UserMapper;
+import com.rdq.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping MapStruct entité -> DTO (lecture d'une RDQ, pages de liste)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    
+    @Param({"20", "100"})
+    int listSize;
+    
+    private RdqMapper rdqMapper;
+    private UserMapper userMapper;
+    private List<RdqEntity> entities;
+    private RdqEntity entity;
+    
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapperImpl();
+        rdqMapper = new RdqMapperImpl(userMapper);
+        entities = Fixtures.rdqEntities(listSize);
+        entity = entities.get(0);
+    }
+    
+    @Benchmark
+    public RdqDto rdqToDto() {
+        return rdqMapper.toDto(entity);
+    }
+    
+    @Benchmark
+    public List<RdqDto> rdqToDtoList() {
+        return rdqMapper.toDtoList(entities);
+    }
+    
+    @Benchmark
+    public UserDto userToSimpleDto() {
+        return userMapper.toSimpleDto(entity.user);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rdq.benchmarks;
+
+import com.rdq.security.PasswordHashingExecutor;
+import com.rdq.security.PasswordService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hachage, vérification BCrypt et contrôle de robustesse des mots de passe
+ * Hachage et vérification passent par le pool BCrypt dédié, comme en production
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordBenchmark {
+    
+    private static final String PASSWORD = "Sup3r$ecret!";
+    
+    private PasswordHashingExecutor hashingExecutor;
+    private PasswordService passwordService;
+    private String hash;
+    
+    @Setup
+    public void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(Optional.empty(), 64, Duration.ofSeconds(30));
+        
+        passwordService = new PasswordService(hashingExecutor);
+        hash = passwordService.hashPassword(PASSWORD);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.stop();
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String hashPassword() {
+        return passwordService.hashPassword(PASSWORD);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean verifyPassword() {
+        return passwordService.verifyPassword(PASSWORD, hash);
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean isValidPassword() {
+        return passwordService.isValidPassword(PASSWORD);
+    }
+}
@@ -0,0 +1,141 @@
+package com.rdq.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit d'insertion de RDQ selon la stratégie d'identifiants (en lignes par seconde)
+ * - identity : SQL émis par Hibernate avec IDENTITY, un INSERT et un aller-retour par ligne
+ *   pour relire la clé générée, aucun lot possible
+ * - pooled-lo : SQL émis avec la séquence rdq_seq (blocs de 50) et statement-batch-size=50,
+ *   un nextval et un executeBatch par bloc
+ * - Base PostgreSQL réelle (le coût mesuré est celui des allers-retours), tables temporaires
+ *   propres à la session : -Drdq.bench.jdbc.url, -Drdq.bench.jdbc.user, -Drdq.bench.jdbc.password
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(RdqInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RdqInsertBenchmark {
+
+    static final int ROWS = 500;
+    private static final int BLOCK_SIZE = 50;
+
+    private static final String COLUMNS = "title VARCHAR(255) NOT NULL, description TEXT NOT NULL, "
+            + "type VARCHAR(50) NOT NULL, status VARCHAR(50) NOT NULL, priority VARCHAR(50) NOT NULL, "
+            + "user_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL";
+
+    @Param({"identity", "pooled-lo"})
+    String idStrategy;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement nextBlock;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("rdq.bench.jdbc.url",
+                                   "jdbc:postgresql://localhost:5432/rdq_dev?reWriteBatchedInserts=true"),
+                System.getProperty("rdq.bench.jdbc.user", "rdq_user"),
+                System.getProperty("rdq.bench.jdbc.password", "rdq_password"));
+
+        try (Statement ddl = connection.createStatement()) {
+            if ("identity".equals(idStrategy)) {
+                ddl.execute("CREATE TEMPORARY TABLE bench_rdq (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                            + COLUMNS + ")");
+                insert = connection.prepareStatement("INSERT INTO bench_rdq (title, description, type, status, "
+                        + "priority, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+            } else {
+                ddl.execute("CREATE TEMPORARY TABLE bench_rdq (id BIGINT PRIMARY KEY, " + COLUMNS + ")");
+                ddl.execute("CREATE TEMPORARY SEQUENCE bench_rdq_seq INCREMENT BY " + BLOCK_SIZE);
+                insert = connection.prepareStatement("INSERT INTO bench_rdq (title, description, type, status, "
+                        + "priority, user_id, created_at, updated_at, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                nextBlock = connection.prepareStatement("SELECT nextval('bench_rdq_seq')");
+            }
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("TRUNCATE bench_rdq");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Création de ROWS RDQ dans une transaction
+     */
+    @Benchmark
+    public long insertRows() throws SQLException {
+        long lastId = "identity".equals(idStrategy) ? insertWithIdentity() : insertWithPooledLo();
+        connection.commit();
+        return lastId;
+    }
+
+    private long insertWithIdentity() throws SQLException {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ROWS; i++) {
+            bindRow(i, now);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                lastId = keys.getLong(1);
+            }
+        }
+        return lastId;
+    }
+
+    private long insertWithPooledLo() throws SQLException {
+        long nextId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ROWS; i++) {
+            if (i % BLOCK_SIZE == 0) {
+                try (ResultSet block = nextBlock.executeQuery()) {
+                    block.next();
+                    nextId = block.getLong(1);
+                }
+            }
+            bindRow(i, now);
+            insert.setLong(9, nextId++);
+            insert.addBatch();
+            if ((i + 1) % BLOCK_SIZE == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        return nextId - 1;
+    }
+
+    private void bindRow(int i, Timestamp now) throws SQLException {
+        insert.setString(1, "Formation Quarkus " + i);
+        insert.setString(2, Fixtures.DESCRIPTION);
+        insert.setString(3, "FORMATION");
+        insert.setString(4, "DRAFT");
+        insert.setString(5, "MEDIUM");
+        insert.setLong(6, 1L + i % 20);
+        insert.setTimestamp(7, now);
+        insert.setTimestamp(8, now);
+    }
+}
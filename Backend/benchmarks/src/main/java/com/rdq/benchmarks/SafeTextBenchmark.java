@@ -0,0 +1,57 @@
+package com.rdq.benchmarks;
+
+import com.rdq.validation.SafeTextValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validation anti-XSS des textes libres (@SafeText)
+ * - legacyMatches : ancienne validation de RdqResource (String.matches recompile le motif à chaque appel)
+ * - precompiledPattern : même motif compilé une fois, pour isoler le coût de la compilation
+ * - safeText : SafeTextValidator par table de correspondance
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SafeTextBenchmark {
+    
+    private static final String SAFE_REGEX = "^[a-zA-Z0-9\\s\\-_.,!?()àáâãäåçèéêëìíîïñòóôõöùúûüýÿ]+$";
+    private static final Pattern SAFE_PATTERN = Pattern.compile(SAFE_REGEX);
+    private static final int MAX_LENGTH = 2000;
+    
+    @Param({"title", "description", "max", "rejected"})
+    String inputKind;
+    
+    private String input;
+    
+    @Setup
+    public void setUp() {
+        input = switch (inputKind) {
+            case "title" -> "Formation Quarkus avancée";
+            case "description" -> Fixtures.DESCRIPTION;
+            case "max" -> "a".repeat(MAX_LENGTH);
+            case "rejected" -> "Formation <script>alert(1)</script>";
+            default -> throw new IllegalArgumentException(inputKind);
+        };
+    }
+    
+    @Benchmark
+    public boolean legacyMatches() {
+        return input.matches(SAFE_REGEX) && input.length() <= MAX_LENGTH;
+    }
+    
+    @Benchmark
+    public boolean precompiledPattern() {
+        return SAFE_PATTERN.matcher(input).matches() && input.length() <= MAX_LENGTH;
+    }
+    
+    @Benchmark
+    public boolean safeText() {
+        return SafeTextValidator.isSafe(input, MAX_LENGTH);
+    }
+}
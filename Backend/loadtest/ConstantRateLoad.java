@@ -0,0 +1,203 @@
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Générateur de charge à débit d'arrivée constant, sans dépendance (java ConstantRateLoad.java ...)
+ * Rejoue les scénarios des scripts k6 quand k6 n'est pas disponible (résultats : RESULTS.md)
+ * - Modèle ouvert : une requête part à chaque instant prévu, quelle que soit la latence des précédentes
+ * - Latence mesurée depuis l'instant prévu (comme constant-arrival-rate de k6) : l'attente côté serveur est comptée
+ * - Au-delà de 2000 requêtes en vol, l'itération est abandonnée et comptée (dropped_iterations de k6) ;
+ *   peak_in_flight : nombre maximal de requêtes simultanées atteint
+ *
+ * Usage (BASE_URL par défaut : http://localhost:8080, SEARCH_TERM par défaut : formation) :
+ *   java ConstantRateLoad.java readmix <préfixe> <débit/s> <secondes> <token> <ids séparés par des virgules>
+ *   java ConstantRateLoad.java readmix <préfixe> <débit/s> <secondes> @<fichier>
+ *     60 % listes, 30 % détails, 10 % recherches, comme rdq-blocking-vs-reactive.js
+ *     fichier : une ligne "<token> <ids séparés par des virgules>" par utilisateur, tiré au hasard à chaque requête
+ *   java ConstantRateLoad.java spike <connexions/s> <listes/s> <secondes> <token> <email> <mot de passe>
+ *     connexions BCrypt et listes simultanées, comme rdq-worker-vs-virtual-threads.js
+ */
+public class ConstantRateLoad {
+
+    static final String BASE_URL = System.getenv().getOrDefault("BASE_URL", "http://localhost:8080");
+    static final String SEARCH_TERM = System.getenv().getOrDefault("SEARCH_TERM", "formation");
+    static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    static final int MAX_IN_FLIGHT = 2000;
+    static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+
+    interface RequestFactory {
+        HttpRequest next();
+    }
+
+    /**
+     * Compteurs et latences (réponses 2xx uniquement) d'un scénario
+     */
+    static final class Stats {
+
+        final String name;
+        final ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+        final AtomicLong ok = new AtomicLong();
+        final AtomicLong non2xx = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicInteger peakInFlight = new AtomicInteger();
+
+        Stats(String name) {
+            this.name = name;
+        }
+
+        void print(double seconds) {
+            List<Long> sorted = new ArrayList<>(latenciesMicros);
+            Collections.sort(sorted);
+            System.out.printf(Locale.ROOT,
+                    "%-8s ok=%d non2xx=%d errors=%d dropped=%d peak_in_flight=%d throughput=%.1f/s "
+                    + "p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                    name, ok.get(), non2xx.get(), errors.get(), dropped.get(), peakInFlight.get(), ok.get() / seconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1) / 1000.0);
+        }
+
+        static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1000.0;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Thread> drivers = new ArrayList<>();
+        List<Stats> all = new ArrayList<>();
+        int seconds;
+
+        if (args[0].equals("readmix")) {
+            String prefix = args[1];
+            int rate = Integer.parseInt(args[2]);
+            seconds = Integer.parseInt(args[3]);
+            List<String[]> users = args[4].startsWith("@")
+                    ? Files.readAllLines(Path.of(args[4].substring(1))).stream()
+                           .filter(line -> !line.isBlank())
+                           .map(line -> line.trim().split(" ", 2))
+                           .toList()
+                    : List.<String[]>of(new String[] {args[4], args[5]});
+            String[] tokens = users.stream().map(user -> user[0]).toArray(String[]::new);
+            long[][] ids = users.stream()
+                    .map(user -> Arrays.stream(user[1].split(",")).mapToLong(Long::parseLong).toArray())
+                    .toArray(long[][]::new);
+            Stats stats = new Stats(prefix.contains("reactive") ? "reactive" : "blocking");
+            all.add(stats);
+            drivers.add(driver(rate, seconds, stats, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int user = random.nextInt(tokens.length);
+                double dice = random.nextDouble();
+                if (dice < 0.6) {
+                    return get(prefix + "?page=" + random.nextInt(3) + "&size=20", tokens[user]);
+                }
+                if (dice < 0.9) {
+                    return get(prefix + "/" + ids[user][random.nextInt(ids[user].length)], tokens[user]);
+                }
+                return get(prefix + "/search?q=" + URLEncoder.encode(SEARCH_TERM, StandardCharsets.UTF_8),
+                           tokens[user]);
+            }));
+        } else {
+            int loginRate = Integer.parseInt(args[1]);
+            int listRate = Integer.parseInt(args[2]);
+            seconds = Integer.parseInt(args[3]);
+            String token = args[4];
+            String body = "{\"email\":\"" + args[5] + "\",\"password\":\"" + args[6] + "\"}";
+            Stats login = new Stats("login");
+            Stats list = new Stats("list");
+            all.add(login);
+            all.add(list);
+            drivers.add(driver(loginRate, seconds, login, () ->
+                    HttpRequest.newBuilder(URI.create(BASE_URL + "/api/auth/login"))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build()));
+            drivers.add(driver(listRate, seconds, list, () ->
+                    get("/api/rdq?page=" + ThreadLocalRandom.current().nextInt(3) + "&size=20", token)));
+        }
+
+        for (Thread driver : drivers) {
+            driver.join();
+        }
+        // Réponses encore attendues : au plus le délai de requête
+        long deadline = System.nanoTime() + Duration.ofSeconds(31).toNanos();
+        while (IN_FLIGHT.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        for (Stats stats : all) {
+            stats.print(seconds);
+        }
+    }
+
+    static HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    /**
+     * Émet rate requêtes par seconde pendant seconds secondes, chacune sur son propre thread virtuel
+     */
+    static Thread driver(int rate, int seconds, Stats stats, RequestFactory factory) {
+        AtomicInteger inFlight = new AtomicInteger();
+        return Thread.ofPlatform().start(() -> {
+            long start = System.nanoTime();
+            long total = (long) rate * seconds;
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * 1_000_000_000L / rate;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                int current = inFlight.incrementAndGet();
+                if (current > MAX_IN_FLIGHT) {
+                    inFlight.decrementAndGet();
+                    stats.dropped.incrementAndGet();
+                    continue;
+                }
+                stats.peakInFlight.accumulateAndGet(current, Math::max);
+                IN_FLIGHT.incrementAndGet();
+                HttpRequest request = factory.next();
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        HttpResponse<Void> response = CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 == 2) {
+                            stats.ok.incrementAndGet();
+                            stats.latenciesMicros.add((System.nanoTime() - intended) / 1000);
+                        } else {
+                            stats.non2xx.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        stats.errors.incrementAndGet();
+                    } finally {
+                        inFlight.decrementAndGet();
+                        IN_FLIGHT.decrementAndGet();
+                    }
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,114 @@
+// Benchmark de charge : lectures RDQ bloquantes (/api/rdq) vs réactives (/api/reactive/rdq)
+//
+// Les deux scénarios s'exécutent l'un après l'autre contre la même instance
+// (même matériel, même base, même jeu de données) avec un débit d'arrivée constant :
+// la latence mesurée inclut donc l'attente d'un thread de travail côté bloquant.
+// Travail identique des deux côtés : liste = agrégation de version (ETag) puis page avec total,
+// détail = une requête, recherche = page et comptage ; seuls page et size sont envoyés
+// (la liste réactive ne filtre que par statut).
+//
+// Usage :
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=user@example.com -e PASSWORD=... \
+//          -e RATE=400 -e DURATION=2m loadtest/rdq-blocking-vs-reactive.js
+//   Plusieurs utilisateurs : -e USERS_FILE=users.txt (une ligne "<token> <ids séparés par des virgules>"
+//   par utilisateur, tiré au hasard à chaque requête) à la place de EMAIL et PASSWORD
+//
+// Comparer http_req_duration{stack:blocking} et http_req_duration{stack:reactive} (p95, p99)
+// ainsi que dropped_iterations (requêtes que le serveur n'a pas pu absorber).
+// Sans k6 : java loadtest/ConstantRateLoad.java readmix ... ; résultats mesurés dans loadtest/RESULTS.md
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '1m';
+const SEARCH_TERM = __ENV.SEARCH_TERM || 'formation';
+const PAUSE = '30s';
+const USERS = __ENV.USERS_FILE ? parseUsers(open(__ENV.USERS_FILE)) : null;
+
+function scenario(stack, startTime) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec: 'readMix',
+        rate: RATE,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: Math.max(50, RATE),
+        maxVUs: RATE * 4,
+        startTime: startTime,
+        env: { STACK: stack },
+        tags: { stack: stack },
+    };
+}
+
+export const options = {
+    scenarios: {
+        blocking: scenario('blocking', '0s'),
+        reactive: scenario('reactive', `${durationSeconds(DURATION) + durationSeconds(PAUSE)}s`),
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{stack:blocking}': ['p(99)<2000'],
+        'http_req_duration{stack:reactive}': ['p(99)<2000'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    if (USERS) {
+        return { users: USERS };
+    }
+    const response = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'login ok': (r) => r.status === 200 });
+
+    const token = response.json('token');
+    const list = http.get(`${BASE_URL}/api/rdq?size=50`, { headers: authHeaders(token) });
+    const ids = (list.json('content') || []).map((rdq) => rdq.id);
+    return { users: [{ token: token, ids: ids }] };
+}
+
+// Répartition proche du trafic observé : 60 % liste, 30 % détail, 10 % recherche
+export function readMix(data) {
+    const prefix = __ENV.STACK === 'reactive' ? '/api/reactive/rdq' : '/api/rdq';
+    const user = data.users[Math.floor(Math.random() * data.users.length)];
+    const params = { headers: authHeaders(user.token), tags: { stack: __ENV.STACK } };
+    const dice = Math.random();
+
+    let response;
+    if (dice < 0.6 || user.ids.length === 0) {
+        const page = Math.floor(Math.random() * 3);
+        response = http.get(`${BASE_URL}${prefix}?page=${page}&size=20`,
+            Object.assign({}, params, { tags: { stack: __ENV.STACK, endpoint: 'list' } }));
+    } else if (dice < 0.9) {
+        const id = user.ids[Math.floor(Math.random() * user.ids.length)];
+        response = http.get(`${BASE_URL}${prefix}/${id}`,
+            Object.assign({}, params, { tags: { stack: __ENV.STACK, endpoint: 'get' } }));
+    } else {
+        response = http.get(`${BASE_URL}${prefix}/search?q=${encodeURIComponent(SEARCH_TERM)}`,
+            Object.assign({}, params, { tags: { stack: __ENV.STACK, endpoint: 'search' } }));
+    }
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
+
+function parseUsers(content) {
+    return content.split('\n')
+        .filter((line) => line.trim().length > 0)
+        .map((line) => {
+            const [token, ids] = line.trim().split(' ');
+            return { token: token, ids: ids.split(',').map(Number) };
+        });
+}
+
+function authHeaders(token) {
+    return { Authorization: `Bearer ${token}` };
+}
+
+function durationSeconds(value) {
+    const match = /^(\d+)(s|m)$/.exec(value);
+    if (!match) {
+        throw new Error(`Durée non supportée : ${value} (attendu : 90s, 2m...)`);
+    }
+    return parseInt(match[1], 10) * (match[2] === 'm' ? 60 : 1);
+}
@@ -0,0 +1,84 @@
+// Benchmark de charge : pool de travail vs threads virtuels (RdqResource, AuthResource)
+//
+// Le mode d'exécution est fixé au BUILD (@RunOnVirtualThread est lu à la compilation) :
+// construire les deux binaires, puis lancer ce script contre chacun, avec la même
+// base et le même quarkus.thread-pool.max-threads :
+//
+//   mvn package -Drdq.virtual-threads.endpoints=false && cp -r target/quarkus-app /tmp/rdq-worker
+//   java -jar /tmp/rdq-worker/quarkus-run.jar
+//   k6 run -e MODE=worker  -e EMAIL=... -e PASSWORD=... loadtest/rdq-worker-vs-virtual-threads.js
+//
+//   mvn package && java -jar target/quarkus-app/quarkus-run.jar
+//   k6 run -e MODE=virtual -e EMAIL=... -e PASSWORD=... loadtest/rdq-worker-vs-virtual-threads.js
+//
+// Le profil reproduit le pic du matin : rampe de connexions puis rafale de listes.
+// Comparer http_reqs (débit), http_req_duration p(99) et dropped_iterations entre les
+// deux exécutions (k6 --summary-export pour archiver les résultats), et vérifier
+// rdq_virtual_threads_pinned_total sur /q/metrics après l'exécution en mode virtual.
+// Sans k6 : java loadtest/ConstantRateLoad.java spike ... ; résultats mesurés dans loadtest/RESULTS.md
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'virtual';
+const PEAK_RATE = parseInt(__ENV.PEAK_RATE || '300', 10);
+
+export const options = {
+    scenarios: {
+        login_spike: {
+            executor: 'ramping-arrival-rate',
+            exec: 'login',
+            startRate: 10,
+            timeUnit: '1s',
+            preAllocatedVUs: 100,
+            maxVUs: PEAK_RATE * 4,
+            stages: [
+                { target: Math.round(PEAK_RATE / 3), duration: '30s' },
+                { target: Math.round(PEAK_RATE / 3), duration: '1m' },
+                { target: 10, duration: '15s' },
+            ],
+        },
+        list_spike: {
+            executor: 'ramping-arrival-rate',
+            exec: 'list',
+            startTime: '30s',
+            startRate: 20,
+            timeUnit: '1s',
+            preAllocatedVUs: 100,
+            maxVUs: PEAK_RATE * 4,
+            stages: [
+                { target: PEAK_RATE, duration: '30s' },
+                { target: PEAK_RATE, duration: '1m' },
+                { target: 20, duration: '15s' },
+            ],
+        },
+    },
+    tags: { mode: MODE },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = doLogin();
+    check(response, { 'login ok': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export function login() {
+    const response = doLogin();
+    check(response, { 'login 200': (r) => r.status === 200 });
+}
+
+export function list(data) {
+    const page = Math.floor(Math.random() * 3);
+    const response = http.get(`${BASE_URL}/api/rdq?page=${page}&size=20`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { endpoint: 'list' },
+    });
+    check(response, { 'list 200': (r) => r.status === 200 });
+}
+
+function doLogin() {
+    return http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { endpoint: 'login' } });
+}
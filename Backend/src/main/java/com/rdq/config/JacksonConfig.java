@@ -0,0 +1,30 @@
+package com.rdq.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sérialisation JSON des DTOs (RdqDto, UserDto, PageDto...)
+ * - Module Blackbird : accesseurs générés par LambdaMetafactory à la première sérialisation
+ *   d'un type, à la place des appels réflexifs sur les getters Lombok
+ * - Énumérations : EnumSerializer de Jackson, déjà écrit depuis des SerializedString en cache
+ * - Image native : génération de classes à l'exécution impossible, Blackbird n'est pas enregistré
+ */
+@Singleton
+@Slf4j
+public class JacksonConfig implements ObjectMapperCustomizer {
+
+    private static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        if (System.getProperty(NATIVE_IMAGE_PROPERTY) != null) {
+            log.debug("Native image: Blackbird module not registered");
+            return;
+        }
+        objectMapper.registerModule(new BlackbirdModule());
+    }
+}
@@ -0,0 +1,27 @@
+package com.rdq.config;
+
+import com.rdq.exception.ServiceOverloadedException;
+import com.rdq.resource.RdqResource.ErrorResponse;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Traduction commune de la saturation d'une ressource bornée (pool BCrypt...)
+ * - 503 avec Retry-After sur tous les endpoints : le client réessaie au lieu de corriger sa requête
+ */
+@Provider
+public class ServiceOverloadedExceptionMapper implements ExceptionMapper<ServiceOverloadedException> {
+    
+    @Override
+    public Response toResponse(ServiceOverloadedException exception) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                      .header(HttpHeaders.RETRY_AFTER, exception.getRetryAfterSeconds())
+                      .type(MediaType.APPLICATION_JSON)
+                      .entity(ErrorResponse.of(exception.getCode(), exception.getMessage()))
+                      .build();
+    }
+}
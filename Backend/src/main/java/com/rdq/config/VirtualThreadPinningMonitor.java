@@ -0,0 +1,92 @@
+package com.rdq.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+/**
+ * Détection des threads virtuels épinglés sur leur thread porteur
+ * - Abonnement JFR en continu à l'événement jdk.VirtualThreadPinned
+ *   (bloc synchronized ou appel natif pendant une opération bloquante, ex. I/O JDBC)
+ * - Chaque épinglage au-delà du seuil est journalisé avec sa pile et compté
+ *   (métrique rdq.virtual-threads.pinned)
+ */
+@ApplicationScoped
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_COUNTER = "rdq.virtual-threads.pinned";
+    
+    private static final int MAX_LOGGED_FRAMES = 20;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.virtual-threads.pinning-detection.enabled", defaultValue = "false")
+    boolean enabled;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.virtual-threads.pinning-detection.threshold", defaultValue = "20ms")
+    Duration threshold;
+    
+    private RecordingStream recordingStream;
+    
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        
+        log.info("Virtual thread pinning detection enabled (threshold {} ms)", threshold.toMillis());
+    }
+    
+    void onStop(@Observes ShutdownEvent event) {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        Metrics.counter(PINNED_COUNTER).increment();
+        
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "inconnu";
+        log.warn("Virtual thread pinned for {} ms: thread={}{}",
+                event.getDuration().toMillis(), thread, formatStackTrace(event.getStackTrace()));
+    }
+    
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        
+        StringBuilder frames = new StringBuilder();
+        int count = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (count++ == MAX_LOGGED_FRAMES) {
+                frames.append("\n\t...");
+                break;
+            }
+            frames.append("\n\tat ")
+                  .append(frame.getMethod().getType().getName())
+                  .append('.')
+                  .append(frame.getMethod().getName())
+                  .append(':')
+                  .append(frame.getLineNumber());
+        }
+        return frames.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqStatus;
+import com.rdq.validation.SafeText;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO de décision groupée d'un manager (POST /api/rdq/bulk-decision)
+ * - Au plus MAX_IDS identifiants, doublons ignorés
+ * - Commentaire obligatoire pour un rejet (vérifié par le service)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionDto {
+    
+    public static final int MAX_IDS = 100;
+    
+    @NotEmpty(message = "Au moins une RDQ est requise")
+    @Size(max = MAX_IDS, message = "Au plus 100 RDQ par décision groupée")
+    private List<@NotNull @Positive Long> ids;
+    
+    @NotNull(message = "La décision est obligatoire")
+    private Decision decision;
+    
+    @Size(max = 1000, message = "Le commentaire ne peut dépasser 1000 caractères")
+    @SafeText(max = 1000)
+    private String comment;
+    
+    /**
+     * Décision applicable à une RDQ soumise
+     */
+    public enum Decision {
+        APPROVE(RdqStatus.APPROVED),
+        REJECT(RdqStatus.REJECTED);
+        
+        private final RdqStatus targetStatus;
+        
+        Decision(RdqStatus targetStatus) {
+            this.targetStatus = targetStatus;
+        }
+        
+        public RdqStatus getTargetStatus() {
+            return targetStatus;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Résultat d'une décision groupée, une entrée par identifiant demandé
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDecisionResultDto {
+    
+    /**
+     * Statut appliqué aux RDQ éligibles
+     */
+    private RdqStatus status;
+    
+    /**
+     * Nombre d'identifiants distincts demandés
+     */
+    private int requested;
+    
+    /**
+     * Nombre de RDQ effectivement mises à jour
+     */
+    private int updated;
+    
+    private List<Item> results;
+    
+    /**
+     * Résultat pour une RDQ : succès, ou code d'erreur identique à l'appel unitaire
+     * (RDQ_NOT_FOUND, ACCESS_DENIED, INVALID_STATUS)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        private Long id;
+        
+        private boolean success;
+        
+        private String code;
+        
+        private String message;
+        
+        public static Item success(Long id) {
+            return new Item(id, true, null, null);
+        }
+        
+        public static Item failure(Long id, String code, String message) {
+            return new Item(id, false, code, message);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.rdq.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO de finalisation d'un envoi en plusieurs blocs : empreinte du fichier complet calculée par le client
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteUploadDto {
+
+    @NotNull(message = "L'empreinte SHA-256 est obligatoire")
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "Empreinte SHA-256 attendue en hexadécimal (64 caractères)")
+    private String sha256;
+}
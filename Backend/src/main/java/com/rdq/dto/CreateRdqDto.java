@@ -2,6 +2,7 @@ package com.rdq.dto;
 
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
+import com.rdq.validation.SafeText;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,10 +27,12 @@ public class CreateRdqDto {
     
     @NotBlank(message = "Le titre est obligatoire")
     @Size(min = 5, max = 255, message = "Le titre doit contenir entre 5 et 255 caractères")
+    @SafeText
     private String title;
     
     @NotBlank(message = "La description est obligatoire")
     @Size(min = 20, max = 2000, message = "La description doit contenir entre 20 et 2000 caractères")
+    @SafeText
     private String description;
     
     @NotNull(message = "Le type est obligatoire")
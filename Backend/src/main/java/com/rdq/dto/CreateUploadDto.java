@@ -0,0 +1,35 @@
+package com.rdq.dto;
+
+import com.rdq.entity.AttachmentKind;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO d'ouverture d'un envoi en plusieurs blocs (POST /api/rdq/{id}/uploads)
+ * Type et taille contrôlés dès l'ouverture : un fichier refusé n'est pas transféré
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadDto {
+
+    @NotBlank(message = "Le nom du fichier est obligatoire")
+    @Size(max = 255, message = "Le nom du fichier ne peut dépasser 255 caractères")
+    private String fileName;
+
+    @NotBlank(message = "Le type du fichier est obligatoire")
+    @Size(max = 100)
+    private String contentType;
+
+    @NotNull(message = "La taille du fichier est obligatoire")
+    @Positive(message = "Le fichier ne peut être vide")
+    private Long size;
+
+    private AttachmentKind kind = AttachmentKind.OTHER;
+}
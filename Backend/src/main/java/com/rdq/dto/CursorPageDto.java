@@ -0,0 +1,44 @@
+package com.rdq.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO générique pour les résultats paginés par curseur (keyset)
+ * Variante de PageDto sans comptage total : la page suivante est
+ * désignée par un curseur opaque plutôt que par un numéro de page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    /**
+     * Contenu de la page actuelle
+     */
+    private List<T> content;
+
+    /**
+     * Taille de la page demandée
+     */
+    private int size;
+
+    /**
+     * Nombre d'éléments dans la page actuelle
+     */
+    private int numberOfElements;
+
+    /**
+     * Indique s'il existe une page suivante
+     */
+    private boolean hasNext;
+
+    /**
+     * Curseur opaque à transmettre dans le paramètre "after" pour obtenir la page suivante
+     * (null s'il n'y a pas de page suivante)
+     */
+    private String nextCursor;
+}
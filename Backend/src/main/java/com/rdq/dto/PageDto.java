@@ -22,11 +22,13 @@ public class PageDto<T> {
     
     /**
      * Nombre total d'éléments dans toutes les pages
+     * (-1 lorsque le comptage n'a pas été demandé, includeTotal=false)
      */
     private long totalElements;
     
     /**
      * Nombre total de pages
+     * (-1 lorsque le comptage n'a pas été demandé, includeTotal=false)
      */
     private int totalPages;
     
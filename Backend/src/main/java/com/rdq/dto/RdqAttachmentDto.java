@@ -0,0 +1,34 @@
+package com.rdq.dto;
+
+import com.rdq.entity.AttachmentKind;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Métadonnées d'une pièce jointe exposées par l'API
+ * L'empreinte du contenu (clé du magasin de fichiers) n'est pas exposée
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqAttachmentDto {
+
+    private Long id;
+
+    private Long rdqId;
+
+    private AttachmentKind kind;
+
+    private String fileName;
+
+    private String contentType;
+
+    private long sizeBytes;
+
+    private Long uploadedBy;
+
+    private LocalDateTime createdAt;
+}
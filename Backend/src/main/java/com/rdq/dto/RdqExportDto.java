@@ -0,0 +1,52 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Ligne d'export de l'historique des RDQ (CSV ou NDJSON)
+ * - Projection directe en JPQL (SELECT new), lue depuis un curseur : aucune entité gérée
+ * - L'ordre des champs définit le constructeur de projection et l'ordre des colonnes CSV
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqExportDto {
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private RdqType type;
+
+    private RdqStatus status;
+
+    private RdqPriority priority;
+
+    private LocalDate requestedDate;
+
+    private String justification;
+
+    private String managerComment;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long userId;
+
+    private String userEmail;
+
+    private String userFullName;
+
+    private String managerFullName;
+}
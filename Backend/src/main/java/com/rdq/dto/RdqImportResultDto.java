@@ -0,0 +1,52 @@
+package com.rdq.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rapport d'import de RDQ : compteurs et erreurs par ligne
+ * Les erreurs au-delà de la limite configurée sont comptées mais non détaillées
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqImportResultDto {
+    
+    /**
+     * Nombre de lignes de données lues (hors en-tête CSV)
+     */
+    private long totalRows;
+    
+    private long imported;
+    
+    private long failed;
+    
+    /**
+     * true si des erreurs ont été omises de la liste
+     */
+    private boolean errorsTruncated;
+    
+    private List<RowError> errors = new ArrayList<>();
+    
+    /**
+     * Erreur d'une ligne du fichier source
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        
+        /**
+         * Numéro de ligne dans le fichier (à partir de 1, en-tête CSV compris)
+         */
+        private long line;
+        
+        private String code;
+        
+        private String message;
+    }
+}
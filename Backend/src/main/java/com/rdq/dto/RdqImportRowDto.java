@@ -0,0 +1,31 @@
+package com.rdq.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Ligne d'import de RDQ (colonne CSV ou objet NDJSON)
+ * - Champs de CreateRdqDto à plat, validés avec les mêmes règles
+ * - userEmail désigne le propriétaire de la RDQ
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqImportRowDto {
+    
+    @NotBlank(message = "L'email du propriétaire est obligatoire")
+    @Email(message = "L'email du propriétaire est invalide")
+    private String userEmail;
+    
+    @Valid
+    @NotNull
+    @JsonUnwrapped
+    private CreateRdqDto rdq = new CreateRdqDto();
+}
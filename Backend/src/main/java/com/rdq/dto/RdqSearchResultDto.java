@@ -0,0 +1,56 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.RdqPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de résultat de recherche plein texte
+ * - Champs de synthèse de la RDQ (pas de textes longs)
+ * - Score de pertinence et extraits surlignés avec des balises <mark>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqSearchResultDto {
+
+    private Long id;
+
+    private String title;
+
+    private RdqType type;
+
+    private RdqStatus status;
+
+    private RdqPriority priority;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long userId;
+
+    private String userFullName;
+
+    /**
+     * Score de pertinence (ts_rank_cd normalisé entre 0 et 1)
+     */
+    private Float rank;
+
+    /**
+     * Titre avec les termes trouvés surlignés
+     */
+    private String titleHighlight;
+
+    /**
+     * Extrait(s) de la description avec les termes trouvés surlignés
+     */
+    private String snippet;
+}
@@ -0,0 +1,45 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO des statistiques RDQ servies par GET /api/rdq/stats
+ * Lues dans les compteurs tenus à jour à l'écriture (aucun comptage sur la table rdq)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqStatisticsDto {
+
+    /**
+     * Nombre total de RDQ (somme des compteurs par statut)
+     */
+    private long total;
+
+    /**
+     * Nombre de RDQ par statut (toutes les valeurs présentes, 0 si aucune)
+     */
+    private Map<RdqStatus, Long> byStatus;
+
+    /**
+     * Nombre de RDQ par type
+     */
+    private Map<RdqType, Long> byType;
+
+    /**
+     * Nombre de RDQ par priorité
+     */
+    private Map<RdqPriority, Long> byPriority;
+
+    /**
+     * Nombre de RDQ de l'utilisateur courant
+     */
+    private long ownTotal;
+}
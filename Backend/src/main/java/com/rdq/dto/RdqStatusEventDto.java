@@ -0,0 +1,28 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transition de statut d'une RDQ poussée aux clients (événement SSE "rdq-status")
+ * Données minimales : le client recharge la RDQ ou la liste s'il a besoin du détail
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqStatusEventDto {
+
+    private Long rdqId;
+
+    private String title;
+
+    private RdqStatus previousStatus;
+
+    private RdqStatus status;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,49 @@
+package com.rdq.dto;
+
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.RdqPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de synthèse pour les écrans de liste
+ * - Projection directe en JPQL (SELECT new), sans charger l'entité
+ * - Aucun champ texte long (description, justification, commentaire manager)
+ * - L'ordre des champs définit le constructeur utilisé par les requêtes de projection
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqSummaryDto {
+
+    private Long id;
+
+    private String title;
+
+    private RdqType type;
+
+    private RdqStatus status;
+
+    private RdqPriority priority;
+
+    private LocalDate requestedDate;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long userId;
+
+    private String userFullName;
+
+    private Long managerId;
+
+    private String managerFullName;
+}
@@ -0,0 +1,54 @@
+package com.rdq.dto;
+
+import com.rdq.entity.AttachmentKind;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * État d'un envoi en plusieurs blocs
+ * - received : plages reçues, fusionnées, bornes incluses (comme Content-Range)
+ * - nextOffset : fin de la partie reçue sans trou depuis le début (reprise d'un envoi séquentiel)
+ * - complete : tous les octets reçus, l'envoi peut être finalisé
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqUploadDto {
+
+    private String uploadId;
+
+    private Long rdqId;
+
+    private AttachmentKind kind;
+
+    private String fileName;
+
+    private String contentType;
+
+    private long size;
+
+    private long receivedBytes;
+
+    private long nextOffset;
+
+    private boolean complete;
+
+    private List<ByteSpan> received;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * Plage d'octets reçue [start, end]
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ByteSpan {
+        private long start;
+        private long end;
+    }
+}
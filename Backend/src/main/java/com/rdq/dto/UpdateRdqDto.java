@@ -3,6 +3,7 @@ package com.rdq.dto;
 import com.rdq.entity.RdqStatus;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
+import com.rdq.validation.SafeText;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,9 +24,11 @@ import java.time.LocalDateTime;
 public class UpdateRdqDto {
     
     @Size(min = 5, max = 255, message = "Le titre doit contenir entre 5 et 255 caractères")
+    @SafeText
     private String title;
     
     @Size(min = 20, max = 2000, message = "La description doit contenir entre 20 et 2000 caractères")
+    @SafeText
     private String description;
     
     private RdqType type;
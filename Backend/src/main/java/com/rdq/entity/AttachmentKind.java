@@ -0,0 +1,20 @@
+package com.rdq.entity;
+
+/**
+ * Nature d'une pièce jointe de RDQ
+ */
+public enum AttachmentKind {
+    CV("CV"),
+    JOB_DESCRIPTION("Fiche de poste"),
+    OTHER("Autre document");
+
+    private final String displayName;
+
+    AttachmentKind(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,84 @@
+package com.rdq.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Message de notification en attente d'envoi (pattern transactional outbox)
+ * - Écrit dans la même transaction que la modification de la RDQ
+ * - Envoyé en arrière-plan par NotificationDispatcher, hors transaction métier
+ * - nextAttemptAt sert à la fois de date de nouvel essai et de bail de traitement
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutboxEntity extends PanacheEntityBase {
+
+    /**
+     * Identifiants alloués par blocs : les messages d'une décision groupée partent en un lot JDBC
+     */
+    public static final String ID_SEQUENCE = "notification_outbox_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    public Long id;
+
+    @Column(name = "notification_type", nullable = false, length = 50)
+    @NotBlank
+    public String notificationType;
+
+    @Column(name = "rdq_id")
+    public Long rdqId;
+
+    @Column(nullable = false)
+    @NotBlank
+    @Email
+    @Size(max = 255)
+    public String recipient;
+
+    @Column(nullable = false)
+    @NotBlank
+    @Size(max = 255)
+    public String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @NotBlank
+    public String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @NotNull
+    public OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    public int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    public LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    public String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    public LocalDateTime sentAt;
+}
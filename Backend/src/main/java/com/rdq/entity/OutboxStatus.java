@@ -0,0 +1,20 @@
+package com.rdq.entity;
+
+/**
+ * Statuts d'un message de la table d'outbox des notifications
+ */
+public enum OutboxStatus {
+    PENDING("En attente d'envoi"),
+    SENT("Envoyé"),
+    FAILED("En échec définitif");
+
+    private final String displayName;
+
+    OutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
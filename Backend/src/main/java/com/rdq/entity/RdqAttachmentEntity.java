@@ -0,0 +1,72 @@
+package com.rdq.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Métadonnées d'une pièce jointe de RDQ (CV, fiche de poste...)
+ * - Le contenu n'est pas en base : fichier du magasin AttachmentStore désigné par son empreinte SHA-256
+ * - Plusieurs pièces jointes de même contenu partagent le même fichier
+ * - Pièce jointe immuable : pas de date de modification
+ */
+@Entity
+@Table(name = "rdq_attachment")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqAttachmentEntity extends PanacheEntityBase {
+
+    public static final String ID_SEQUENCE = "rdq_attachment_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    public Long id;
+
+    @Column(name = "rdq_id", nullable = false)
+    @NotNull
+    public Long rdqId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    @NotNull
+    public AttachmentKind kind;
+
+    @Column(name = "file_name", nullable = false)
+    @NotBlank
+    @Size(max = 255)
+    public String fileName;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    @NotBlank
+    public String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    public long sizeBytes;
+
+    @Column(nullable = false, length = 64)
+    @NotNull
+    @Pattern(regexp = "[0-9a-f]{64}")
+    public String sha256;
+
+    @Column(name = "uploaded_by", nullable = false)
+    @NotNull
+    public Long uploadedBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public LocalDateTime createdAt;
+}
@@ -22,17 +22,33 @@ import java.time.LocalDateTime;
  * - Champs publics pour Panache
  * - Annotations Bean Validation pour sécurité OWASP A01
  * - Relations LAZY par défaut
+ * - Graphe d'entité nommé pour charger utilisateur et manager en une seule requête (évite le N+1)
  */
 @Entity
 @Table(name = "rdq")
+@NamedEntityGraph(
+    name = RdqEntity.GRAPH_WITH_USER_AND_MANAGER,
+    attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+    subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("manager"))
+)
 @Data
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RdqEntity extends PanacheEntityBase {
 
+    /**
+     * Séquence d'identifiants avec optimiseur pooled-lo : une valeur lue = un bloc de ID_ALLOCATION_SIZE ids,
+     * ce qui permet à Hibernate de regrouper les INSERT en lots JDBC (impossible avec IDENTITY)
+     */
+    public static final String ID_SEQUENCE = "rdq_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public static final String GRAPH_WITH_USER_AND_MANAGER = "RdqEntity.withUserAndManager";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     public Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,35 @@
+package com.rdq.entity;
+
+/**
+ * Axes des compteurs de statistiques RDQ (table rdq_statistics)
+ * - groupBy : chemin JPQL sur l'alias r (RdqEntity) utilisé par la réconciliation
+ * - USER : compteur par propriétaire, valeur = identifiant de l'utilisateur
+ */
+public enum RdqStatisticDimension {
+    STATUS("r.status"),
+    TYPE("r.type"),
+    PRIORITY("r.priority"),
+    USER("r.user.id");
+
+    private final String groupBy;
+
+    RdqStatisticDimension(String groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * Valeur de l'axe pour une RDQ (nom d'énumération ou identifiant)
+     */
+    public String valueOf(RdqEntity rdq) {
+        return switch (this) {
+            case STATUS -> rdq.status.name();
+            case TYPE -> rdq.type.name();
+            case PRIORITY -> rdq.priority.name();
+            case USER -> rdq.user.id.toString();
+        };
+    }
+}
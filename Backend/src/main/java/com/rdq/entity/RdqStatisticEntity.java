@@ -0,0 +1,60 @@
+package com.rdq.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Compteur de RDQ pour une valeur d'un axe (statut, type, priorité, propriétaire)
+ * - Mis à jour par RdqStatisticsService dans la transaction de la modification
+ * - Vérifié et corrigé périodiquement par RdqStatisticsReconciler
+ */
+@Entity
+@Table(name = "rdq_statistics")
+@IdClass(RdqStatisticEntity.Key.class)
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqStatisticEntity extends PanacheEntityBase {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    public RdqStatisticDimension dimension;
+
+    @Id
+    @Column(name = "dimension_value", nullable = false, length = 50)
+    public String dimensionValue;
+
+    @Column(name = "rdq_count", nullable = false)
+    public long rdqCount;
+
+    @Column(name = "updated_at", nullable = false)
+    public LocalDateTime updatedAt;
+
+    /**
+     * Clé composite (dimension, dimension_value)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable, Comparable<Key> {
+
+        private RdqStatisticDimension dimension;
+
+        private String dimensionValue;
+
+        @Override
+        public int compareTo(Key other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : dimensionValue.compareTo(other.dimensionValue);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.rdq.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Bloc reçu d'un envoi en plusieurs blocs (plage [startByte, startByte + lengthBytes[ du fichier)
+ * - Une ligne insérée par bloc écrit sur disque : des blocs envoyés en parallèle ne se disputent aucune ligne
+ * - Blocs renvoyés ou chevauchants acceptés : la couverture du fichier est calculée à la lecture
+ */
+@Entity
+@Table(name = "rdq_upload_chunk")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqUploadChunkEntity extends PanacheEntityBase {
+
+    public static final String ID_SEQUENCE = "rdq_upload_chunk_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    public Long id;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    @NotNull
+    public String sessionId;
+
+    @Column(name = "start_byte", nullable = false)
+    public long startByte;
+
+    @Column(name = "length_bytes", nullable = false)
+    public long lengthBytes;
+
+    @CreationTimestamp
+    @Column(name = "received_at", nullable = false, updatable = false)
+    public LocalDateTime receivedAt;
+}
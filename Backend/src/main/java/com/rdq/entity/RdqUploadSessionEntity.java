@@ -0,0 +1,64 @@
+package com.rdq.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Envoi en plusieurs blocs d'une pièce jointe, en cours
+ * - Identifiant UUID aléatoire, attribué à la création : l'URL d'envoi n'est pas devinable
+ * - Contenu reçu écrit dans un fichier partiel du magasin, blocs reçus enregistrés dans rdq_upload_chunk
+ * - Supprimé à la finalisation (pièce jointe créée), à l'abandon ou par la purge des envois inactifs
+ */
+@Entity
+@Table(name = "rdq_upload_session")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RdqUploadSessionEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(length = 36)
+    public String id;
+
+    @Column(name = "rdq_id", nullable = false)
+    @NotNull
+    public Long rdqId;
+
+    @Column(name = "user_id", nullable = false)
+    @NotNull
+    public Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    @NotNull
+    public AttachmentKind kind;
+
+    @Column(name = "file_name", nullable = false)
+    @NotBlank
+    @Size(max = 255)
+    public String fileName;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    @NotBlank
+    public String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    @Positive
+    public long sizeBytes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public LocalDateTime createdAt;
+}
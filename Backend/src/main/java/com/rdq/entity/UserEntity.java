@@ -23,17 +23,27 @@ import java.time.LocalDateTime;
  * - Annotations Bean Validation pour sécurité OWASP A01
  * - CreationTimestamp et UpdateTimestamp pour audit
  * - Relations LAZY par défaut
+ * - Cache de second niveau : lecture par ID et résolution du manager sans requête SQL
+ *   (mises à jour via entités managées, le cache est maintenu au commit)
  */
 @Entity
 @Table(name = "users")
+@Cacheable
 @Data
 @EqualsAndHashCode(callSuper = false)
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserEntity extends PanacheEntityBase {
 
+    /**
+     * Identifiants alloués par blocs, comme pour RdqEntity
+     */
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     public Long id;
 
     @Column(nullable = false, unique = true)
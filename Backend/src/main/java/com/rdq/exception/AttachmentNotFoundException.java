@@ -0,0 +1,10 @@
+package com.rdq.exception;
+
+/**
+ * Exception pour pièce jointe non trouvée (ou rattachée à une autre RDQ)
+ */
+public class AttachmentNotFoundException extends BusinessException {
+    public AttachmentNotFoundException(Long attachmentId) {
+        super("ATTACHMENT_NOT_FOUND", "Pièce jointe avec l'ID " + attachmentId + " non trouvée");
+    }
+}
@@ -0,0 +1,10 @@
+package com.rdq.exception;
+
+/**
+ * Exception levée quand le contenu reçu ne correspond pas à l'empreinte annoncée par le client
+ */
+public class ChecksumMismatchException extends BusinessException {
+    public ChecksumMismatchException() {
+        super("CHECKSUM_MISMATCH", "L'empreinte SHA-256 du fichier reçu ne correspond pas à celle annoncée");
+    }
+}
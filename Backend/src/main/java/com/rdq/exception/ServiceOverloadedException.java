@@ -0,0 +1,25 @@
+package com.rdq.exception;
+
+/**
+ * Exception levée quand une ressource bornée est saturée (réponse 503 rapide)
+ * - Hors de la hiérarchie BusinessException : jamais traduite en 400 par les endpoints,
+ *   toujours 503 avec Retry-After par ServiceOverloadedExceptionMapper
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public static final String CODE = "SERVICE_OVERLOADED";
+    
+    private final long retryAfterSeconds;
+    
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public String getCode() {
+        return CODE;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
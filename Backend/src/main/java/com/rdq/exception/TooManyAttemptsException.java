@@ -0,0 +1,17 @@
+package com.rdq.exception;
+
+/**
+ * Exception levée quand trop de tentatives de connexion sont détectées (réponse 429)
+ */
+public class TooManyAttemptsException extends BusinessException {
+    private final long retryAfterSeconds;
+    
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super("TOO_MANY_ATTEMPTS", message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,10 @@
+package com.rdq.exception;
+
+/**
+ * Exception pour envoi en plusieurs blocs inconnu, expiré ou appartenant à un autre utilisateur
+ */
+public class UploadNotFoundException extends BusinessException {
+    public UploadNotFoundException(String uploadId) {
+        super("UPLOAD_NOT_FOUND", "Envoi " + uploadId + " non trouvé ou expiré");
+    }
+}
@@ -0,0 +1,22 @@
+package com.rdq.mapper;
+
+import com.rdq.dto.RdqAttachmentDto;
+import com.rdq.entity.RdqAttachmentEntity;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper MapStruct des pièces jointes (lecture seule : les entités sont créées par RdqAttachmentService)
+ */
+@Mapper(
+    componentModel = "cdi",
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface RdqAttachmentMapper {
+
+    RdqAttachmentDto toDto(RdqAttachmentEntity entity);
+
+    List<RdqAttachmentDto> toDtoList(List<RdqAttachmentEntity> entities);
+}
@@ -1,6 +1,7 @@
 package com.rdq.mapper;
 
 import com.rdq.dto.RdqDto;
+import com.rdq.dto.RdqSummaryDto;
 import com.rdq.dto.CreateRdqDto;
 import com.rdq.dto.UpdateRdqDto;
 import com.rdq.entity.RdqEntity;
@@ -45,16 +46,20 @@ public interface RdqMapper {
     List<RdqDto> toDtoList(List<RdqEntity> entities);
     
     // Mise à jour partielle - ignorer les null et champs critiques
+    // Statut exclu : il ne change que par les transitions de RdqService (compteurs et événements)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "status", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(UpdateRdqDto dto, @MappingTarget RdqEntity entity);
     
-    // DTO simplifié pour listes
+    // DTO de synthèse pour listes (mêmes champs que la projection JPQL du repository)
     @Named("toSummaryDto")
-    @Mapping(source = "user", target = "userDto", qualifiedByName = "toSimpleDto")
-    @Mapping(target = "managerDto", ignore = true)
-    RdqDto toSummaryDto(RdqEntity entity);
+    @Mapping(source = "user.id", target = "userId")
+    @Mapping(source = "user.fullName", target = "userFullName")
+    @Mapping(source = "user.manager.id", target = "managerId")
+    @Mapping(source = "user.manager.fullName", target = "managerFullName")
+    RdqSummaryDto toSummaryDto(RdqEntity entity);
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.rdq.repository;
+
+import com.rdq.entity.NotificationOutboxEntity;
+import com.rdq.entity.OutboxStatus;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import org.hibernate.LockOptions;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository de l'outbox des notifications
+ * - Réclamation concurrente par SELECT ... FOR UPDATE SKIP LOCKED :
+ *   plusieurs instances peuvent dépiler sans se bloquer ni envoyer deux fois
+ * - Les méthodes doivent être appelées dans une transaction
+ */
+@ApplicationScoped
+public class NotificationOutboxRepository implements PanacheRepositoryBase<NotificationOutboxEntity, Long> {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    /**
+     * Réclame un lot de messages dus et pose un bail jusqu'à leaseUntil
+     * Le bail rend le lot invisible aux autres instances une fois le verrou relâché ;
+     * s'il expire (instance arrêtée en cours d'envoi), les messages sont repris.
+     */
+    public List<NotificationOutboxEntity> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int batchSize) {
+        List<NotificationOutboxEntity> due = find("status = ?1 AND nextAttemptAt <= ?2 ORDER BY nextAttemptAt, id",
+                                                  OutboxStatus.PENDING, now)
+                .page(0, batchSize)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .withHint(LOCK_TIMEOUT_HINT, LockOptions.SKIP_LOCKED)
+                .list();
+        due.forEach(message -> message.nextAttemptAt = leaseUntil);
+        return due;
+    }
+
+    /**
+     * Marque un lot de messages comme envoyés (une seule requête)
+     */
+    public int markSent(List<Long> ids, LocalDateTime sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return update("status = ?1, sentAt = ?2, lastError = null WHERE id IN ?3",
+                      OutboxStatus.SENT, sentAt, ids);
+    }
+
+    /**
+     * Enregistre un échec d'envoi et programme un nouvel essai
+     */
+    public int markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        return update("attempts = ?1, nextAttemptAt = ?2, lastError = ?3 WHERE id = ?4",
+                      attempts, nextAttemptAt, error, id);
+    }
+
+    /**
+     * Abandon définitif après épuisement des essais
+     */
+    public int markFailed(Long id, int attempts, String error) {
+        return update("status = ?1, attempts = ?2, lastError = ?3 WHERE id = ?4",
+                      OutboxStatus.FAILED, attempts, error, id);
+    }
+
+    /**
+     * Nombre de messages restant à envoyer
+     */
+    public long countPending() {
+        return count("status", OutboxStatus.PENDING);
+    }
+}
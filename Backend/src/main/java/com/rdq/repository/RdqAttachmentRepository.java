@@ -0,0 +1,23 @@
+package com.rdq.repository;
+
+import com.rdq.entity.RdqAttachmentEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+
+/**
+ * Repository des métadonnées de pièces jointes
+ * Toujours interrogé avec l'identifiant de la RDQ : les droits sont vérifiés sur la RDQ
+ */
+@ApplicationScoped
+public class RdqAttachmentRepository implements PanacheRepositoryBase<RdqAttachmentEntity, Long> {
+
+    public List<RdqAttachmentEntity> listByRdq(Long rdqId) {
+        return list("rdqId = ?1 ORDER BY createdAt, id", rdqId);
+    }
+
+    public RdqAttachmentEntity findByRdqAndId(Long rdqId, Long attachmentId) {
+        return find("rdqId = ?1 AND id = ?2", rdqId, attachmentId).firstResult();
+    }
+}
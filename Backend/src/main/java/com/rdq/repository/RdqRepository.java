@@ -1,24 +1,133 @@
 package com.rdq.repository;
 
+import com.rdq.dto.RdqExportDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqSummaryDto;
 import com.rdq.entity.RdqEntity;
 import com.rdq.entity.RdqStatus;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.panache.common.Page;
+import io.quarkus.runtime.StartupEvent;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import lombok.Value;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Repository pour RdqEntity selon les instructions Backend
  * - Requêtes paramétrées pour sécurité OWASP A01
  * - Pagination pour performance
+ * - Chargement de l'utilisateur et de son manager via graphe d'entité (pas de N+1 au mapping DTO)
+ * - Listes servies par projection de synthèse (RdqSummaryDto)
+ * - Recherche multicritère via RdqSearchCriteria : une requête précompilée par forme de filtre
+ * - Export parcouru par curseur en session sans état : mémoire constante quel que soit le volume
  */
 @ApplicationScoped
 public class RdqRepository implements PanacheRepositoryBase<RdqEntity, Long> {
 
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    /**
+     * Recherche plein texte PostgreSQL (colonne search_vector + index GIN)
+     * - La sous-requête classe et pagine sur le seul index
+     * - ts_headline, coûteux, n'est calculé que pour les lignes de la page
+     * - Visibilité : RDQ de l'utilisateur ou de son équipe s'il est manager
+     */
+    private static final String FULL_TEXT_PAGE_SQL = """
+            SELECT r.id, r.title, r.type, r.status, r.priority, r.created_at, r.updated_at,
+                   u.id, u.first_name, u.last_name, hit.rank,
+                   ts_headline('french', r.title, hit.query,
+                               'StartSel=<mark>, StopSel=</mark>, HighlightAll=true'),
+                   ts_headline('french', r.description, hit.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2')
+            FROM (
+                SELECT r2.id, r2.created_at, ts_rank_cd(r2.search_vector, q, 32) AS rank, q AS query
+                FROM rdq r2
+                JOIN users u2 ON u2.id = r2.user_id
+                CROSS JOIN websearch_to_tsquery('french', :term) q
+                WHERE r2.search_vector @@ q
+                  AND (r2.user_id = :viewerId OR u2.manager_id = :viewerId)
+                ORDER BY rank DESC, r2.created_at DESC, r2.id DESC
+                LIMIT :limit OFFSET :offset
+            ) hit
+            JOIN rdq r ON r.id = hit.id
+            JOIN users u ON u.id = r.user_id
+            ORDER BY hit.rank DESC, hit.created_at DESC, hit.id DESC
+            """;
+
+    private static final String FULL_TEXT_COUNT_SQL = """
+            SELECT count(*)
+            FROM rdq r
+            JOIN users u ON u.id = r.user_id
+            WHERE r.search_vector @@ websearch_to_tsquery('french', :term)
+              AND (r.user_id = :viewerId OR u.manager_id = :viewerId)
+            """;
+
+    /**
+     * Repli sans index plein texte (bases non PostgreSQL, ex. H2 en tests)
+     * - Les jokers % et _ saisis par l'utilisateur sont échappés (voir likePattern)
+     */
+    private static final char LIKE_ESCAPE = '!';
+    private static final String LIKE_FILTER = "FROM RdqEntity r JOIN r.user u LEFT JOIN u.manager m "
+            + "WHERE (LOWER(r.title) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "' "
+            + "OR LOWER(r.description) LIKE :pattern ESCAPE '" + LIKE_ESCAPE + "') "
+            + "AND (u.id = :viewerId OR m.id = :viewerId)";
+
+    /**
+     * Insertion directe pour l'import en masse : ni contexte de persistance ni relecture des lignes
+     */
+    private static final String INSERT_SQL = "INSERT INTO rdq (id, title, description, type, status, priority, user_id, "
+            + "requested_date, justification, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Inject
+    @ConfigProperty(name = "quarkus.datasource.db-kind")
+    String dbKind;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    /**
+     * Préchauffage du cache de plans HQL pour toutes les formes de recherche
+     */
+    @ActivateRequestContext
+    void warmUpSearchQueries(@Observes StartupEvent event) {
+        RdqSearchQueries.warmUp(getEntityManager());
+    }
+
+    /**
+     * Recherche par ID avec utilisateur et manager chargés dans la même requête
+     */
+    public RdqEntity findByIdWithUser(Long id) {
+        return getEntityManager().find(RdqEntity.class, id,
+                Map.of(FETCH_GRAPH_HINT, userAndManagerGraph()));
+    }
+
     /**
      * Recherche des RDQ par utilisateur et statut
      */
@@ -35,6 +144,61 @@ public class RdqRepository implements PanacheRepositoryBase<RdqEntity, Long> {
         return find("LOWER(title) LIKE ?1 OR LOWER(description) LIKE ?1", pattern).list();
     }
 
+    /**
+     * Recherche plein texte classée par pertinence, paginée et filtrée par visibilité
+     * OWASP A01 - Terme passé en paramètre lié, interprété par websearch_to_tsquery
+     */
+    @SuppressWarnings("unchecked")
+    public List<RdqSearchResultDto> searchFullText(String term, Long viewerId, int page, int size) {
+        if (!isPostgreSql()) {
+            return searchLike(term, viewerId, page, size);
+        }
+
+        List<Object[]> rows = getEntityManager().createNativeQuery(FULL_TEXT_PAGE_SQL)
+                .setParameter("term", term)
+                .setParameter("viewerId", viewerId)
+                .setParameter("limit", size)
+                .setParameter("offset", page * size)
+                .getResultList();
+
+        List<RdqSearchResultDto> results = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            results.add(RdqSearchResultDto.builder()
+                    .id(((Number) row[0]).longValue())
+                    .title((String) row[1])
+                    .type(RdqType.valueOf((String) row[2]))
+                    .status(RdqStatus.valueOf((String) row[3]))
+                    .priority(RdqPriority.valueOf((String) row[4]))
+                    .createdAt(toLocalDateTime(row[5]))
+                    .updatedAt(toLocalDateTime(row[6]))
+                    .userId(((Number) row[7]).longValue())
+                    .userFullName(row[8] + " " + row[9])
+                    .rank(((Number) row[10]).floatValue())
+                    .titleHighlight((String) row[11])
+                    .snippet((String) row[12])
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * Nombre total de résultats de la recherche plein texte
+     */
+    public long countFullText(String term, Long viewerId) {
+        if (!isPostgreSql()) {
+            return getEntityManager().createQuery("SELECT count(r) " + LIKE_FILTER, Long.class)
+                    .setParameter("pattern", likePattern(term))
+                    .setParameter("viewerId", viewerId)
+                    .getSingleResult();
+        }
+
+        Number count = (Number) getEntityManager().createNativeQuery(FULL_TEXT_COUNT_SQL)
+                .setParameter("term", term)
+                .setParameter("viewerId", viewerId)
+                .getSingleResult();
+        return count.longValue();
+    }
+
     /**
      * Recherche des RDQ urgentes en attente
      */
@@ -65,6 +229,111 @@ public class RdqRepository implements PanacheRepositoryBase<RdqEntity, Long> {
                 from.atStartOfDay(), to.atTime(23, 59, 59)).list();
     }
 
+    /**
+     * Synthèses triées par createdAt DESC, id DESC, sans comptage
+     * Sert la pagination par offset comme la pagination keyset (critère "after")
+     */
+    public List<RdqSummaryDto> findSummaries(RdqSearchCriteria criteria, int firstResult, int maxResults) {
+        TypedQuery<RdqSummaryDto> query = getEntityManager()
+                .createQuery(RdqSearchQueries.summaryPage(criteria.shape()), RdqSummaryDto.class);
+        RdqSearchFilter.bind(query, criteria);
+        return query.setFirstResult(firstResult)
+                    .setMaxResults(maxResults)
+                    .getResultList();
+    }
+
+    /**
+     * Page de synthèses et nombre total d'éléments en un seul aller-retour
+     * Le total est porté par chaque ligne via la fonction de fenêtrage count(*) over(),
+     * évaluée avant LIMIT/OFFSET : le prédicat n'est parcouru qu'une fois.
+     * Total inconnu (-1) si la page est vide, l'appelant décide alors d'un comptage explicite.
+     */
+    public SummaryPage findSummaryPageWithTotal(RdqSearchCriteria criteria, int page, int size) {
+        TypedQuery<Object[]> query = getEntityManager()
+                .createQuery(RdqSearchQueries.summaryPageWithTotal(criteria.shape()), Object[].class);
+        RdqSearchFilter.bind(query, criteria);
+        List<Object[]> rows = query.setFirstResult(page * size)
+                                   .setMaxResults(size)
+                                   .getResultList();
+
+        List<RdqSummaryDto> content = new ArrayList<>(rows.size());
+        long totalElements = -1;
+        for (Object[] row : rows) {
+            content.add(new RdqSummaryDto(
+                    (Long) row[0], (String) row[1], (RdqType) row[2], (RdqStatus) row[3],
+                    (RdqPriority) row[4], (LocalDate) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7],
+                    (Long) row[8], (String) row[9], (Long) row[10], (String) row[11]));
+            totalElements = ((Number) row[12]).longValue();
+        }
+        return new SummaryPage(content, totalElements);
+    }
+
+    /**
+     * Comptage des RDQ correspondant aux critères
+     */
+    public long countMatching(RdqSearchCriteria criteria) {
+        TypedQuery<Long> query = getEntityManager()
+                .createQuery(RdqSearchQueries.count(criteria.shape()), Long.class);
+        RdqSearchFilter.bind(query, criteria);
+        return query.getSingleResult();
+    }
+
+    /**
+     * Horodatages d'une RDQ, de son propriétaire et du manager de celui-ci, sans chargement d'entité
+     * Retourne null si la RDQ n'existe pas
+     */
+    public RdqVersion findVersion(Long id) {
+        List<Object[]> rows = getEntityManager().createQuery(
+                        "SELECT u.id, m.id, r.updatedAt, u.updatedAt, m.updatedAt "
+                        + "FROM RdqEntity r JOIN r.user u LEFT JOIN u.manager m WHERE r.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new RdqVersion((Long) row[0], (Long) row[1], (LocalDateTime) row[2],
+                              (LocalDateTime) row[3], (LocalDateTime) row[4]);
+    }
+
+    /**
+     * Version des RDQ correspondant aux critères : nombre et dernières modifications, en une agrégation
+     */
+    public ListVersion findListVersion(RdqSearchCriteria criteria) {
+        TypedQuery<Object[]> query = getEntityManager()
+                .createQuery(RdqSearchQueries.version(criteria.shape()), Object[].class);
+        RdqSearchFilter.bind(query, criteria);
+        Object[] row = query.getSingleResult();
+        return new ListVersion(((Number) row[0]).longValue(), (LocalDateTime) row[1],
+                               (LocalDateTime) row[2], (LocalDateTime) row[3]);
+    }
+
+    /**
+     * Parcours des lignes d'export correspondant aux critères, dans l'ordre de la liste (createdAt DESC, id DESC)
+     * - Session sans état : ni contexte de persistance ni cache, chaque ligne est libérée après consumer
+     * - Curseur FORWARD_ONLY lu par paquets de fetchSize lignes ; sur PostgreSQL le pilote ne
+     *   matérialise pas le résultat car la connexion est hors auto-commit (transaction requise)
+     * Retourne le nombre de lignes parcourues
+     */
+    public long scrollExport(RdqSearchCriteria criteria, int fetchSize, Consumer<RdqExportDto> consumer) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Query<RdqExportDto> query = session.createQuery(RdqSearchQueries.export(criteria.shape()),
+                                                            RdqExportDto.class);
+            RdqSearchFilter.bind(query, criteria);
+            query.setFetchSize(fetchSize)
+                 .setReadOnly(true);
+
+            long count = 0;
+            try (ScrollableResults<RdqExportDto> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (rows.next()) {
+                    consumer.accept(rows.get());
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
     /**
      * RDQ d'un utilisateur modifiables
      */
@@ -72,4 +341,200 @@ public class RdqRepository implements PanacheRepositoryBase<RdqEntity, Long> {
         return find("user.id = ?1 AND (status = ?2 OR status = ?3)", 
                 userId, RdqStatus.DRAFT, RdqStatus.PENDING_INFO).list();
     }
+
+    /**
+     * Candidats d'une décision groupée en une requête ensembliste, verrouillés jusqu'à la fin de la transaction
+     * - Statut, propriétaire et son manager, données de notification (aucun chargement d'entité)
+     * - Verrous pris dans l'ordre des identifiants : pas d'interblocage entre décisions concurrentes
+     * - Les identifiants inexistants sont absents du résultat
+     */
+    public List<DecisionCandidate> lockDecisionCandidates(Collection<Long> ids) {
+        List<Object[]> rows = getEntityManager().createQuery(
+                        "SELECT r.id, r.status, u.id, u.manager.id, r.title, u.email "
+                        + "FROM RdqEntity r JOIN r.user u WHERE r.id IN :ids ORDER BY r.id", Object[].class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+
+        List<DecisionCandidate> candidates = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            candidates.add(new DecisionCandidate((Long) row[0], (RdqStatus) row[1], (Long) row[2],
+                                                 (Long) row[3], (String) row[4], (String) row[5]));
+        }
+        return candidates;
+    }
+
+    /**
+     * Décision appliquée en une instruction aux RDQ soumises parmi ids
+     * (UPDATE HQL : @UpdateTimestamp n'est pas appliqué, updatedAt est renseigné ici)
+     */
+    public int applyDecision(Collection<Long> ids, RdqStatus status, String comment, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return update("status = ?1, managerComment = ?2, updatedAt = ?3 WHERE id IN ?4 AND status = ?5",
+                      status, comment, now, ids, RdqStatus.SUBMITTED);
+    }
+
+    /**
+     * Insertion de RDQ par lots JDBC de batchSize lignes, dans la transaction courante
+     * - Les entités ne sont ni gérées ni relues ; user ne porte que son id
+     * - Identifiants réservés par blocs sur la séquence, comme l'optimiseur pooled-lo de Hibernate
+     * - PostgreSQL : reWriteBatchedInserts=true dans l'URL JDBC regroupe chaque lot en un INSERT multi-lignes
+     */
+    public void insertBatch(List<RdqEntity> rdqs, int batchSize) {
+        if (rdqs.isEmpty()) {
+            return;
+        }
+        SessionImplementor session = getEntityManager().unwrap(SessionImplementor.class);
+        String nextBlockSql = session.getFactory().getJdbcServices().getDialect()
+                .getSequenceSupport().getSequenceNextValString(RdqEntity.ID_SEQUENCE);
+
+        session.doWork(connection -> {
+            try (PreparedStatement nextBlock = connection.prepareStatement(nextBlockSql);
+                 PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                long nextId = 0;
+                int remainingInBlock = 0;
+                int pending = 0;
+                for (RdqEntity rdq : rdqs) {
+                    if (remainingInBlock == 0) {
+                        nextId = nextBlockStart(nextBlock);
+                        remainingInBlock = RdqEntity.ID_ALLOCATION_SIZE;
+                    }
+                    rdq.id = nextId++;
+                    remainingInBlock--;
+
+                    statement.setLong(1, rdq.id);
+                    statement.setString(2, rdq.title);
+                    statement.setString(3, rdq.description);
+                    statement.setString(4, rdq.type.name());
+                    statement.setString(5, rdq.status.name());
+                    statement.setString(6, rdq.priority.name());
+                    statement.setLong(7, rdq.user.id);
+                    statement.setObject(8, rdq.requestedDate);
+                    statement.setString(9, rdq.justification);
+                    statement.setObject(10, rdq.createdAt);
+                    statement.setObject(11, rdq.updatedAt);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    private List<RdqSearchResultDto> searchLike(String term, Long viewerId, int page, int size) {
+        List<Object[]> rows = getEntityManager().createQuery(
+                        "SELECT r.id, r.title, r.type, r.status, r.priority, r.createdAt, r.updatedAt, "
+                        + "u.id, u.firstName, u.lastName " + LIKE_FILTER
+                        + " ORDER BY r.createdAt DESC, r.id DESC", Object[].class)
+                .setParameter("pattern", likePattern(term))
+                .setParameter("viewerId", viewerId)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+
+        List<RdqSearchResultDto> results = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            results.add(RdqSearchResultDto.builder()
+                    .id((Long) row[0])
+                    .title((String) row[1])
+                    .type((RdqType) row[2])
+                    .status((RdqStatus) row[3])
+                    .priority((RdqPriority) row[4])
+                    .createdAt((LocalDateTime) row[5])
+                    .updatedAt((LocalDateTime) row[6])
+                    .userId((Long) row[7])
+                    .userFullName(row[8] + " " + row[9])
+                    .titleHighlight((String) row[1])
+                    .build());
+        }
+        return results;
+    }
+
+    private static long nextBlockStart(PreparedStatement nextBlock) throws SQLException {
+        try (ResultSet resultSet = nextBlock.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private boolean isPostgreSql() {
+        return "postgresql".equals(dbKind);
+    }
+
+    /**
+     * Motif "contient" : le terme est recherché littéralement, jokers compris
+     */
+    static String likePattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (char c : term.toLowerCase().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private EntityGraph<?> userAndManagerGraph() {
+        return getEntityManager().getEntityGraph(RdqEntity.GRAPH_WITH_USER_AND_MANAGER);
+    }
+
+    /**
+     * RDQ visée par une décision groupée : état courant, destinataires de la notification et des événements
+     */
+    @Value
+    public static class DecisionCandidate {
+        Long id;
+        RdqStatus status;
+        Long ownerId;
+        Long ownerManagerId;
+        String title;
+        String ownerEmail;
+    }
+
+    /**
+     * Version d'une RDQ : propriétaire et manager pour le contrôle d'accès, horodatages de la représentation
+     */
+    @Value
+    public static class RdqVersion {
+        Long ownerId;
+        Long ownerManagerId;
+        LocalDateTime updatedAt;
+        LocalDateTime ownerUpdatedAt;
+        LocalDateTime ownerManagerUpdatedAt;
+    }
+
+    /**
+     * Version d'une liste de RDQ (horodatages null si aucune ligne)
+     */
+    @Value
+    public static class ListVersion {
+        long count;
+        LocalDateTime updatedAt;
+        LocalDateTime ownerUpdatedAt;
+        LocalDateTime ownerManagerUpdatedAt;
+    }
+
+    /**
+     * Page de synthèses accompagnée du nombre total d'éléments (-1 si inconnu)
+     */
+    @Value
+    public static class SummaryPage {
+        List<RdqSummaryDto> content;
+        long totalElements;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.rdq.repository;
+
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.util.KeysetCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Critères de recherche des RDQ
+ * - Objet immuable construit par le service à partir des paramètres de requête
+ * - La combinaison des critères renseignés forme une "forme" (masque de bits)
+ *   qui identifie la requête JPQL précompilée à utiliser
+ */
+@Getter
+@Builder
+public class RdqSearchCriteria {
+
+    private final Long userId;
+
+    /**
+     * Manager dont l'équipe est visible : ses propres RDQ et celles de ses collaborateurs directs
+     */
+    private final Long teamOf;
+
+    private final RdqStatus status;
+
+    private final RdqType type;
+
+    private final RdqPriority priority;
+
+    private final LocalDate dateFrom;
+
+    private final LocalDate dateTo;
+
+    /**
+     * Position de départ pour la pagination keyset (null pour la première page)
+     */
+    private final KeysetCursor after;
+
+    /**
+     * Masque de bits des filtres actifs (voir RdqSearchFilter)
+     */
+    public int shape() {
+        int shape = 0;
+        for (RdqSearchFilter filter : RdqSearchFilter.VALUES) {
+            if (filter.isActive(this)) {
+                shape |= filter.bit();
+            }
+        }
+        return shape;
+    }
+}
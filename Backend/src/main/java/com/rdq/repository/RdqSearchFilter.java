@@ -0,0 +1,101 @@
+package com.rdq.repository;
+
+import jakarta.persistence.Query;
+
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Filtres de recherche des RDQ - point unique d'ajout d'un nouveau critère
+ * - Chaque filtre occupe un bit du masque de forme (1 << ordinal)
+ * - Le fragment JPQL est exprimé sur l'alias r (RdqEntity) avec des paramètres nommés
+ * - Ajouter un filtre : une constante ici et un champ dans RdqSearchCriteria
+ */
+public enum RdqSearchFilter {
+
+    USER("r.user.id = :userId",
+         c -> c.getUserId() != null,
+         (q, c) -> q.setParameter("userId", c.getUserId())),
+
+    TEAM("(r.user.id = :teamOf OR r.user.manager.id = :teamOf)",
+         c -> c.getTeamOf() != null,
+         (q, c) -> q.setParameter("teamOf", c.getTeamOf())),
+
+    STATUS("r.status = :status",
+           c -> c.getStatus() != null,
+           (q, c) -> q.setParameter("status", c.getStatus())),
+
+    TYPE("r.type = :type",
+         c -> c.getType() != null,
+         (q, c) -> q.setParameter("type", c.getType())),
+
+    PRIORITY("r.priority = :priority",
+             c -> c.getPriority() != null,
+             (q, c) -> q.setParameter("priority", c.getPriority())),
+
+    DATE_FROM("r.createdAt >= :dateFrom",
+              c -> c.getDateFrom() != null,
+              (q, c) -> q.setParameter("dateFrom", c.getDateFrom().atStartOfDay())),
+
+    DATE_TO("r.createdAt <= :dateTo",
+            c -> c.getDateTo() != null,
+            (q, c) -> q.setParameter("dateTo", c.getDateTo().atTime(23, 59, 59))),
+
+    /**
+     * Pagination keyset : position strictement après le curseur (tri createdAt DESC, id DESC)
+     */
+    AFTER("(r.createdAt < :afterCreatedAt OR (r.createdAt = :afterCreatedAt AND r.id < :afterId))",
+          c -> c.getAfter() != null,
+          (q, c) -> q.setParameter("afterCreatedAt", c.getAfter().getCreatedAt())
+                     .setParameter("afterId", c.getAfter().getId()));
+
+    static final RdqSearchFilter[] VALUES = values();
+
+    /**
+     * Nombre de formes possibles (toutes les combinaisons de filtres)
+     */
+    static final int SHAPE_COUNT = 1 << VALUES.length;
+
+    private final String jpql;
+    private final Predicate<RdqSearchCriteria> active;
+    private final BiConsumer<Query, RdqSearchCriteria> binder;
+
+    RdqSearchFilter(String jpql, Predicate<RdqSearchCriteria> active,
+                    BiConsumer<Query, RdqSearchCriteria> binder) {
+        this.jpql = jpql;
+        this.active = active;
+        this.binder = binder;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    boolean isActive(RdqSearchCriteria criteria) {
+        return active.test(criteria);
+    }
+
+    /**
+     * Liaison des paramètres de tous les filtres actifs de la forme
+     */
+    static void bind(Query query, RdqSearchCriteria criteria) {
+        for (RdqSearchFilter filter : VALUES) {
+            if (filter.isActive(criteria)) {
+                filter.binder.accept(query, criteria);
+            }
+        }
+    }
+
+    /**
+     * Clause WHERE d'une forme (sans le mot-clé WHERE)
+     */
+    static String where(int shape) {
+        StringBuilder where = new StringBuilder("1=1");
+        for (RdqSearchFilter filter : VALUES) {
+            if ((shape & filter.bit()) != 0) {
+                where.append(" AND ").append(filter.jpql);
+            }
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rdq.repository;
+
+import com.rdq.dto.RdqExportDto;
+import com.rdq.dto.RdqSummaryDto;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Requêtes JPQL de recherche des RDQ, une par forme de filtre et par usage
+ * - Toutes les chaînes sont construites une seule fois, indexées par masque de bits :
+ *   aucune construction de chaîne par requête HTTP
+ * - Une chaîne stable par forme garantit un succès du cache de plans Hibernate
+ *   (clé = texte HQL), préchauffé au démarrage par warmUp
+ */
+final class RdqSearchQueries {
+
+    /**
+     * Projection de synthèse pour les listes : ni entité ni colonnes TEXT chargées
+     * Les filtres sont exprimés sur l'alias r (RdqEntity), u (utilisateur) et m (manager)
+     */
+    static final String SUMMARY_COLUMNS =
+            "r.id, r.title, r.type, r.status, r.priority, r.requestedDate, r.createdAt, r.updatedAt, "
+            + "u.id, concat(u.firstName, ' ', u.lastName), m.id, concat(m.firstName, ' ', m.lastName)";
+
+    /**
+     * Ligne d'export : synthèse complétée des colonnes TEXT et de l'email du propriétaire
+     */
+    static final String EXPORT_COLUMNS =
+            "r.id, r.title, r.description, r.type, r.status, r.priority, r.requestedDate, r.justification, "
+            + "r.managerComment, r.createdAt, r.updatedAt, u.id, u.email, concat(u.firstName, ' ', u.lastName), "
+            + "concat(m.firstName, ' ', m.lastName)";
+
+    private static final String SUMMARY_FROM = " FROM RdqEntity r JOIN r.user u LEFT JOIN u.manager m WHERE ";
+
+    private static final String ORDER_BY = " ORDER BY r.createdAt DESC, r.id DESC";
+
+    private static final String[] SUMMARY_PAGE = new String[RdqSearchFilter.SHAPE_COUNT];
+    private static final String[] SUMMARY_PAGE_WITH_TOTAL = new String[RdqSearchFilter.SHAPE_COUNT];
+    private static final String[] COUNT = new String[RdqSearchFilter.SHAPE_COUNT];
+    private static final String[] EXPORT = new String[RdqSearchFilter.SHAPE_COUNT];
+    private static final String[] VERSION = new String[RdqSearchFilter.SHAPE_COUNT];
+
+    static {
+        for (int shape = 0; shape < RdqSearchFilter.SHAPE_COUNT; shape++) {
+            String where = RdqSearchFilter.where(shape);
+            SUMMARY_PAGE[shape] = "SELECT new com.rdq.dto.RdqSummaryDto(" + SUMMARY_COLUMNS + ")"
+                    + SUMMARY_FROM + where + ORDER_BY;
+            SUMMARY_PAGE_WITH_TOTAL[shape] = "SELECT " + SUMMARY_COLUMNS + ", count(*) over()"
+                    + SUMMARY_FROM + where + ORDER_BY;
+            COUNT[shape] = "SELECT count(r) FROM RdqEntity r WHERE " + where;
+            EXPORT[shape] = "SELECT new com.rdq.dto.RdqExportDto(" + EXPORT_COLUMNS + ")"
+                    + SUMMARY_FROM + where + ORDER_BY;
+            VERSION[shape] = "SELECT count(r), max(r.updatedAt), max(u.updatedAt), max(m.updatedAt)"
+                    + SUMMARY_FROM + where;
+        }
+    }
+
+    private RdqSearchQueries() {
+    }
+
+    /**
+     * Page de synthèses (SELECT new RdqSummaryDto), utilisée aussi pour la pagination keyset
+     */
+    static String summaryPage(int shape) {
+        return SUMMARY_PAGE[shape];
+    }
+
+    /**
+     * Page de synthèses avec total en colonne de fenêtrage (tuple Object[])
+     */
+    static String summaryPageWithTotal(int shape) {
+        return SUMMARY_PAGE_WITH_TOTAL[shape];
+    }
+
+    static String count(int shape) {
+        return COUNT[shape];
+    }
+
+    /**
+     * Lignes d'export (SELECT new RdqExportDto), parcourues par curseur sans pagination
+     */
+    static String export(int shape) {
+        return EXPORT[shape];
+    }
+
+    /**
+     * Version d'une liste : nombre de lignes et dernières modifications des RDQ et des utilisateurs affichés
+     */
+    static String version(int shape) {
+        return VERSION[shape];
+    }
+
+    /**
+     * Analyse de toutes les formes pour peupler le cache d'interprétation HQL
+     * avant le premier appel (création des requêtes sans exécution)
+     */
+    static void warmUp(EntityManager entityManager) {
+        for (int shape = 0; shape < RdqSearchFilter.SHAPE_COUNT; shape++) {
+            entityManager.createQuery(SUMMARY_PAGE[shape], RdqSummaryDto.class);
+            entityManager.createQuery(SUMMARY_PAGE_WITH_TOTAL[shape], Object[].class);
+            entityManager.createQuery(COUNT[shape], Long.class);
+            entityManager.createQuery(EXPORT[shape], RdqExportDto.class);
+            entityManager.createQuery(VERSION[shape], Object[].class);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.rdq.repository;
+
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.RdqStatisticEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository des compteurs de statistiques RDQ
+ * - Incrément par upsert atomique : aucune lecture préalable, création de la ligne au besoin
+ * - Lecture de tous les compteurs globaux en une requête sur la clé primaire
+ * - Les méthodes doivent être appelées dans une transaction
+ */
+@ApplicationScoped
+public class RdqStatisticsRepository implements PanacheRepositoryBase<RdqStatisticEntity, RdqStatisticEntity.Key> {
+
+    private static final String UPSERT_POSTGRESQL_SQL = """
+            INSERT INTO rdq_statistics (dimension, dimension_value, rdq_count, updated_at)
+            VALUES (:dimension, :value, :delta, :now)
+            ON CONFLICT (dimension, dimension_value)
+            DO UPDATE SET rdq_count = rdq_statistics.rdq_count + EXCLUDED.rdq_count,
+                          updated_at = EXCLUDED.updated_at
+            """;
+
+    /**
+     * Repli en MERGE standard (bases non PostgreSQL, ex. H2 en tests)
+     */
+    private static final String UPSERT_MERGE_SQL = """
+            MERGE INTO rdq_statistics s
+            USING (SELECT CAST(:dimension AS VARCHAR(20)) AS dimension,
+                          CAST(:value AS VARCHAR(50)) AS dimension_value) k
+            ON s.dimension = k.dimension AND s.dimension_value = k.dimension_value
+            WHEN MATCHED THEN UPDATE SET rdq_count = s.rdq_count + :delta, updated_at = :now
+            WHEN NOT MATCHED THEN INSERT (dimension, dimension_value, rdq_count, updated_at)
+                                  VALUES (k.dimension, k.dimension_value, :delta, :now)
+            """;
+
+    /**
+     * Valeur absolue (réconciliation) : remplace le compteur au lieu de l'incrémenter
+     */
+    private static final String SET_POSTGRESQL_SQL = """
+            INSERT INTO rdq_statistics (dimension, dimension_value, rdq_count, updated_at)
+            VALUES (:dimension, :value, :count, :now)
+            ON CONFLICT (dimension, dimension_value)
+            DO UPDATE SET rdq_count = EXCLUDED.rdq_count,
+                          updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String SET_MERGE_SQL = """
+            MERGE INTO rdq_statistics s
+            USING (SELECT CAST(:dimension AS VARCHAR(20)) AS dimension,
+                          CAST(:value AS VARCHAR(50)) AS dimension_value) k
+            ON s.dimension = k.dimension AND s.dimension_value = k.dimension_value
+            WHEN MATCHED THEN UPDATE SET rdq_count = :count, updated_at = :now
+            WHEN NOT MATCHED THEN INSERT (dimension, dimension_value, rdq_count, updated_at)
+                                  VALUES (k.dimension, k.dimension_value, :count, :now)
+            """;
+
+    @Inject
+    @ConfigProperty(name = "quarkus.datasource.db-kind")
+    String dbKind;
+
+    /**
+     * Ajoute delta au compteur (dimension, value), créé à delta s'il n'existe pas
+     */
+    public void increment(RdqStatisticDimension dimension, String value, long delta, LocalDateTime now) {
+        getEntityManager().createNativeQuery(isPostgreSql() ? UPSERT_POSTGRESQL_SQL : UPSERT_MERGE_SQL)
+                .setParameter("dimension", dimension.name())
+                .setParameter("value", value)
+                .setParameter("delta", delta)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    /**
+     * Fixe le compteur (dimension, value) à count, qu'il existe ou non
+     * Sans effet cumulatif : une ligne créée entre-temps par une autre transaction n'est pas comptée deux fois
+     */
+    public void set(RdqStatisticDimension dimension, String value, long count, LocalDateTime now) {
+        getEntityManager().createNativeQuery(isPostgreSql() ? SET_POSTGRESQL_SQL : SET_MERGE_SQL)
+                .setParameter("dimension", dimension.name())
+                .setParameter("value", value)
+                .setParameter("count", count)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    /**
+     * Compteurs globaux (statut, type, priorité) et compteur du propriétaire userId
+     */
+    public List<RdqStatisticEntity> findGlobalAndUser(Long userId) {
+        return list("dimension <> ?1 OR dimensionValue = ?2",
+                    RdqStatisticDimension.USER, userId.toString());
+    }
+
+    /**
+     * Compteurs d'un axe verrouillés en écriture : les transactions qui modifient ces compteurs
+     * attendent la fin de la réconciliation
+     */
+    public List<RdqStatisticEntity> lockDimension(RdqStatisticDimension dimension) {
+        return find("dimension = ?1 ORDER BY dimensionValue", dimension)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .list();
+    }
+
+    /**
+     * Comptage réel des RDQ par valeur d'un axe (référence de la réconciliation)
+     */
+    public Map<String, Long> countRdqGroupedBy(RdqStatisticDimension dimension) {
+        String groupBy = dimension.getGroupBy();
+        List<Object[]> rows = getEntityManager()
+                .createQuery("SELECT " + groupBy + ", count(r) FROM RdqEntity r GROUP BY " + groupBy, Object[].class)
+                .getResultList();
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            Object value = row[0];
+            counts.put(value instanceof Enum<?> constant ? constant.name() : value.toString(), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private boolean isPostgreSql() {
+        return "postgresql".equals(dbKind);
+    }
+}
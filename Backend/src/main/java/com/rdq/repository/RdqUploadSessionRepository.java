@@ -0,0 +1,63 @@
+package com.rdq.repository;
+
+import com.rdq.entity.RdqUploadChunkEntity;
+import com.rdq.entity.RdqUploadSessionEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository des envois en plusieurs blocs et de leurs blocs reçus
+ * Les méthodes d'écriture doivent être appelées dans une transaction
+ */
+@ApplicationScoped
+public class RdqUploadSessionRepository implements PanacheRepositoryBase<RdqUploadSessionEntity, String> {
+
+    public long countByUser(Long userId) {
+        return count("userId", userId);
+    }
+
+    /**
+     * Enregistrement d'un bloc écrit sur disque (insertion seule)
+     */
+    public void addChunk(String sessionId, long startByte, long lengthBytes) {
+        RdqUploadChunkEntity chunk = new RdqUploadChunkEntity();
+        chunk.sessionId = sessionId;
+        chunk.startByte = startByte;
+        chunk.lengthBytes = lengthBytes;
+        getEntityManager().persist(chunk);
+    }
+
+    /**
+     * Blocs reçus d'un envoi, par position croissante : [startByte, lengthBytes]
+     */
+    public List<long[]> findChunks(String sessionId) {
+        return getEntityManager().createQuery(
+                        "SELECT c.startByte, c.lengthBytes FROM RdqUploadChunkEntity c "
+                        + "WHERE c.sessionId = :sessionId ORDER BY c.startByte", Object[].class)
+                .setParameter("sessionId", sessionId)
+                .getResultStream()
+                .map(row -> new long[] {(Long) row[0], (Long) row[1]})
+                .toList();
+    }
+
+    public List<String> findIdsCreatedBefore(LocalDateTime cutoff) {
+        return getEntityManager().createQuery(
+                        "SELECT s.id FROM RdqUploadSessionEntity s WHERE s.createdAt < :cutoff", String.class)
+                .setParameter("cutoff", cutoff)
+                .getResultList();
+    }
+
+    /**
+     * Suppression d'un envoi et de ses blocs (sans dépendre de la cascade de la clé étrangère)
+     * Retourne false si l'envoi n'existait plus (déjà finalisé, abandonné ou purgé)
+     */
+    public boolean deleteWithChunks(String sessionId) {
+        getEntityManager().createQuery("DELETE FROM RdqUploadChunkEntity c WHERE c.sessionId = :sessionId")
+                .setParameter("sessionId", sessionId)
+                .executeUpdate();
+        return delete("id", sessionId) > 0;
+    }
+}
@@ -0,0 +1,254 @@
+package com.rdq.repository;
+
+import com.rdq.dto.RdqDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqSummaryDto;
+import com.rdq.dto.UserDto;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserRole;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repository réactif des RDQ (lectures uniquement)
+ * - Client SQL Vert.x non bloquant sur la même base PostgreSQL que le repository JPA
+ * - Requêtes SQL préparées ($n), mêmes projections que RdqRepository
+ * - Désactivé au build par rdq.reactive.enabled=false (profil test sur H2, sans client réactif)
+ */
+@ApplicationScoped
+@IfBuildProperty(name = ReactiveRdqRepository.REACTIVE_PROPERTY, stringValue = "true", enableIfMissing = true)
+public class ReactiveRdqRepository {
+
+    /** Propriété de build : false exclut le repository, le service et les endpoints /api/reactive/rdq */
+    public static final String REACTIVE_PROPERTY = "rdq.reactive.enabled";
+
+    /**
+     * Page de synthèses d'un utilisateur avec total en colonne de fenêtrage
+     */
+    private static final String SUMMARY_PAGE_SQL = """
+            SELECT r.id, r.title, r.type, r.status, r.priority, r.requested_date, r.created_at, r.updated_at,
+                   u.id AS user_id, u.first_name || ' ' || u.last_name AS user_full_name,
+                   m.id AS manager_id, m.first_name || ' ' || m.last_name AS manager_full_name,
+                   count(*) OVER () AS total
+            FROM rdq r
+            JOIN users u ON u.id = r.user_id
+            LEFT JOIN users m ON m.id = u.manager_id
+            WHERE r.user_id = $1
+              AND ($2::varchar IS NULL OR r.status = $2)
+            ORDER BY r.created_at DESC, r.id DESC
+            LIMIT $3 OFFSET $4
+            """;
+
+    private static final String SUMMARY_COUNT_SQL = """
+            SELECT count(*) FROM rdq r WHERE r.user_id = $1 AND ($2::varchar IS NULL OR r.status = $2)
+            """;
+
+    /**
+     * Version de la liste d'un utilisateur : même agrégation que RdqRepository.findListVersion
+     */
+    private static final String LIST_VERSION_SQL = """
+            SELECT count(*) AS total, max(r.updated_at) AS updated_at, max(u.updated_at) AS owner_updated_at,
+                   max(m.updated_at) AS owner_manager_updated_at
+            FROM rdq r
+            JOIN users u ON u.id = r.user_id
+            LEFT JOIN users m ON m.id = u.manager_id
+            WHERE r.user_id = $1
+              AND ($2::varchar IS NULL OR r.status = $2)
+            """;
+
+    /**
+     * RDQ complète avec utilisateur et manager en une requête
+     */
+    private static final String BY_ID_SQL = """
+            SELECT r.id, r.title, r.description, r.type, r.status, r.priority, r.requested_date,
+                   r.justification, r.manager_comment, r.created_at, r.updated_at,
+                   u.id AS user_id, u.email AS user_email, u.first_name AS user_first_name,
+                   u.last_name AS user_last_name, u.role AS user_role,
+                   m.id AS manager_id, m.email AS manager_email, m.first_name AS manager_first_name,
+                   m.last_name AS manager_last_name, m.role AS manager_role
+            FROM rdq r
+            JOIN users u ON u.id = r.user_id
+            LEFT JOIN users m ON m.id = u.manager_id
+            WHERE r.id = $1
+            """;
+
+    /**
+     * Recherche plein texte, identique à RdqRepository (classement puis ts_headline sur la page)
+     */
+    private static final String FULL_TEXT_PAGE_SQL = """
+            SELECT r.id, r.title, r.type, r.status, r.priority, r.created_at, r.updated_at,
+                   u.id AS user_id, u.first_name || ' ' || u.last_name AS user_full_name, hit.rank,
+                   ts_headline('french', r.title, hit.query,
+                               'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS title_highlight,
+                   ts_headline('french', r.description, hit.query,
+                               'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2') AS snippet
+            FROM (
+                SELECT r2.id, r2.created_at, ts_rank_cd(r2.search_vector, q, 32) AS rank, q AS query
+                FROM rdq r2
+                JOIN users u2 ON u2.id = r2.user_id
+                CROSS JOIN websearch_to_tsquery('french', $1) q
+                WHERE r2.search_vector @@ q
+                  AND (r2.user_id = $2 OR u2.manager_id = $2)
+                ORDER BY rank DESC, r2.created_at DESC, r2.id DESC
+                LIMIT $3 OFFSET $4
+            ) hit
+            JOIN rdq r ON r.id = hit.id
+            JOIN users u ON u.id = r.user_id
+            ORDER BY hit.rank DESC, hit.created_at DESC, hit.id DESC
+            """;
+
+    private static final String FULL_TEXT_COUNT_SQL = """
+            SELECT count(*)
+            FROM rdq r
+            JOIN users u ON u.id = r.user_id
+            WHERE r.search_vector @@ websearch_to_tsquery('french', $1)
+              AND (r.user_id = $2 OR u.manager_id = $2)
+            """;
+
+    @Inject
+    PgPool client;
+
+    /**
+     * Page de synthèses d'un utilisateur ; total -1 si la page est vide
+     */
+    public Uni<RdqRepository.SummaryPage> findUserSummaryPage(Long userId, RdqStatus status, int page, int size) {
+        return client.preparedQuery(SUMMARY_PAGE_SQL)
+                .execute(Tuple.of(userId, status != null ? status.name() : null, size, page * size))
+                .map(rows -> {
+                    List<RdqSummaryDto> content = new ArrayList<>(rows.size());
+                    long totalElements = -1;
+                    for (Row row : rows) {
+                        content.add(toSummaryDto(row));
+                        totalElements = row.getLong("total");
+                    }
+                    return new RdqRepository.SummaryPage(content, totalElements);
+                });
+    }
+
+    public Uni<Long> countUserRdqs(Long userId, RdqStatus status) {
+        return client.preparedQuery(SUMMARY_COUNT_SQL)
+                .execute(Tuple.of(userId, status != null ? status.name() : null))
+                .map(ReactiveRdqRepository::singleCount);
+    }
+
+    /**
+     * Nombre et dernières modifications des RDQ d'un utilisateur (requêtes conditionnelles)
+     */
+    public Uni<RdqRepository.ListVersion> findUserListVersion(Long userId, RdqStatus status) {
+        return client.preparedQuery(LIST_VERSION_SQL)
+                .execute(Tuple.of(userId, status != null ? status.name() : null))
+                .map(rows -> {
+                    Row row = rows.iterator().next();
+                    return new RdqRepository.ListVersion(row.getLong("total"), row.getLocalDateTime("updated_at"),
+                                                         row.getLocalDateTime("owner_updated_at"),
+                                                         row.getLocalDateTime("owner_manager_updated_at"));
+                });
+    }
+
+    /**
+     * RDQ par ID avec utilisateur et manager, null si absente
+     */
+    public Uni<RdqDto> findByIdWithUser(Long id) {
+        return client.preparedQuery(BY_ID_SQL)
+                .execute(Tuple.of(id))
+                .map(rows -> rows.size() == 0 ? null : toDto(rows.iterator().next()));
+    }
+
+    /**
+     * Recherche plein texte classée par pertinence, filtrée par visibilité
+     */
+    public Uni<List<RdqSearchResultDto>> searchFullText(String term, Long viewerId, int page, int size) {
+        return client.preparedQuery(FULL_TEXT_PAGE_SQL)
+                .execute(Tuple.of(term, viewerId, size, page * size))
+                .map(rows -> {
+                    List<RdqSearchResultDto> results = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        results.add(RdqSearchResultDto.builder()
+                                .id(row.getLong("id"))
+                                .title(row.getString("title"))
+                                .type(RdqType.valueOf(row.getString("type")))
+                                .status(RdqStatus.valueOf(row.getString("status")))
+                                .priority(RdqPriority.valueOf(row.getString("priority")))
+                                .createdAt(row.getLocalDateTime("created_at"))
+                                .updatedAt(row.getLocalDateTime("updated_at"))
+                                .userId(row.getLong("user_id"))
+                                .userFullName(row.getString("user_full_name"))
+                                .rank(row.getFloat("rank"))
+                                .titleHighlight(row.getString("title_highlight"))
+                                .snippet(row.getString("snippet"))
+                                .build());
+                    }
+                    return results;
+                });
+    }
+
+    public Uni<Long> countFullText(String term, Long viewerId) {
+        return client.preparedQuery(FULL_TEXT_COUNT_SQL)
+                .execute(Tuple.of(term, viewerId))
+                .map(ReactiveRdqRepository::singleCount);
+    }
+
+    // ========== Méthodes privées de mapping ==========
+
+    private static long singleCount(RowSet<Row> rows) {
+        return rows.iterator().next().getLong(0);
+    }
+
+    private static RdqSummaryDto toSummaryDto(Row row) {
+        return RdqSummaryDto.builder()
+                .id(row.getLong("id"))
+                .title(row.getString("title"))
+                .type(RdqType.valueOf(row.getString("type")))
+                .status(RdqStatus.valueOf(row.getString("status")))
+                .priority(RdqPriority.valueOf(row.getString("priority")))
+                .requestedDate(row.getLocalDate("requested_date"))
+                .createdAt(row.getLocalDateTime("created_at"))
+                .updatedAt(row.getLocalDateTime("updated_at"))
+                .userId(row.getLong("user_id"))
+                .userFullName(row.getString("user_full_name"))
+                .managerId(row.getLong("manager_id"))
+                .managerFullName(row.getString("manager_full_name"))
+                .build();
+    }
+
+    private static RdqDto toDto(Row row) {
+        LocalDate requestedDate = row.getLocalDate("requested_date");
+        return RdqDto.builder()
+                .id(row.getLong("id"))
+                .title(row.getString("title"))
+                .description(row.getString("description"))
+                .type(RdqType.valueOf(row.getString("type")))
+                .status(RdqStatus.valueOf(row.getString("status")))
+                .priority(RdqPriority.valueOf(row.getString("priority")))
+                .requestedDate(requestedDate != null ? requestedDate.atStartOfDay() : null)
+                .justification(row.getString("justification"))
+                .managerComment(row.getString("manager_comment"))
+                .createdAt(row.getLocalDateTime("created_at"))
+                .updatedAt(row.getLocalDateTime("updated_at"))
+                .userDto(toSimpleUserDto(row, "user_"))
+                .managerDto(row.getLong("manager_id") != null ? toSimpleUserDto(row, "manager_") : null)
+                .build();
+    }
+
+    private static UserDto toSimpleUserDto(Row row, String prefix) {
+        return UserDto.builder()
+                .id(row.getLong(prefix + "id"))
+                .email(row.getString(prefix + "email"))
+                .firstName(row.getString(prefix + "first_name"))
+                .lastName(row.getString(prefix + "last_name"))
+                .role(UserRole.valueOf(row.getString(prefix + "role")))
+                .build();
+    }
+}
@@ -6,7 +6,10 @@ import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.quarkus.panache.common.Page;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -26,6 +29,26 @@ public class UserRepository implements PanacheRepositoryBase<UserEntity, Long> {
         return find("email = ?1", email).firstResultOptional();
     }
 
+    /**
+     * Identifiants des utilisateurs actifs parmi une liste d'emails, en une requête
+     * Les emails inconnus ou d'utilisateurs inactifs sont absents du résultat
+     */
+    public Map<String, Long> findActiveIdsByEmail(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = getEntityManager()
+                .createQuery("SELECT u.email, u.id FROM UserEntity u WHERE u.email IN :emails AND u.active = true",
+                             Object[].class)
+                .setParameter("emails", emails)
+                .getResultList();
+        Map<String, Long> ids = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            ids.put((String) row[0], (Long) row[1]);
+        }
+        return ids;
+    }
+
     /**
      * Recherche des utilisateurs par rôle
      */
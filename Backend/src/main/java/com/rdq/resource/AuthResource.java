@@ -3,9 +3,15 @@ package com.rdq.resource;
 import com.rdq.security.JwtService;
 import com.rdq.dto.LoginDto;
 import com.rdq.exception.BusinessException;
+import com.rdq.exception.ServiceOverloadedException;
+import com.rdq.exception.TooManyAttemptsException;
+import com.rdq.security.CurrentUser;
+import com.rdq.security.LoginThrottle;
 
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.vertx.core.http.HttpServerRequest;
 import jakarta.inject.Inject;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
@@ -16,28 +22,42 @@ import lombok.extern.slf4j.Slf4j;
  * - Gestion JWT sécurisée selon OWASP A02
  * - Validation des entrées avec Bean Validation
  * - Logging des tentatives de connexion
+ * - Limitation des tentatives par IP et par email (LoginThrottle, réponse 429)
+ * - Exécution sur threads virtuels (pics de connexion sans file d'attente sur le pool de travail) ;
+ *   build avec rdq.virtual-threads.endpoints=false : WorkerPoolAuthResource
  */
 @Path("/api/auth")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "true", enableIfMissing = true)
 @Slf4j
 public class AuthResource {
     
     @Inject
     JwtService jwtService;
     
+    @Inject
+    LoginThrottle loginThrottle;
+    
+    @Inject
+    CurrentUser currentUser;
+    
     /**
      * Endpoint de connexion
      * OWASP A02 - Authentification sécurisée
      */
     @POST
     @Path("/login")
-    public Response login(@Valid LoginDto loginDto, @Context HttpServletRequest request) {
+    public Response login(@Valid LoginDto loginDto, @Context HttpServerRequest request) {
         
         String clientIP = getClientIP(request);
         log.info("Login attempt for email: {} from IP: {}", loginDto.getEmail(), clientIP);
         
         try {
+            // Limitation par IP et par email avant tout calcul BCrypt
+            loginThrottle.checkAndRecord(clientIP, loginDto.getEmail());
+            
             // Authentification avec JwtService
             var authResponse = jwtService.authenticate(loginDto.getEmail(), loginDto.getPassword());
             
@@ -45,6 +65,16 @@ public class AuthResource {
             
             return Response.ok(authResponse).build();
             
+        } catch (TooManyAttemptsException e) {
+            return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                          .header(HttpHeaders.RETRY_AFTER, e.getRetryAfterSeconds())
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+                          
+        } catch (ServiceOverloadedException e) {
+            // Pool BCrypt saturé : 503 avec Retry-After par ServiceOverloadedExceptionMapper
+            throw e;
+            
         } catch (BusinessException e) {
             log.warn("Failed login attempt for email: {} from IP: {} - {}", 
                     loginDto.getEmail(), clientIP, e.getMessage());
@@ -77,8 +107,8 @@ public class AuthResource {
         }
         
         try {
-            String token = authHeader.substring(7);
-            String newToken = jwtService.refreshToken(token);
+            // Token déjà vérifié par Quarkus (signature, émetteur, expiration) : l'ID vient de ses claims
+            String newToken = jwtService.refreshToken(currentUser.getId());
             
             return Response.ok(new TokenResponse(newToken)).build();
             
@@ -105,18 +135,12 @@ public class AuthResource {
     
     // ========== Méthodes utilitaires ==========
     
-    private String getClientIP(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIP = request.getHeader("X-Real-IP");
-        if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
-        }
-        
-        return request.getRemoteAddr();
+    /**
+     * Adresse du client : X-Forwarded-For n'est appliqué par Quarkus que pour les proxys de confiance
+     * (quarkus.http.proxy.*) ; lu directement, l'en-tête permettrait de contourner LoginThrottle
+     */
+    private String getClientIP(HttpServerRequest request) {
+        return request.remoteAddress() != null ? request.remoteAddress().host() : "unknown";
     }
     
     // ========== Classes DTO internes ==========
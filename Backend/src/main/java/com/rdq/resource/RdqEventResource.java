@@ -0,0 +1,59 @@
+package com.rdq.resource;
+
+import com.rdq.security.CurrentUser;
+import com.rdq.service.RdqEventBroadcaster;
+
+import io.smallrye.mutiny.Multi;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flux Server-Sent Events des transitions de statut des RDQ
+ * - Remplace l'interrogation périodique de GET /api/rdq par les onglets ouverts
+ * - Événements "rdq-status" (RdqStatusEventDto en JSON) pour les RDQ de l'utilisateur
+ *   et, pour un manager, celles de son équipe
+ * - Commentaire SSE périodique (heartbeat) pour maintenir la connexion ouverte à travers les proxies
+ * - Méthode non bloquante (Multi) : aucun thread réservé par connexion, d'où une classe distincte
+ *   de RdqResource (@RunOnVirtualThread)
+ */
+@Path("/api/rdq/events")
+@RolesAllowed({"USER", "MANAGER"})
+@Slf4j
+public class RdqEventResource {
+
+    static final String STATUS_EVENT = "rdq-status";
+
+    @Inject
+    RdqEventBroadcaster broadcaster;
+
+    @Inject
+    CurrentUser currentUser;
+
+    /**
+     * Abonnement aux transitions visibles par l'utilisateur connecté
+     * Le flux se termine à la déconnexion du client, si le client ne lit plus assez vite
+     * ou s'il ouvre trop de connexions simultanées (la plus ancienne est fermée)
+     */
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Multi<OutboundSseEvent> streamEvents(@Context Sse sse) {
+        Long userId = currentUser.getId();
+        log.debug("SSE subscription opened: user={}", userId);
+
+        return broadcaster.subscribe(userId,
+                change -> sse.newEventBuilder()
+                             .name(STATUS_EVENT)
+                             .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                             .data(change)
+                             .build(),
+                () -> sse.newEventBuilder().comment("heartbeat").build());
+    }
+}
@@ -1,49 +1,110 @@
 package com.rdq.resource;
 
 import com.rdq.dto.RdqDto;
+import com.rdq.dto.RdqAttachmentDto;
+import com.rdq.dto.BulkDecisionDto;
+import com.rdq.dto.BulkDecisionResultDto;
 import com.rdq.dto.CreateRdqDto;
 import com.rdq.dto.UpdateRdqDto;
 import com.rdq.dto.PageDto;
+import com.rdq.dto.CursorPageDto;
+import com.rdq.dto.RdqImportResultDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqStatisticsDto;
+import com.rdq.dto.RdqSummaryDto;
+import com.rdq.entity.AttachmentKind;
 import com.rdq.entity.RdqStatus;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
+import com.rdq.service.RdqAttachmentService;
+import com.rdq.service.RdqExportService;
+import com.rdq.service.RdqImportService;
 import com.rdq.service.RdqService;
+import com.rdq.exception.AccessDeniedException;
 import com.rdq.exception.BusinessException;
-import com.rdq.util.SecurityUtils;
+import com.rdq.security.CurrentUser;
+import com.rdq.util.ByteRange;
+import com.rdq.util.KeysetCursor;
+import com.rdq.util.ResourceVersion;
+import com.rdq.validation.SafeText;
 
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.*;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.resteasy.reactive.PathPart;
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.format.DateTimeParseException;
 
 /**
  * Endpoint REST pour RDQ selon les instructions Backend
  * - Validation avec Bean Validation (@Valid)
- * - Gestion des erreurs avec des DTOs d'erreur standardisés
+ * - Gestion des erreurs avec des DTOs d'erreur standardisés (accès refusé en 403, autres erreurs métier en 400)
  * - Pagination avec paramètres validés
  * - Sécurité avec @RolesAllowed
+ * - Identité de l'appelant lue dans le JWT via CurrentUser (sans accès base)
  * - Protection OWASP A01 avec validation des paramètres
+ * - Protection OWASP A07 par la contrainte @SafeText sur les textes libres
+ * - Threads virtuels ; build avec rdq.virtual-threads.endpoints=false : WorkerPoolRdqResource (pool de travail)
  */
 @Path("/api/rdq")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RolesAllowed({"USER", "MANAGER", "ADMIN"})
+@RunOnVirtualThread
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "true", enableIfMissing = true)
 @Slf4j
 public class RdqResource {
     
+    /** Propriété de build : false remplace les endpoints sur threads virtuels par leur variante pool de travail */
+    static final String VIRTUAL_THREADS_PROPERTY = "rdq.virtual-threads.endpoints";
+    
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    static final String ACCEPT_RANGES = "Accept-Ranges";
+    static final String CONTENT_RANGE = "Content-Range";
+    
     @Inject
     RdqService rdqService;
     
+    @Inject
+    RdqImportService rdqImportService;
+    
+    @Inject
+    RdqExportService rdqExportService;
+    
+    @Inject
+    RdqAttachmentService rdqAttachmentService;
+    
+    @Inject
+    CurrentUser currentUser;
+    
     /**
      * Liste des RDQ de l'utilisateur connecté
      * OWASP A01 - Validation des paramètres de requête
+     * Deux modes de pagination :
+     * - offset (par défaut) : page/size, retourne un PageDto avec comptage total
+     *   (includeTotal=false pour ne pas compter, ex. défilement infini)
+     * - curseur : activé par cursor=true ou par la présence de "after", retourne un CursorPageDto
+     * Requêtes conditionnelles : ETag dérivé des critères, du nombre de lignes et de la dernière modification
+     * (pas de Last-Modified, voir RdqService.getRdqListVersion), 304 sans lecture de page ni sérialisation
+     * si la liste n'a pas changé
      */
     @GET
     @RolesAllowed({"USER", "MANAGER"})
@@ -54,23 +115,42 @@ public class RdqResource {
                                @QueryParam("dateTo") String dateToStr,
                                @QueryParam("page") @DefaultValue("0") @Min(0) int page,
                                @QueryParam("size") @DefaultValue("20") @Min(1) int size,
-                               @Context SecurityContext securityContext) {
+                               @QueryParam("includeTotal") @DefaultValue("true") boolean includeTotal,
+                               @QueryParam("cursor") @DefaultValue("false") boolean cursorMode,
+                               @QueryParam("after") @Size(max = 200) String after,
+                               @Context Request request) {
         
+        Long userId = currentUser.getId();
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
-            
             // Validation et conversion des dates
             LocalDate dateFrom = dateFromStr != null ? LocalDate.parse(dateFromStr) : null;
             LocalDate dateTo = dateToStr != null ? LocalDate.parse(dateToStr) : null;
             
-            PageDto<RdqDto> result = rdqService.searchRdq(userId, status, type, priority, 
-                                                          dateFrom, dateTo, page, size);
+            boolean cursor = cursorMode || after != null;
+            KeysetCursor afterCursor = cursor ? KeysetCursor.decode(after) : null;
+            String variant = cursor ? "cursor:" + size : "offset:" + page + ":" + size + ":" + includeTotal;
             
-            return Response.ok(result).build();
+            ResourceVersion version = rdqService.getRdqListVersion(userId, status, type, priority,
+                                                                   dateFrom, dateTo, afterCursor, variant);
+            Response.ResponseBuilder notModified = version.evaluatePreconditions(request);
+            if (notModified != null) {
+                return notModified.build();
+            }
+            
+            if (cursor) {
+                CursorPageDto<RdqSummaryDto> cursorPage = rdqService.searchRdqAfter(userId, status, type, priority,
+                                                                             dateFrom, dateTo, afterCursor, size);
+                return version.tag(Response.ok(cursorPage)).build();
+            }
+            
+            PageDto<RdqSummaryDto> result = rdqService.searchRdq(userId, status, type, priority, 
+                                                                 dateFrom, dateTo, page, size, includeTotal);
+            
+            return version.tag(Response.ok(result)).build();
             
         } catch (BusinessException e) {
             log.warn("Business error in getRdqList: {}", e.getMessage());
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         } catch (Exception e) {
@@ -81,23 +161,124 @@ public class RdqResource {
         }
     }
     
+    /**
+     * Export de l'historique des RDQ en CSV ou NDJSON, avec les filtres de la liste
+     * - Périmètre : RDQ de l'utilisateur, ou de toute son équipe pour un manager
+     * - Réponse écrite en flux depuis un curseur base : ni pagination ni liste en mémoire
+     * - Les erreurs de paramètres sont signalées avant l'envoi ; une fois le flux commencé,
+     *   un incident interrompt la réponse
+     */
+    @GET
+    @Path("/export")
+    @Produces({TEXT_CSV, APPLICATION_NDJSON, MediaType.APPLICATION_JSON})
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response exportRdq(@QueryParam("format") @DefaultValue("csv") @Pattern(regexp = "csv|ndjson")
+                              String formatName,
+                              @QueryParam("status") RdqStatus status,
+                              @QueryParam("type") RdqType type,
+                              @QueryParam("priority") RdqPriority priority,
+                              @QueryParam("dateFrom") String dateFromStr,
+                              @QueryParam("dateTo") String dateToStr) {
+        
+        try {
+            LocalDate dateFrom = dateFromStr != null ? LocalDate.parse(dateFromStr) : null;
+            LocalDate dateTo = dateToStr != null ? LocalDate.parse(dateToStr) : null;
+            
+            RdqExportService.Format format = RdqExportService.Format.valueOf(formatName.toUpperCase());
+            var criteria = rdqExportService.buildCriteria(currentUser.getId(), currentUser.isManager(),
+                                                          status, type, priority, dateFrom, dateTo);
+            
+            StreamingOutput body = output -> {
+                try {
+                    rdqExportService.export(criteria, format, output);
+                } catch (IOException e) {
+                    log.warn("RDQ export interrupted: {}", e.getMessage());
+                    throw e;
+                }
+            };
+            
+            String fileName = "rdq-export-" + LocalDate.now() + "." + format.getExtension();
+            return Response.ok(body, format.getMediaType())
+                          .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                          .build();
+            
+        } catch (DateTimeParseException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                          .type(MediaType.APPLICATION_JSON_TYPE)
+                          .entity(ErrorResponse.of("INVALID_DATE", "Date invalide, format attendu AAAA-MM-JJ"))
+                          .build();
+        } catch (BusinessException e) {
+            log.warn("Business error in exportRdq: {}", e.getMessage());
+            return Response.status(businessStatus(e))
+                          .type(MediaType.APPLICATION_JSON_TYPE)
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Statistiques RDQ (par statut, type, priorité et total de l'utilisateur)
+     * Lecture des compteurs maintenus à l'écriture : coût constant quel que soit le volume
+     */
+    @GET
+    @Path("/stats")
+    @RolesAllowed({"USER", "MANAGER", "ADMIN"})
+    public Response getStatistics() {
+        Long userId = currentUser.getId();
+        try {
+            RdqStatisticsDto statistics = rdqService.getStatistics(userId);
+            return Response.ok(statistics).build();
+            
+        } catch (BusinessException e) {
+            log.warn("Business error in getStatistics: {}", e.getMessage());
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        } catch (Exception e) {
+            log.error("Unexpected error in getStatistics", e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                          .entity(ErrorResponse.of("INTERNAL_ERROR", "Erreur interne"))
+                          .build();
+        }
+    }
+    
     /**
      * Récupération d'une RDQ par ID
+     * ETag fort et Last-Modified calculés depuis la RDQ chargée : une seule lecture par requête
+     * - If-Modified-Since : seule lecture des horodatages d'abord, RDQ chargée uniquement si modifiée
      */
     @GET
     @Path("/{id}")
     @RolesAllowed({"USER", "MANAGER"})
     public Response getRdqById(@PathParam("id") @Min(1) Long id,
-                               @Context SecurityContext securityContext) {
+                               @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince,
+                               @Context Request request) {
         
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
+            Long userId = currentUser.getId();
+            
+            if (ifModifiedSince == null) {
+                RdqService.VersionedRdq result = rdqService.getRdqWithVersion(id, userId);
+                Response.ResponseBuilder notModified = result.getVersion().evaluatePreconditions(request);
+                if (notModified != null) {
+                    return notModified.build();
+                }
+                return result.getVersion().tag(Response.ok(result.getRdq())).build();
+            }
+            
+            // Version lue avant la RDQ : une écriture concurrente ne peut que rendre l'ETag plus ancien
+            ResourceVersion version = rdqService.getRdqVersion(id, userId);
+            Response.ResponseBuilder notModified = version.evaluatePreconditions(request);
+            if (notModified != null) {
+                return notModified.build();
+            }
+            
             RdqDto result = rdqService.getRdqById(id, userId);
             
-            return Response.ok(result).build();
+            return version.tag(Response.ok(result)).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -109,15 +290,10 @@ public class RdqResource {
      */
     @POST
     @RolesAllowed("USER")
-    public Response createRdq(@Valid CreateRdqDto createDto,
-                              @Context SecurityContext securityContext) {
+    public Response createRdq(@Valid CreateRdqDto createDto) {
         
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
-            
-            // Validation supplémentaire XSS (OWASP A07)
-            validateInputForXss(createDto.getTitle());
-            validateInputForXss(createDto.getDescription());
+            Long userId = currentUser.getId();
             
             RdqDto created = rdqService.createRdq(createDto, userId);
             
@@ -126,7 +302,7 @@ public class RdqResource {
                           .build();
                           
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -139,26 +315,17 @@ public class RdqResource {
     @Path("/{id}")
     @RolesAllowed("USER")
     public Response updateRdq(@PathParam("id") @Min(1) Long id,
-                              @Valid UpdateRdqDto updateDto,
-                              @Context SecurityContext securityContext) {
+                              @Valid UpdateRdqDto updateDto) {
         
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
-            
-            // Validation XSS si des champs texte sont modifiés
-            if (updateDto.getTitle() != null) {
-                validateInputForXss(updateDto.getTitle());
-            }
-            if (updateDto.getDescription() != null) {
-                validateInputForXss(updateDto.getDescription());
-            }
+            Long userId = currentUser.getId();
             
             RdqDto updated = rdqService.updateRdq(id, updateDto, userId);
             
             return Response.ok(updated).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -170,17 +337,16 @@ public class RdqResource {
     @POST
     @Path("/{id}/submit")
     @RolesAllowed("USER")
-    public Response submitRdq(@PathParam("id") @Min(1) Long id,
-                              @Context SecurityContext securityContext) {
+    public Response submitRdq(@PathParam("id") @Min(1) Long id) {
         
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
+            Long userId = currentUser.getId();
             RdqDto submitted = rdqService.submitRdq(id, userId);
             
             return Response.ok(submitted).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -193,23 +359,17 @@ public class RdqResource {
     @Path("/{id}/approve")
     @RolesAllowed({"MANAGER", "ADMIN"})
     public Response approveRdq(@PathParam("id") @Min(1) Long id,
-                               @Valid ApprovalDto approvalDto,
-                               @Context SecurityContext securityContext) {
+                               @Valid ApprovalDto approvalDto) {
         
         try {
-            Long managerId = SecurityUtils.getCurrentUserId(securityContext);
-            
-            // Validation XSS du commentaire
-            if (approvalDto.getComment() != null) {
-                validateInputForXss(approvalDto.getComment());
-            }
+            Long managerId = currentUser.getId();
             
             RdqDto approved = rdqService.approveRdq(id, approvalDto.getComment(), managerId);
             
             return Response.ok(approved).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -222,21 +382,67 @@ public class RdqResource {
     @Path("/{id}/reject")
     @RolesAllowed({"MANAGER", "ADMIN"})
     public Response rejectRdq(@PathParam("id") @Min(1) Long id,
-                              @Valid RejectionDto rejectionDto,
-                              @Context SecurityContext securityContext) {
+                              @Valid RejectionDto rejectionDto) {
         
         try {
-            Long managerId = SecurityUtils.getCurrentUserId(securityContext);
-            
-            // Validation XSS du commentaire
-            validateInputForXss(rejectionDto.getComment());
+            Long managerId = currentUser.getId();
             
             RdqDto rejected = rdqService.rejectRdq(id, rejectionDto.getComment(), managerId);
             
             return Response.ok(rejected).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Approbation ou rejet groupé de RDQ soumises par un manager
+     * Réponse 200 avec un résultat par identifiant, y compris en cas d'échec partiel
+     */
+    @POST
+    @Path("/bulk-decision")
+    @RolesAllowed({"MANAGER", "ADMIN"})
+    public Response decideBulk(@Valid @NotNull BulkDecisionDto decisionDto) {
+        
+        try {
+            Long managerId = currentUser.getId();
+            
+            BulkDecisionResultDto result = rdqService.decideBulk(decisionDto, managerId);
+            
+            return Response.ok(result).build();
+            
+        } catch (BusinessException e) {
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Import en masse de RDQ (reprise de données) depuis un flux CSV (en-tête obligatoire) ou NDJSON
+     * Réponse 200 avec le rapport d'import, y compris lorsque certaines lignes sont rejetées
+     */
+    @POST
+    @Path("/import")
+    @Consumes({TEXT_CSV, APPLICATION_NDJSON})
+    @RolesAllowed("ADMIN")
+    public Response importRdqs(InputStream body, @Context HttpHeaders headers) {
+        
+        try {
+            RdqImportService.Format format = headers.getMediaType().isCompatible(MediaType.valueOf(TEXT_CSV))
+                    ? RdqImportService.Format.CSV
+                    : RdqImportService.Format.NDJSON;
+            
+            RdqImportResultDto result = rdqImportService.importRdqs(body, format);
+            
+            return Response.ok(result).build();
+            
+        } catch (BusinessException e) {
+            log.warn("Business error in importRdqs: {}", e.getMessage());
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -248,17 +454,131 @@ public class RdqResource {
     @DELETE
     @Path("/{id}")
     @RolesAllowed("USER")
-    public Response deleteRdq(@PathParam("id") @Min(1) Long id,
-                              @Context SecurityContext securityContext) {
+    public Response deleteRdq(@PathParam("id") @Min(1) Long id) {
         
         try {
-            Long userId = SecurityUtils.getCurrentUserId(securityContext);
+            Long userId = currentUser.getId();
             rdqService.deleteRdq(id, userId);
             
             return Response.noContent().build();
             
         } catch (BusinessException e) {
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Ajout d'une pièce jointe (multipart : champ "file", champ "kind" facultatif)
+     * Fichier reçu sur disque par Vert.x puis copié dans le magasin, sans passer par le tas
+     */
+    @POST
+    @Path("/{id}/attachments")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response addAttachment(@PathParam("id") @Min(1) Long id,
+                                  @RestForm("file") FileUpload file,
+                                  @RestForm("kind") @DefaultValue("OTHER") AttachmentKind kind) {
+        
+        if (file == null) {
             return Response.status(Response.Status.BAD_REQUEST)
+                          .entity(ErrorResponse.of("ATTACHMENT_REQUIRED", "Fichier requis (champ file)"))
+                          .build();
+        }
+        
+        try {
+            RdqAttachmentDto created = rdqAttachmentService.addAttachment(id, kind, file.fileName(),
+                                                                          file.contentType(), file.uploadedFile(),
+                                                                          currentUser.getId());
+            
+            return Response.status(Response.Status.CREATED)
+                          .entity(created)
+                          .build();
+            
+        } catch (BusinessException e) {
+            log.warn("Business error in addAttachment: {}", e.getMessage());
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Liste des pièces jointes d'une RDQ (métadonnées)
+     */
+    @GET
+    @Path("/{id}/attachments")
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response getAttachments(@PathParam("id") @Min(1) Long id) {
+        
+        try {
+            return Response.ok(rdqAttachmentService.listAttachments(id, currentUser.getId())).build();
+            
+        } catch (BusinessException e) {
+            return Response.status(businessStatus(e))
+                          .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                          .build();
+        }
+    }
+    
+    /**
+     * Téléchargement d'une pièce jointe
+     * - Envoi par sendfile depuis le magasin (PathPart) : le contenu ne passe ni par le tas ni par l'espace utilisateur
+     * - Range sur une plage (206, 416 hors du fichier) pour la reprise et la lecture page à page des PDF
+     * - If-Range comparé à l'ETag : contenu modifié entre deux requêtes, fichier renvoyé en entier
+     * - ETag immuable (pièce jointe jamais réécrite) : If-None-Match satisfait par un 304
+     */
+    @GET
+    @Path("/{id}/attachments/{attachmentId}")
+    @Produces(MediaType.WILDCARD)
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response downloadAttachment(@PathParam("id") @Min(1) Long id,
+                                       @PathParam("attachmentId") @Min(1) Long attachmentId,
+                                       @HeaderParam("Range") String range,
+                                       @HeaderParam("If-Range") String ifRange,
+                                       @Context Request request) {
+        
+        try {
+            RdqAttachmentService.StoredAttachment attachment =
+                    rdqAttachmentService.getAttachment(id, attachmentId, currentUser.getId());
+            
+            ResourceVersion version = ResourceVersion.of(attachment.getCreatedAt(), attachment.getId(),
+                                                         attachment.getSha256());
+            Response.ResponseBuilder notModified = version.evaluatePreconditions(request);
+            if (notModified != null) {
+                return notModified.build();
+            }
+            
+            long size = attachment.getSize();
+            String currentTag = "\"" + version.getEntityTag().getValue() + "\"";
+            ByteRange byteRange = ifRange == null || ifRange.strip().equals(currentTag)
+                    ? ByteRange.parse(range, size)
+                    : null;
+            
+            Response.ResponseBuilder builder;
+            if (byteRange == null) {
+                builder = Response.ok(new PathPart(attachment.getContent(), 0, size));
+            } else if (!byteRange.isSatisfiable()) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                              .header(CONTENT_RANGE, ByteRange.unsatisfiedContentRange(size))
+                              .build();
+            } else {
+                builder = Response.status(Response.Status.PARTIAL_CONTENT)
+                                  .entity(new PathPart(attachment.getContent(), byteRange.getStart(),
+                                                       byteRange.length()))
+                                  .header(CONTENT_RANGE, byteRange.contentRange(size));
+            }
+            
+            return version.tag(builder)
+                          .type(attachment.getContentType())
+                          .header(ACCEPT_RANGES, "bytes")
+                          .header(HttpHeaders.CONTENT_DISPOSITION, attachmentDisposition(attachment.getFileName()))
+                          .build();
+            
+        } catch (BusinessException e) {
+            return Response.status(businessStatus(e))
+                          .type(MediaType.APPLICATION_JSON_TYPE)
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
@@ -267,12 +587,14 @@ public class RdqResource {
     /**
      * Recherche textuelle dans les RDQ
      * OWASP A01 - Validation du paramètre de recherche
+     * Recherche plein texte classée par pertinence, limitée aux RDQ visibles par l'utilisateur
      */
     @GET
     @Path("/search")
     @RolesAllowed({"USER", "MANAGER"})
-    public Response searchRdq(@QueryParam("q") @Pattern(regexp = "^[a-zA-Z0-9\\s\\-_.,!?()]{1,100}$") String searchTerm,
-                              @Context SecurityContext securityContext) {
+    public Response searchRdq(@QueryParam("q") @SafeText(max = 100) String searchTerm,
+                              @QueryParam("page") @DefaultValue("0") @Min(0) int page,
+                              @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size) {
         
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return Response.status(Response.Status.BAD_REQUEST)
@@ -281,34 +603,32 @@ public class RdqResource {
         }
         
         try {
-            // Validation supplémentaire XSS
-            validateInputForXss(searchTerm);
+            Long userId = currentUser.getId();
+            PageDto<RdqSearchResultDto> results = rdqService.searchByText(searchTerm, userId, page, size);
             
-            // TODO: Implémenter la recherche textuelle dans le service
-            // List<RdqDto> results = rdqService.searchByText(searchTerm);
-            
-            return Response.ok(List.of()).build();
+            return Response.ok(results).build();
             
         } catch (BusinessException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
+            return Response.status(businessStatus(e))
                           .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
                           .build();
         }
     }
     
-    // ========== Méthodes privées de validation OWASP ==========
+    /**
+     * Statut HTTP d'une erreur métier : 403 pour un accès refusé, 400 sinon
+     */
+    static Response.Status businessStatus(BusinessException e) {
+        return e instanceof AccessDeniedException ? Response.Status.FORBIDDEN : Response.Status.BAD_REQUEST;
+    }
     
     /**
-     * Validation contre les attaques XSS (OWASP A07)
+     * Content-Disposition d'un téléchargement : nom ASCII de repli et nom UTF-8 encodé (filename*)
      */
-    private void validateInputForXss(String input) {
-        if (input == null) return;
-        
-        // Pattern de validation natif simple
-        String safePattern = "^[a-zA-Z0-9\\s\\-_.,!?()àáâãäåçèéêëìíîïñòóôõöùúûüýÿ]+$";
-        if (!input.matches(safePattern) || input.length() > 2000) {
-            throw new BusinessException("INVALID_INPUT", "Format d'entrée invalide");
-        }
+    private static String attachmentDisposition(String fileName) {
+        String fallback = fileName.replaceAll("[^\\x20-\\x7E]|[\"\\\\]", "_");
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+        return "attachment; filename=\"" + fallback + "\"; filename*=UTF-8''" + encoded;
     }
     
     // ========== Classes DTO internes ==========
@@ -318,6 +638,7 @@ public class RdqResource {
     @lombok.AllArgsConstructor
     public static class ApprovalDto {
         @jakarta.validation.constraints.Size(max = 1000, message = "Le commentaire ne peut dépasser 1000 caractères")
+        @SafeText(max = 1000)
         private String comment;
     }
     
@@ -327,6 +648,7 @@ public class RdqResource {
     public static class RejectionDto {
         @jakarta.validation.constraints.NotBlank(message = "Le commentaire de rejet est obligatoire")
         @jakarta.validation.constraints.Size(max = 1000, message = "Le commentaire ne peut dépasser 1000 caractères")
+        @SafeText(max = 1000)
         private String comment;
     }
     
@@ -0,0 +1,143 @@
+package com.rdq.resource;
+
+import com.rdq.dto.CompleteUploadDto;
+import com.rdq.dto.CreateUploadDto;
+import com.rdq.dto.RdqAttachmentDto;
+import com.rdq.dto.RdqUploadDto;
+import com.rdq.exception.BusinessException;
+import com.rdq.resource.RdqResource.ErrorResponse;
+import com.rdq.security.CurrentUser;
+import com.rdq.service.RdqUploadService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+
+/**
+ * Envoi de pièces jointes en plusieurs blocs, avec reprise (gros fichiers, connexions instables)
+ * - POST : ouverture (nom, type, taille) ; GET : plages déjà reçues ; DELETE : abandon
+ * - PUT ?offset=N : un bloc brut (application/octet-stream, Content-Length), blocs envoyables en parallèle
+ * - POST /complete : empreinte SHA-256 du fichier, création de la pièce jointe
+ * - Thread virtuel : un bloc lent ou coupé n'immobilise aucun thread du pool de travail ;
+ *   build avec rdq.virtual-threads.endpoints=false : WorkerPoolRdqUploadResource
+ */
+@Path("/api/rdq/{id}/uploads")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@RolesAllowed({"USER", "MANAGER"})
+@RunOnVirtualThread
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "true", enableIfMissing = true)
+@Slf4j
+public class RdqUploadResource {
+
+    private static final String UPLOAD_ID = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    @Inject
+    RdqUploadService rdqUploadService;
+
+    @Inject
+    CurrentUser currentUser;
+
+    @POST
+    public Response createUpload(@PathParam("id") @Min(1) Long id,
+                                 @Valid @NotNull CreateUploadDto uploadDto,
+                                 @Context UriInfo uriInfo) {
+        try {
+            RdqUploadDto created = rdqUploadService.createUpload(id, uploadDto, currentUser.getId());
+
+            return Response.created(uriInfo.getAbsolutePathBuilder().path(created.getUploadId()).build())
+                          .entity(created)
+                          .build();
+
+        } catch (BusinessException e) {
+            log.warn("Business error in createUpload: {}", e.getMessage());
+            return businessError(e);
+        }
+    }
+
+    @GET
+    @Path("/{uploadId}")
+    public Response getUpload(@PathParam("id") @Min(1) Long id,
+                              @PathParam("uploadId") @Pattern(regexp = UPLOAD_ID) String uploadId) {
+        try {
+            return Response.ok(rdqUploadService.getUpload(id, uploadId, currentUser.getId())).build();
+
+        } catch (BusinessException e) {
+            return businessError(e);
+        }
+    }
+
+    /**
+     * Bloc à la position offset ; au plus rdq.uploads.max-chunk-size octets, sans dépasser la taille annoncée
+     * Content-Length obligatoire : un bloc reçu incomplet est refusé au lieu d'être enregistré tronqué
+     */
+    @PUT
+    @Path("/{uploadId}")
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    public Response writeChunk(@PathParam("id") @Min(1) Long id,
+                               @PathParam("uploadId") @Pattern(regexp = UPLOAD_ID) String uploadId,
+                               @QueryParam("offset") @NotNull @Min(0) Long offset,
+                               @HeaderParam(HttpHeaders.CONTENT_LENGTH) Long contentLength,
+                               InputStream body) {
+        try {
+            return Response.ok(rdqUploadService.writeChunk(id, uploadId, offset, contentLength, body,
+                                                           currentUser.getId())).build();
+
+        } catch (BusinessException e) {
+            return businessError(e);
+        }
+    }
+
+    @POST
+    @Path("/{uploadId}/complete")
+    public Response completeUpload(@PathParam("id") @Min(1) Long id,
+                                   @PathParam("uploadId") @Pattern(regexp = UPLOAD_ID) String uploadId,
+                                   @Valid @NotNull CompleteUploadDto completeDto) {
+        try {
+            RdqAttachmentDto attachment = rdqUploadService.completeUpload(id, uploadId, completeDto.getSha256(),
+                                                                          currentUser.getId());
+
+            return Response.status(Response.Status.CREATED)
+                          .entity(attachment)
+                          .build();
+
+        } catch (BusinessException e) {
+            log.warn("Business error in completeUpload: {}", e.getMessage());
+            return businessError(e);
+        }
+    }
+
+    @DELETE
+    @Path("/{uploadId}")
+    public Response abortUpload(@PathParam("id") @Min(1) Long id,
+                                @PathParam("uploadId") @Pattern(regexp = UPLOAD_ID) String uploadId) {
+        try {
+            rdqUploadService.abortUpload(id, uploadId, currentUser.getId());
+
+            return Response.noContent().build();
+
+        } catch (BusinessException e) {
+            return businessError(e);
+        }
+    }
+
+    private static Response businessError(BusinessException e) {
+        return Response.status(RdqResource.businessStatus(e))
+                      .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                      .build();
+    }
+}
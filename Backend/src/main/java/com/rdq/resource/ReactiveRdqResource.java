@@ -0,0 +1,116 @@
+package com.rdq.resource;
+
+import com.rdq.entity.RdqStatus;
+import com.rdq.exception.AccessDeniedException;
+import com.rdq.exception.BusinessException;
+import com.rdq.repository.ReactiveRdqRepository;
+import com.rdq.resource.RdqResource.ErrorResponse;
+import com.rdq.security.CurrentUser;
+import com.rdq.service.ReactiveRdqService;
+import com.rdq.validation.SafeText;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Variante réactive des lectures RDQ les plus sollicitées
+ * - Méthodes retournant Uni : exécution sur l'event loop, aucun thread de travail bloqué
+ * - Mêmes contrôles d'accès et formats de réponse que RdqResource (accès refusé en 403)
+ * - Sous-ensemble de RdqResource : liste filtrée par statut seulement, détail sans ETag ni Last-Modified
+ * - Comparaison de charge avec /api/rdq : loadtest/rdq-blocking-vs-reactive.js
+ */
+@Path("/api/reactive/rdq")
+@Produces(MediaType.APPLICATION_JSON)
+@RolesAllowed({"USER", "MANAGER"})
+@IfBuildProperty(name = ReactiveRdqRepository.REACTIVE_PROPERTY, stringValue = "true", enableIfMissing = true)
+@Slf4j
+public class ReactiveRdqResource {
+    
+    @Inject
+    ReactiveRdqService reactiveRdqService;
+    
+    @Inject
+    CurrentUser currentUser;
+    
+    /**
+     * Liste paginée des RDQ de l'utilisateur connecté
+     * - Filtre sur le statut uniquement : type, priorité, dates et pagination par curseur restent sur /api/rdq
+     * - Requêtes conditionnelles comme RdqResource : ETag calculé par la même agrégation, 304 sans lecture de page
+     */
+    @GET
+    public Uni<Response> getRdqList(@QueryParam("status") RdqStatus status,
+                                    @QueryParam("page") @DefaultValue("0") @Min(0) int page,
+                                    @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size,
+                                    @Context Request request) {
+        
+        Long userId = currentUser.getId();
+        return reactiveRdqService.getUserRdqsVersion(userId, status, page, size)
+                .flatMap(version -> {
+                    Response.ResponseBuilder notModified = version.evaluatePreconditions(request);
+                    if (notModified != null) {
+                        return Uni.createFrom().item(notModified.build());
+                    }
+                    return reactiveRdqService.getUserRdqs(userId, status, page, size)
+                            .map(result -> version.tag(Response.ok(result)).build());
+                })
+                .onFailure(BusinessException.class).recoverWithItem(ReactiveRdqResource::badRequest);
+    }
+    
+    /**
+     * Récupération d'une RDQ par ID
+     */
+    @GET
+    @Path("/{id}")
+    public Uni<Response> getRdqById(@PathParam("id") @Min(1) Long id) {
+        
+        return reactiveRdqService.getRdqById(id, currentUser.getId())
+                .map(result -> Response.ok(result).build())
+                .onFailure(AccessDeniedException.class).recoverWithItem(ReactiveRdqResource::forbidden)
+                .onFailure(BusinessException.class).recoverWithItem(ReactiveRdqResource::badRequest);
+    }
+    
+    /**
+     * Recherche plein texte classée par pertinence
+     */
+    @GET
+    @Path("/search")
+    public Uni<Response> searchRdq(@QueryParam("q") @NotNull @SafeText(max = 100) String searchTerm,
+                                   @QueryParam("page") @DefaultValue("0") @Min(0) int page,
+                                   @QueryParam("size") @DefaultValue("20") @Min(1) @Max(100) int size) {
+        
+        if (searchTerm.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(ErrorResponse.of("INVALID_SEARCH", "Terme de recherche requis"))
+                    .build());
+        }
+        
+        return reactiveRdqService.searchByText(searchTerm, currentUser.getId(), page, size)
+                .map(result -> Response.ok(result).build())
+                .onFailure(BusinessException.class).recoverWithItem(ReactiveRdqResource::badRequest);
+    }
+    
+    private static Response forbidden(Throwable failure) {
+        BusinessException e = (BusinessException) failure;
+        return Response.status(Response.Status.FORBIDDEN)
+                      .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                      .build();
+    }
+    
+    private static Response badRequest(Throwable failure) {
+        BusinessException e = (BusinessException) failure;
+        return Response.status(Response.Status.BAD_REQUEST)
+                      .entity(ErrorResponse.of(e.getCode(), e.getMessage()))
+                      .build();
+    }
+}
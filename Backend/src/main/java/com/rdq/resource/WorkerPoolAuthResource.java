@@ -0,0 +1,40 @@
+package com.rdq.resource;
+
+import com.rdq.dto.LoginDto;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.vertx.core.http.HttpServerRequest;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.*;
+
+/**
+ * AuthResource exécutée sur le pool de travail (build avec rdq.virtual-threads.endpoints=false)
+ * - Endpoints redéclarés ici pour échapper au @RunOnVirtualThread de AuthResource, voir WorkerPoolRdqResource
+ */
+@Path("/api/auth")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "false")
+public class WorkerPoolAuthResource extends AuthResource {
+
+    @Override
+    @POST
+    @Path("/login")
+    public Response login(LoginDto loginDto, @Context HttpServerRequest request) {
+        return super.login(loginDto, request);
+    }
+
+    @Override
+    @POST
+    @Path("/refresh")
+    public Response refreshToken(@HeaderParam("Authorization") String authHeader) {
+        return super.refreshToken(authHeader);
+    }
+
+    @Override
+    @POST
+    @Path("/logout")
+    public Response logout(@Context SecurityContext securityContext) {
+        return super.logout(securityContext);
+    }
+}
@@ -0,0 +1,195 @@
+package com.rdq.resource;
+
+import com.rdq.dto.BulkDecisionDto;
+import com.rdq.dto.CreateRdqDto;
+import com.rdq.dto.UpdateRdqDto;
+import com.rdq.entity.AttachmentKind;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.*;
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+
+import java.io.InputStream;
+
+import static com.rdq.resource.RdqResource.APPLICATION_NDJSON;
+import static com.rdq.resource.RdqResource.TEXT_CSV;
+
+/**
+ * RdqResource exécutée sur le pool de travail (build avec rdq.virtual-threads.endpoints=false)
+ * - RESTEasy Reactive ne lit @RunOnVirtualThread que sur la classe qui déclare la méthode :
+ *   chaque endpoint est redéclaré ici, avec ses annotations JAX-RS, et délègue à RdqResource
+ * - Contraintes Bean Validation héritées des paramètres de RdqResource (interdites sur une redéfinition)
+ * - Toute modification d'un endpoint de RdqResource doit être reportée ici (vérifié par WorkerPoolResourceMirrorTest)
+ */
+@Path("/api/rdq")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@RolesAllowed({"USER", "MANAGER", "ADMIN"})
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "false")
+public class WorkerPoolRdqResource extends RdqResource {
+
+    @Override
+    @GET
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response getRdqList(@QueryParam("status") RdqStatus status,
+                               @QueryParam("type") RdqType type,
+                               @QueryParam("priority") RdqPriority priority,
+                               @QueryParam("dateFrom") String dateFromStr,
+                               @QueryParam("dateTo") String dateToStr,
+                               @QueryParam("page") @DefaultValue("0") int page,
+                               @QueryParam("size") @DefaultValue("20") int size,
+                               @QueryParam("includeTotal") @DefaultValue("true") boolean includeTotal,
+                               @QueryParam("cursor") @DefaultValue("false") boolean cursorMode,
+                               @QueryParam("after") String after,
+                               @Context Request request) {
+        return super.getRdqList(status, type, priority, dateFromStr, dateToStr, page, size, includeTotal,
+                                cursorMode, after, request);
+    }
+
+    @Override
+    @GET
+    @Path("/export")
+    @Produces({TEXT_CSV, APPLICATION_NDJSON, MediaType.APPLICATION_JSON})
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response exportRdq(@QueryParam("format") @DefaultValue("csv") String formatName,
+                              @QueryParam("status") RdqStatus status,
+                              @QueryParam("type") RdqType type,
+                              @QueryParam("priority") RdqPriority priority,
+                              @QueryParam("dateFrom") String dateFromStr,
+                              @QueryParam("dateTo") String dateToStr) {
+        return super.exportRdq(formatName, status, type, priority, dateFromStr, dateToStr);
+    }
+
+    @Override
+    @GET
+    @Path("/stats")
+    @RolesAllowed({"USER", "MANAGER", "ADMIN"})
+    public Response getStatistics() {
+        return super.getStatistics();
+    }
+
+    @Override
+    @GET
+    @Path("/{id}")
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response getRdqById(@PathParam("id") Long id,
+                               @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince,
+                               @Context Request request) {
+        return super.getRdqById(id, ifModifiedSince, request);
+    }
+
+    @Override
+    @POST
+    @RolesAllowed("USER")
+    public Response createRdq(CreateRdqDto createDto) {
+        return super.createRdq(createDto);
+    }
+
+    @Override
+    @PUT
+    @Path("/{id}")
+    @RolesAllowed("USER")
+    public Response updateRdq(@PathParam("id") Long id,
+                              UpdateRdqDto updateDto) {
+        return super.updateRdq(id, updateDto);
+    }
+
+    @Override
+    @POST
+    @Path("/{id}/submit")
+    @RolesAllowed("USER")
+    public Response submitRdq(@PathParam("id") Long id) {
+        return super.submitRdq(id);
+    }
+
+    @Override
+    @POST
+    @Path("/{id}/approve")
+    @RolesAllowed({"MANAGER", "ADMIN"})
+    public Response approveRdq(@PathParam("id") Long id,
+                               ApprovalDto approvalDto) {
+        return super.approveRdq(id, approvalDto);
+    }
+
+    @Override
+    @POST
+    @Path("/{id}/reject")
+    @RolesAllowed({"MANAGER", "ADMIN"})
+    public Response rejectRdq(@PathParam("id") Long id,
+                              RejectionDto rejectionDto) {
+        return super.rejectRdq(id, rejectionDto);
+    }
+
+    @Override
+    @POST
+    @Path("/bulk-decision")
+    @RolesAllowed({"MANAGER", "ADMIN"})
+    public Response decideBulk(BulkDecisionDto decisionDto) {
+        return super.decideBulk(decisionDto);
+    }
+
+    @Override
+    @POST
+    @Path("/import")
+    @Consumes({TEXT_CSV, APPLICATION_NDJSON})
+    @RolesAllowed("ADMIN")
+    public Response importRdqs(InputStream body, @Context HttpHeaders headers) {
+        return super.importRdqs(body, headers);
+    }
+
+    @Override
+    @DELETE
+    @Path("/{id}")
+    @RolesAllowed("USER")
+    public Response deleteRdq(@PathParam("id") Long id) {
+        return super.deleteRdq(id);
+    }
+
+    @Override
+    @POST
+    @Path("/{id}/attachments")
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response addAttachment(@PathParam("id") Long id,
+                                  @RestForm("file") FileUpload file,
+                                  @RestForm("kind") @DefaultValue("OTHER") AttachmentKind kind) {
+        return super.addAttachment(id, file, kind);
+    }
+
+    @Override
+    @GET
+    @Path("/{id}/attachments")
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response getAttachments(@PathParam("id") Long id) {
+        return super.getAttachments(id);
+    }
+
+    @Override
+    @GET
+    @Path("/{id}/attachments/{attachmentId}")
+    @Produces(MediaType.WILDCARD)
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response downloadAttachment(@PathParam("id") Long id,
+                                       @PathParam("attachmentId") Long attachmentId,
+                                       @HeaderParam("Range") String range,
+                                       @HeaderParam("If-Range") String ifRange,
+                                       @Context Request request) {
+        return super.downloadAttachment(id, attachmentId, range, ifRange, request);
+    }
+
+    @Override
+    @GET
+    @Path("/search")
+    @RolesAllowed({"USER", "MANAGER"})
+    public Response searchRdq(@QueryParam("q") String searchTerm,
+                              @QueryParam("page") @DefaultValue("0") int page,
+                              @QueryParam("size") @DefaultValue("20") int size) {
+        return super.searchRdq(searchTerm, page, size);
+    }
+}
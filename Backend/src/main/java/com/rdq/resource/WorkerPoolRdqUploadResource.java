@@ -0,0 +1,68 @@
+package com.rdq.resource;
+
+import com.rdq.dto.CompleteUploadDto;
+import com.rdq.dto.CreateUploadDto;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.io.InputStream;
+
+/**
+ * RdqUploadResource exécutée sur le pool de travail (build avec rdq.virtual-threads.endpoints=false)
+ * - Endpoints redéclarés ici pour échapper au @RunOnVirtualThread de RdqUploadResource, voir WorkerPoolRdqResource
+ */
+@Path("/api/rdq/{id}/uploads")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@RolesAllowed({"USER", "MANAGER"})
+@IfBuildProperty(name = RdqResource.VIRTUAL_THREADS_PROPERTY, stringValue = "false")
+public class WorkerPoolRdqUploadResource extends RdqUploadResource {
+
+    @Override
+    @POST
+    public Response createUpload(@PathParam("id") Long id, CreateUploadDto uploadDto, @Context UriInfo uriInfo) {
+        return super.createUpload(id, uploadDto, uriInfo);
+    }
+
+    @Override
+    @GET
+    @Path("/{uploadId}")
+    public Response getUpload(@PathParam("id") Long id, @PathParam("uploadId") String uploadId) {
+        return super.getUpload(id, uploadId);
+    }
+
+    @Override
+    @PUT
+    @Path("/{uploadId}")
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    public Response writeChunk(@PathParam("id") Long id,
+                               @PathParam("uploadId") String uploadId,
+                               @QueryParam("offset") Long offset,
+                               @HeaderParam(HttpHeaders.CONTENT_LENGTH) Long contentLength,
+                               InputStream body) {
+        return super.writeChunk(id, uploadId, offset, contentLength, body);
+    }
+
+    @Override
+    @POST
+    @Path("/{uploadId}/complete")
+    public Response completeUpload(@PathParam("id") Long id,
+                                   @PathParam("uploadId") String uploadId,
+                                   CompleteUploadDto completeDto) {
+        return super.completeUpload(id, uploadId, completeDto);
+    }
+
+    @Override
+    @DELETE
+    @Path("/{uploadId}")
+    public Response abortUpload(@PathParam("id") Long id, @PathParam("uploadId") String uploadId) {
+        return super.abortUpload(id, uploadId);
+    }
+}
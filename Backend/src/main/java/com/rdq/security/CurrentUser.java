@@ -0,0 +1,115 @@
+package com.rdq.security;
+
+import com.rdq.entity.UserRole;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.ws.rs.NotAuthorizedException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Utilisateur courant de la requête HTTP
+ * - Identité lue dans les claims du JWT déjà vérifié (userId, role) : aucune requête SQL
+ * - Résolution paresseuse, mémorisée pour la durée de la requête
+ * - Jeton sans claim userId (ou claim non numérique) rejeté en 401 : aucun ID déduit du nom du principal
+ */
+@RequestScoped
+public class CurrentUser {
+    
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    
+    @Inject
+    JsonWebToken jwt;
+    
+    @Inject
+    SecurityIdentity identity;
+    
+    private Long id;
+    private UserRole role;
+    
+    /**
+     * ID de l'utilisateur authentifié
+     */
+    public Long getId() {
+        if (id == null) {
+            id = resolveId();
+        }
+        return id;
+    }
+    
+    /**
+     * Rôle de l'utilisateur authentifié
+     */
+    public UserRole getRole() {
+        if (role == null) {
+            role = resolveRole();
+        }
+        return role;
+    }
+    
+    public boolean isManager() {
+        UserRole currentRole = getRole();
+        return currentRole == UserRole.MANAGER || currentRole == UserRole.ADMIN;
+    }
+    
+    // ========== Méthodes privées ==========
+    
+    private Long resolveId() {
+        requireAuthenticated();
+        
+        Object claim = jwt.getClaim(USER_ID_CLAIM);
+        if (claim instanceof JsonNumber number) {
+            return number.longValue();
+        }
+        if (claim instanceof Number number) {
+            return number.longValue();
+        }
+        if (claim instanceof JsonString string) {
+            return parseId(string.getString());
+        }
+        if (claim instanceof String string) {
+            return parseId(string);
+        }
+        
+        throw new NotAuthorizedException("Jeton sans claim " + USER_ID_CLAIM, "Bearer");
+    }
+    
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new NotAuthorizedException("Claim " + USER_ID_CLAIM + " non numérique", "Bearer");
+        }
+    }
+    
+    private UserRole resolveRole() {
+        requireAuthenticated();
+        
+        Object claim = jwt.getClaim(ROLE_CLAIM);
+        if (claim instanceof JsonString string) {
+            return UserRole.valueOf(string.getString());
+        }
+        if (claim instanceof String string) {
+            return UserRole.valueOf(string);
+        }
+        
+        // Sans claim : rôle le plus élevé porté par l'identité
+        if (identity.hasRole(UserRole.ADMIN.name())) {
+            return UserRole.ADMIN;
+        }
+        if (identity.hasRole(UserRole.MANAGER.name())) {
+            return UserRole.MANAGER;
+        }
+        return UserRole.USER;
+    }
+    
+    private void requireAuthenticated() {
+        if (identity.isAnonymous()) {
+            throw new SecurityException("Utilisateur non authentifié");
+        }
+    }
+}
@@ -13,12 +13,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Service JWT selon les instructions Backend et sécurité OWASP A02
- * - Génération et validation de tokens JWT sécurisés
- * - Gestion des rôles et permissions
+ * - Génération de tokens JWT signés ; vérification par SmallRye JWT, claims lus par CurrentUser
  * - Protection contre les attaques de session
  */
 @ApplicationScoped
@@ -93,65 +91,10 @@ public class JwtService {
     }
     
     /**
-     * Extraction de l'ID utilisateur depuis le token
+     * Nouveau token pour l'utilisateur du token courant
+     * userId provient du JWT déjà vérifié par Quarkus (CurrentUser) ; l'utilisateur doit exister et être actif
      */
-    public Long extractUserIdFromToken(String token) {
-        try {
-            // Simplification : utiliser directement la validation sans parsing manuel
-            // En production, utiliser JsonWebToken injecté par Quarkus
-            log.debug("Extracting user ID from token");
-            return 1L; // TODO: Implémenter l'extraction réelle
-        } catch (Exception e) {
-            log.error("Error extracting user ID from token", e);
-            return null;
-        }
-    }
-    
-    /**
-     * Extraction du rôle utilisateur depuis le token
-     */
-    public UserRole extractUserRoleFromToken(String token) {
-        try {
-            // Simplification : utiliser directement la validation sans parsing manuel
-            log.debug("Extracting user role from token");
-            return UserRole.USER; // TODO: Implémenter l'extraction réelle
-        } catch (Exception e) {
-            log.error("Error extracting user role from token", e);
-            return null;
-        }
-    }
-    
-    /**
-     * Vérification des permissions basées sur les rôles
-     * OWASP A05 - Contrôle d'accès basé sur les rôles
-     */
-    public boolean hasRole(String token, UserRole requiredRole) {
-        UserRole userRole = extractUserRoleFromToken(token);
-        return userRole != null && hasRoleHierarchy(userRole, requiredRole);
-    }
-    
-    /**
-     * Vérification des permissions avec hiérarchie des rôles
-     */
-    public boolean hasAnyRole(String token, Set<UserRole> allowedRoles) {
-        UserRole userRole = extractUserRoleFromToken(token);
-        if (userRole == null) {
-            return false;
-        }
-        
-        return allowedRoles.stream()
-                .anyMatch(role -> hasRoleHierarchy(userRole, role));
-    }
-    
-    /**
-     * Refresh d'un token valide
-     */
-    public String refreshToken(String currentToken) {
-        Long userId = extractUserIdFromToken(currentToken);
-        if (userId == null) {
-            throw new InvalidCredentialsException("Token invalide");
-        }
-        
+    public String refreshToken(Long userId) {
         UserEntity user = userRepository.findById(userId);
         if (user == null || !user.active) {
             throw new InvalidCredentialsException("Utilisateur invalide");
@@ -160,24 +103,6 @@ public class JwtService {
         return generateToken(user);
     }
     
-    // ========== Méthodes privées ==========
-    
-    /**
-     * Hiérarchie des rôles : ADMIN > MANAGER > USER
-     */
-    private boolean hasRoleHierarchy(UserRole userRole, UserRole requiredRole) {
-        switch (requiredRole) {
-            case USER:
-                return true; // Tous les rôles peuvent agir comme USER
-            case MANAGER:
-                return userRole == UserRole.MANAGER || userRole == UserRole.ADMIN;
-            case ADMIN:
-                return userRole == UserRole.ADMIN;
-            default:
-                return false;
-        }
-    }
-    
     /**
      * Classe interne pour la réponse d'authentification
      */
@@ -0,0 +1,175 @@
+package com.rdq.security;
+
+import com.rdq.exception.TooManyAttemptsException;
+
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limitation des tentatives de connexion par IP et par email (anti force brute)
+ * - Fenêtre glissante approchée : fenêtre courante + fenêtre précédente pondérée
+ *   par la part de celle-ci encore couverte
+ * - Compteurs en count-min sketch (DEPTH lignes x width colonnes) sur AtomicIntegerArray :
+ *   mémoire fixe quel que soit le nombre de clés, incréments et rotation sans verrou
+ * - Estimation par excès uniquement (collisions) : une clé n'est jamais sous-comptée
+ * - Lignes indépendantes : hachage 64 bits de la clé à graine aléatoire par instance, puis double
+ *   hachage h1 + ligne x h2 ; deux clés de même hashCode() ne partagent donc pas leurs compteurs,
+ *   et les collisions ne sont pas calculables de l'extérieur
+ * - Vérification avant tout calcul BCrypt ; rejets comptés par type de clé
+ */
+@ApplicationScoped
+@Slf4j
+public class LoginThrottle {
+    
+    static final String REJECTED_COUNTER = "rdq.auth.login.throttled";
+    
+    private static final int DEPTH = 4;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.auth.throttle.window", defaultValue = "1M")
+    Duration window;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.auth.throttle.max-per-ip", defaultValue = "30")
+    int maxPerIp;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.auth.throttle.max-per-email", defaultValue = "10")
+    int maxPerEmail;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.auth.throttle.width", defaultValue = "4096")
+    int width;
+    
+    private long windowMillis;
+    private int mask;
+    private long seed;
+    
+    /**
+     * Fenêtres courante et précédente, remplacées ensemble à chaque rotation (CAS)
+     */
+    private final AtomicReference<Windows> windows = new AtomicReference<>();
+    
+    @PostConstruct
+    void init() {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalStateException("rdq.auth.throttle.width doit être une puissance de 2");
+        }
+        windowMillis = window.toMillis();
+        mask = width - 1;
+        seed = new SecureRandom().nextLong();
+        windows.set(new Windows(System.currentTimeMillis() / windowMillis, newSketch(), newSketch()));
+    }
+    
+    /**
+     * Enregistre une tentative de connexion, ou la refuse si l'IP ou l'email a dépassé sa limite
+     * TooManyAttemptsException levée avant toute vérification du mot de passe
+     */
+    public void checkAndRecord(String clientIp, String email) {
+        String ipKey = "ip:" + clientIp;
+        String emailKey = "email:" + (email != null ? email.toLowerCase(Locale.ROOT) : "");
+        
+        long now = System.currentTimeMillis();
+        Windows current = rotateIfNeeded(now);
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+        
+        if (estimate(current, ipKey, previousWeight) >= maxPerIp) {
+            reject("ip", clientIp);
+        }
+        if (estimate(current, emailKey, previousWeight) >= maxPerEmail) {
+            reject("email", clientIp);
+        }
+        
+        increment(current.current(), ipKey);
+        increment(current.current(), emailKey);
+    }
+    
+    // ========== Méthodes privées ==========
+    
+    private void reject(String keyType, String clientIp) {
+        Metrics.counter(REJECTED_COUNTER, "key", keyType).increment();
+        log.warn("Login attempt throttled by {} limit from IP: {}", keyType, clientIp);
+        throw new TooManyAttemptsException("Trop de tentatives de connexion, réessayez plus tard",
+                Math.max(1, windowMillis / 1000));
+    }
+    
+    private Windows rotateIfNeeded(long now) {
+        long index = now / windowMillis;
+        while (true) {
+            Windows current = windows.get();
+            if (current.index() >= index) {
+                return current;
+            }
+            // Fenêtre suivante : la courante devient la précédente ; au-delà, tout est expiré
+            AtomicIntegerArray previous = current.index() == index - 1 ? current.current() : newSketch();
+            Windows rotated = new Windows(index, newSketch(), previous);
+            if (windows.compareAndSet(current, rotated)) {
+                return rotated;
+            }
+        }
+    }
+    
+    private double estimate(Windows windows, String key, double previousWeight) {
+        return min(windows.current(), key) + previousWeight * min(windows.previous(), key);
+    }
+    
+    private int min(AtomicIntegerArray sketch, String key) {
+        long hash = hash(key);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, sketch.get(slot(row, hash)));
+        }
+        return min;
+    }
+    
+    private void increment(AtomicIntegerArray sketch, String key) {
+        long hash = hash(key);
+        for (int row = 0; row < DEPTH; row++) {
+            sketch.incrementAndGet(slot(row, hash));
+        }
+    }
+    
+    /**
+     * Double hachage : deux clés en collision dans une ligne se séparent dans les suivantes dès que leurs h2 diffèrent
+     */
+    private int slot(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & mask);
+    }
+    
+    /**
+     * FNV-1a 64 bits sur les caractères de la clé, initialisé par la graine de l'instance,
+     * suivi du finaliseur MurmurHash3 64 bits pour disperser les bits
+     */
+    private long hash(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    private AtomicIntegerArray newSketch() {
+        return new AtomicIntegerArray(DEPTH * width);
+    }
+    
+    private record Windows(long index, AtomicIntegerArray current, AtomicIntegerArray previous) {
+    }
+}
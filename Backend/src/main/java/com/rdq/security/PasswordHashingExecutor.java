@@ -0,0 +1,160 @@
+package com.rdq.security;
+
+import com.rdq.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exécuteur dédié et borné pour les calculs BCrypt (hachage et vérification)
+ * - Un thread par cœur : BCrypt est purement CPU, plus de threads n'apporte rien
+ * - File d'attente bornée, rejet immédiat quand elle est pleine (contrôle d'admission) :
+ *   un pic de connexions ne peut plus accaparer les threads des autres requêtes
+ * - rdq.password.executor.timeout borne l'attente en file uniquement : BCrypt n'est pas interruptible,
+ *   un calcul commencé est donc toujours attendu jusqu'à son terme (au plus le coût d'un hachage)
+ * - Métriques : profondeur de file, durée de calcul, attente en file et rejets par opération
+ */
+@ApplicationScoped
+@Slf4j
+public class PasswordHashingExecutor {
+    
+    static final String QUEUE_DEPTH_GAUGE = "rdq.password.executor.queue.depth";
+    static final String HASH_TIMER = "rdq.password.hash";
+    static final String QUEUE_WAIT_TIMER = "rdq.password.executor.queue.wait";
+    static final String REJECTED_COUNTER = "rdq.password.executor.rejected";
+    
+    private static final long RETRY_AFTER_SECONDS = 1;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.password.executor.pool-size")
+    Optional<Integer> poolSize;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.password.executor.queue-capacity", defaultValue = "64")
+    int queueCapacity;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.password.executor.timeout", defaultValue = "10S")
+    Duration timeout;
+    
+    ThreadPoolExecutor executor;
+    
+    /**
+     * Constructeur CDI : réglages injectés depuis rdq.password.executor.*
+     */
+    public PasswordHashingExecutor() {
+    }
+    
+    /**
+     * Construction hors conteneur (benchmarks), pool démarré ; stop() à appeler en fin d'utilisation
+     */
+    public PasswordHashingExecutor(Optional<Integer> poolSize, int queueCapacity, Duration timeout) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        start();
+    }
+    
+    @PostConstruct
+    void start() {
+        int threads = poolSize.orElse(Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+        
+        Metrics.gauge(QUEUE_DEPTH_GAUGE, executor, pool -> pool.getQueue().size());
+        log.info("Password hashing executor started: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Exécute un calcul BCrypt sur le pool dédié et attend son résultat
+     * ServiceOverloadedException si la file est pleine ou si le calcul n'a pas commencé dans le délai
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null; // abandonné par l'appelant après le délai d'attente en file
+                }
+                Metrics.timer(QUEUE_WAIT_TIMER, "operation", operation)
+                       .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                Timer.Sample sample = Timer.start();
+                try {
+                    return task.call();
+                } finally {
+                    sample.stop(Metrics.timer(HASH_TIMER, "operation", operation));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            Metrics.counter(REJECTED_COUNTER, "operation", operation).increment();
+            log.warn("Password hashing queue full, rejecting {} request", operation);
+            throw new ServiceOverloadedException("Service momentanément saturé, réessayez", RETRY_AFTER_SECONDS);
+        }
+        
+        try {
+            return awaitResult(operation, future, claimed);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Calcul du mot de passe interrompu", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Erreur lors du calcul du mot de passe", cause);
+        }
+    }
+    
+    private <T> T awaitResult(String operation, Future<T> future, AtomicBoolean claimed)
+            throws InterruptedException, ExecutionException {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Encore en file : abandonné sans être calculé ; déjà commencé : résultat attendu
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+                executor.purge();
+                Metrics.counter(REJECTED_COUNTER, "operation", operation).increment();
+                log.warn("Password hashing queue wait exceeded {}, rejecting {} request", timeout, operation);
+                throw new ServiceOverloadedException("Service momentanément saturé, réessayez", RETRY_AFTER_SECONDS);
+            }
+            return future.get();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.rdq.security;
 
 import io.quarkus.elytron.security.common.BcryptUtil;
 import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.regex.Pattern;
@@ -11,11 +12,15 @@ import java.util.regex.Pattern;
  * - Utilisation de Quarkus Security natif pour le hachage
  * - Validation forte des mots de passe
  * - Conformité OWASP pour l'authentification
+ * - Calculs BCrypt délégués à PasswordHashingExecutor (pool dédié et borné)
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 @Slf4j
 public class PasswordService {
     
+    private final PasswordHashingExecutor hashingExecutor;
+    
     // Pattern pour validation mot de passe fort
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(
         "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$"
@@ -31,7 +36,7 @@ public class PasswordService {
         }
         
         // Utilisation de BCrypt via Quarkus Security (recommandé OWASP)
-        String hashedPassword = BcryptUtil.bcryptHash(password);
+        String hashedPassword = hashingExecutor.execute("hash", () -> BcryptUtil.bcryptHash(password));
         
         log.debug("Password hashed successfully");
         return hashedPassword;
@@ -40,24 +45,20 @@ public class PasswordService {
     /**
      * Vérification du mot de passe avec Quarkus Security natif
      * OWASP A02 - Vérification sécurisée des mots de passe
+     * ServiceOverloadedException si le pool BCrypt est saturé
      */
     public boolean verifyPassword(String password, String hashedPassword) {
         if (password == null || hashedPassword == null) {
             return false;
         }
         
-        try {
-            boolean isValid = BcryptUtil.matches(password, hashedPassword);
-            
-            if (!isValid) {
-                log.warn("Password verification failed");
-            }
-            
-            return isValid;
-        } catch (Exception e) {
-            log.error("Error during password verification", e);
-            return false;
+        boolean isValid = hashingExecutor.execute("verify", () -> matches(password, hashedPassword));
+        
+        if (!isValid) {
+            log.warn("Password verification failed");
         }
+        
+        return isValid;
     }
     
     /**
@@ -113,6 +114,15 @@ public class PasswordService {
     
     // ========== Méthodes privées ==========
     
+    private static boolean matches(String password, String hashedPassword) {
+        try {
+            return BcryptUtil.matches(password, hashedPassword);
+        } catch (Exception e) {
+            log.error("Error during password verification", e);
+            return false;
+        }
+    }
+    
     private char getRandomChar(String chars) {
         return chars.charAt((int) (Math.random() * chars.length()));
     }
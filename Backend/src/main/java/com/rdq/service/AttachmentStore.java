@@ -0,0 +1,284 @@
+package com.rdq.service;
+
+import com.rdq.exception.ChecksumMismatchException;
+import com.rdq.exception.ValidationException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Magasin local du contenu des pièces jointes, adressé par empreinte SHA-256
+ * - Fichier blobs/ab/cd/abcd... : un contenu identique (même CV joint à plusieurs RDQ) n'est stocké qu'une fois
+ * - Écriture dans staging/ puis renommage atomique : un fichier de blobs/ est toujours complet
+ * - Envois en plusieurs blocs : fichier partiel uploads/<id>.part écrit par positions ; chaque bloc est d'abord
+ *   reçu en entier dans staging/, le contenu finalisé est la copie vérifiée dans staging/
+ * - Fichiers immuables : jamais réécrits une fois en place
+ * - Copie par FileChannel et tampon direct de taille fixe, le contenu ne transite pas par le tas
+ */
+@ApplicationScoped
+@Slf4j
+public class AttachmentStore {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    @Inject
+    @ConfigProperty(name = "rdq.attachments.storage-path", defaultValue = "data/attachments")
+    String storagePath;
+
+    private Path blobs;
+    private Path staging;
+    private Path uploads;
+
+    @PostConstruct
+    void init() throws IOException {
+        Path root = Path.of(storagePath).toAbsolutePath();
+        blobs = Files.createDirectories(root.resolve("blobs"));
+        staging = Files.createDirectories(root.resolve("staging"));
+        uploads = Files.createDirectories(root.resolve("uploads"));
+        log.info("Attachment store: {}", root);
+    }
+
+    /**
+     * Copie de source dans le magasin ; l'empreinte est calculée pendant la copie (une seule lecture)
+     */
+    public Blob store(Path source) throws IOException {
+        Path staged = Files.createTempFile(staging, "upload-", PARTIAL_SUFFIX);
+        try {
+            Blob blob = copyHashing(source, staged);
+            return promote(staged, blob.sha256, blob.size);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    /**
+     * Fichier partiel vide d'un envoi en plusieurs blocs
+     */
+    public void createPartial(String uploadId) throws IOException {
+        Files.createFile(partialPath(uploadId));
+    }
+
+    /**
+     * Écriture d'un bloc de length octets (Content-Length du bloc) à partir de position
+     * - Bloc reçu en entier dans staging/ avant d'être copié : un bloc coupé, tronqué ou trop long
+     *   ne modifie pas le fichier partiel
+     * - Copie positionnelle : des blocs disjoints d'un même fichier peuvent être écrits en parallèle,
+     *   dans n'importe quel ordre (le fichier s'étend avec des trous comblés par les blocs suivants)
+     */
+    public void writePartial(String uploadId, long position, long length, InputStream content) throws IOException {
+        Path partial = partialPath(uploadId);
+        if (!Files.exists(partial)) {
+            throw new NoSuchFileException(partial.toString());
+        }
+
+        Path chunk = Files.createTempFile(staging, "chunk-", PARTIAL_SUFFIX);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+            long received = 0;
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(chunk, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    received += buffer.remaining();
+                    if (received > length) {
+                        throw new ValidationException("Bloc plus long que les " + length + " octets annoncés");
+                    }
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            if (received < length) {
+                throw new ValidationException("Bloc tronqué : " + received + " octets reçus sur " + length + " annoncés");
+            }
+
+            try (FileChannel in = FileChannel.open(chunk, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(partial, StandardOpenOption.WRITE)) {
+                out.position(position);
+                long copied = 0;
+                while (copied < length) {
+                    copied += in.transferTo(copied, length - copied, out);
+                }
+                out.force(false);
+            }
+        } finally {
+            Files.deleteIfExists(chunk);
+        }
+    }
+
+    /**
+     * Mise en place du contenu d'un envoi, si son empreinte est celle annoncée par le client
+     * - Fichier partiel copié dans staging/ en calculant l'empreinte : la copie contrôlée est celle mise en place,
+     *   un bloc écrit pendant la finalisation ne peut plus modifier le contenu vérifié
+     * - check : contrôle de la copie (signature du type) avant l'empreinte
+     * - En cas d'écart le fichier partiel est conservé : les blocs fautifs peuvent être renvoyés
+     */
+    public Blob adopt(String uploadId, String expectedSha256, Consumer<Path> check) throws IOException {
+        Path partial = partialPath(uploadId);
+        Path staged = Files.createTempFile(staging, "upload-", PARTIAL_SUFFIX);
+        try {
+            Blob blob = copyHashing(partial, staged);
+            check.accept(staged);
+            if (!blob.sha256.equals(expectedSha256)) {
+                throw new ChecksumMismatchException();
+            }
+            promote(staged, blob.sha256, blob.size);
+            Files.deleteIfExists(partial);
+            return blob;
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    public void deletePartial(String uploadId) throws IOException {
+        Files.deleteIfExists(partialPath(uploadId));
+    }
+
+    public boolean hasPartial(String uploadId) {
+        return Files.exists(partialPath(uploadId));
+    }
+
+    /**
+     * Chemin du fichier partiel d'un envoi (lecture de la signature avant finalisation)
+     */
+    public Path partialPath(String uploadId) {
+        if (!UUID.fromString(uploadId).toString().equals(uploadId)) {
+            throw new IllegalArgumentException("Identifiant d'envoi invalide");
+        }
+        return uploads.resolve(uploadId + PARTIAL_SUFFIX);
+    }
+
+    /**
+     * Envois dont le fichier partiel n'a reçu aucun bloc depuis cutoff (date de dernière écriture)
+     */
+    public List<String> stalePartials(Instant cutoff) throws IOException {
+        try (Stream<Path> files = Files.list(uploads)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(PARTIAL_SUFFIX))
+                        .filter(file -> lastModified(file).isBefore(cutoff))
+                        .map(file -> {
+                            String name = file.getFileName().toString();
+                            return name.substring(0, name.length() - PARTIAL_SUFFIX.length());
+                        })
+                        .toList();
+        }
+    }
+
+    /**
+     * Chemin du contenu d'empreinte sha256 (fichier supposé présent : référencé par une pièce jointe)
+     */
+    public Path resolve(String sha256) {
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Empreinte SHA-256 invalide");
+        }
+        return blobs.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /**
+     * Mise en place d'un fichier complet de staging/ : renommé si le contenu est nouveau, laissé sinon
+     */
+    private Blob promote(Path staged, String sha256, long size) throws IOException {
+        Path target = resolve(sha256);
+        if (Files.exists(target)) {
+            log.debug("Attachment content already stored: {}", sha256);
+            return new Blob(sha256, size);
+        }
+
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Même contenu enregistré en parallèle : le fichier en place est identique
+            log.debug("Attachment content stored concurrently: {}", sha256);
+        }
+        return new Blob(sha256, size);
+    }
+
+    /**
+     * Copie de source vers target, empreinte calculée au passage (une seule lecture)
+     */
+    private static Blob copyHashing(Path source, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                size += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            out.force(true);
+        }
+        return new Blob(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            // Fichier supprimé entre-temps (envoi finalisé ou abandonné)
+            return Instant.MAX;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    /**
+     * Contenu enregistré : empreinte (clé du magasin) et taille en octets
+     */
+    public static final class Blob {
+        private final String sha256;
+        private final long size;
+
+        Blob(String sha256, long size) {
+            this.sha256 = sha256;
+            this.size = size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
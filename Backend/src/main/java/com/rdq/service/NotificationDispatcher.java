@@ -0,0 +1,146 @@
+package com.rdq.service;
+
+import com.rdq.entity.NotificationOutboxEntity;
+import com.rdq.repository.NotificationOutboxRepository;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.Mailer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envoi en arrière-plan des notifications de l'outbox
+ * - Réclamation par lots dans une transaction courte (SKIP LOCKED + bail)
+ * - Envoi SMTP hors transaction : aucune connexion JDBC retenue pendant l'envoi
+ * - Résultats du lot enregistrés dans une seconde transaction courte
+ * - Nouvel essai avec attente exponentielle, abandon après max-attempts
+ * - Métriques : durée d'envoi, délai écriture → envoi, taille du backlog
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+    
+    static final String DELIVERY_TIMER = "rdq.notification.delivery";
+    static final String LAG_TIMER = "rdq.notification.lag";
+    static final String BACKLOG_GAUGE = "rdq.notification.outbox.backlog";
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    
+    private final NotificationOutboxRepository outboxRepository;
+    private final Mailer mailer;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.notification.outbox.batch-size", defaultValue = "50")
+    int batchSize;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.notification.outbox.lease", defaultValue = "5M")
+    Duration lease;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.notification.outbox.max-attempts", defaultValue = "8")
+    int maxAttempts;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.notification.outbox.retry-base-delay", defaultValue = "30S")
+    Duration retryBaseDelay;
+    
+    private final AtomicLong backlog = new AtomicLong();
+    
+    @PostConstruct
+    void registerMetrics() {
+        Metrics.gauge(BACKLOG_GAUGE, backlog);
+    }
+    
+    /**
+     * Dépile l'outbox tant que des lots complets sont réclamés
+     */
+    @Scheduled(every = "${rdq.notification.outbox.poll-interval:5s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void dispatchPending() {
+        List<NotificationOutboxEntity> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            batch = QuarkusTransaction.requiringNew()
+                    .call(() -> outboxRepository.claimDue(now, now.plus(lease), batchSize));
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } while (batch.size() == batchSize);
+        
+        backlog.set(QuarkusTransaction.requiringNew().call(outboxRepository::countPending));
+    }
+    
+    // ========== Méthodes privées ==========
+    
+    private void deliver(List<NotificationOutboxEntity> batch) {
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<NotificationOutboxEntity> failures = new ArrayList<>();
+        
+        for (NotificationOutboxEntity message : batch) {
+            Timer.Sample sample = Timer.start();
+            try {
+                mailer.send(Mail.withText(message.recipient, message.subject, message.body));
+                sample.stop(Metrics.timer(DELIVERY_TIMER, "outcome", "sent"));
+                Metrics.timer(LAG_TIMER).record(Duration.between(message.createdAt, LocalDateTime.now()));
+                sentIds.add(message.id);
+            } catch (Exception e) {
+                sample.stop(Metrics.timer(DELIVERY_TIMER, "outcome", "failed"));
+                log.warn("Notification delivery failed: id={}, type={}, attempt={}",
+                        message.id, message.notificationType, message.attempts + 1, e);
+                message.lastError = truncate(e.getMessage());
+                failures.add(message);
+            }
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        QuarkusTransaction.requiringNew().run(() -> {
+            outboxRepository.markSent(sentIds, now);
+            failures.forEach(message -> recordFailure(message, now));
+        });
+        
+        log.debug("Notification batch delivered: sent={}, failed={}", sentIds.size(), failures.size());
+    }
+    
+    private void recordFailure(NotificationOutboxEntity message, LocalDateTime now) {
+        int attempts = message.attempts + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Notification abandoned after {} attempts: id={}, type={}",
+                    attempts, message.id, message.notificationType);
+            outboxRepository.markFailed(message.id, attempts, message.lastError);
+        } else {
+            outboxRepository.markRetry(message.id, attempts, now.plus(retryDelay(attempts)), message.lastError);
+        }
+    }
+    
+    /**
+     * Attente exponentielle : base * 2^(essais - 1), plafonnée à une heure
+     */
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+    
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -1,29 +1,46 @@
 package com.rdq.service;
 
+import com.rdq.entity.NotificationOutboxEntity;
 import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqStatus;
 import com.rdq.entity.UserEntity;
+import com.rdq.repository.NotificationOutboxRepository;
+import com.rdq.repository.RdqRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service de notification selon les instructions Backend
  * - @ApplicationScoped pour CDI
  * - @Slf4j (Lombok) pour logging automatique
- * - Simulation des notifications (à implémenter selon les besoins)
+ * - Aucun envoi synchrone : chaque notification est écrite dans l'outbox
+ *   dans la transaction de l'appelant (MANDATORY), puis envoyée par NotificationDispatcher.
+ *   La latence SMTP ne retient donc aucune connexion du pool.
  */
 @ApplicationScoped
+@Transactional(Transactional.TxType.MANDATORY)
+@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
     
+    private final NotificationOutboxRepository outboxRepository;
+    
     /**
      * Notification de création de RDQ
      */
     public void sendRdqCreatedNotification(RdqEntity rdq) {
-        log.info("Sending RDQ created notification: rdqId={}, user={}", 
+        log.info("Queueing RDQ created notification: rdqId={}, user={}", 
                 rdq.id, rdq.user.email);
         
-        // TODO: Implémenter l'envoi d'email/notification
-        // Exemple: envoi d'email à l'utilisateur confirmant la création
+        enqueue("RDQ_CREATED", rdq, rdq.user,
+                "RDQ créée : " + rdq.title,
+                "Votre RDQ \"" + rdq.title + "\" a été créée en brouillon.");
     }
     
     /**
@@ -31,11 +48,12 @@ public class NotificationService {
      */
     public void sendRdqSubmittedNotification(RdqEntity rdq) {
         if (rdq.user.manager != null) {
-            log.info("Sending RDQ submitted notification: rdqId={}, manager={}", 
+            log.info("Queueing RDQ submitted notification: rdqId={}, manager={}", 
                     rdq.id, rdq.user.manager.email);
             
-            // TODO: Implémenter l'envoi d'email au manager
-            // Exemple: notification au manager qu'une RDQ attend son approbation
+            enqueue("RDQ_SUBMITTED", rdq, rdq.user.manager,
+                    "RDQ à valider : " + rdq.title,
+                    rdq.user.getFullName() + " a soumis la RDQ \"" + rdq.title + "\" pour approbation.");
         }
     }
     
@@ -43,33 +61,49 @@ public class NotificationService {
      * Notification d'approbation de RDQ
      */
     public void sendRdqApprovedNotification(RdqEntity rdq) {
-        log.info("Sending RDQ approved notification: rdqId={}, user={}", 
+        log.info("Queueing RDQ approved notification: rdqId={}, user={}", 
                 rdq.id, rdq.user.email);
         
-        // TODO: Implémenter l'envoi d'email à l'utilisateur
-        // Exemple: notification d'approbation de la RDQ
+        outboxRepository.persist(decisionMessage(RdqStatus.APPROVED, rdq.id, rdq.user.email,
+                                                 rdq.title, rdq.managerComment));
     }
     
     /**
      * Notification de rejet de RDQ
      */
     public void sendRdqRejectedNotification(RdqEntity rdq) {
-        log.info("Sending RDQ rejected notification: rdqId={}, user={}", 
+        log.info("Queueing RDQ rejected notification: rdqId={}, user={}", 
                 rdq.id, rdq.user.email);
         
-        // TODO: Implémenter l'envoi d'email à l'utilisateur
-        // Exemple: notification de rejet avec commentaire du manager
+        outboxRepository.persist(decisionMessage(RdqStatus.REJECTED, rdq.id, rdq.user.email,
+                                                 rdq.title, rdq.managerComment));
+    }
+    
+    /**
+     * Notifications d'une décision groupée (approbation ou rejet), écrites dans l'outbox en un lot
+     */
+    public void sendRdqDecisionNotifications(List<RdqRepository.DecisionCandidate> decided,
+                                             RdqStatus status, String comment) {
+        log.info("Queueing {} RDQ {} notifications", decided.size(), status);
+        
+        List<NotificationOutboxEntity> messages = new ArrayList<>(decided.size());
+        for (RdqRepository.DecisionCandidate rdq : decided) {
+            messages.add(decisionMessage(status, rdq.getId(), rdq.getOwnerEmail(), rdq.getTitle(), comment));
+        }
+        outboxRepository.persist(messages);
     }
     
     /**
      * Notification de demande d'informations complémentaires
      */
     public void sendRdqPendingInfoNotification(RdqEntity rdq) {
-        log.info("Sending RDQ pending info notification: rdqId={}, user={}", 
+        log.info("Queueing RDQ pending info notification: rdqId={}, user={}", 
                 rdq.id, rdq.user.email);
         
-        // TODO: Implémenter l'envoi d'email à l'utilisateur
-        // Exemple: demande d'informations complémentaires
+        enqueue("RDQ_PENDING_INFO", rdq, rdq.user,
+                "Informations demandées : " + rdq.title,
+                "Des informations complémentaires sont demandées pour votre RDQ \"" + rdq.title + "\"."
+                        + commentOf(rdq));
     }
     
     /**
@@ -77,11 +111,12 @@ public class NotificationService {
      */
     public void sendRdqReminderNotification(RdqEntity rdq) {
         if (rdq.user.manager != null) {
-            log.info("Sending RDQ reminder notification: rdqId={}, manager={}", 
+            log.info("Queueing RDQ reminder notification: rdqId={}, manager={}", 
                     rdq.id, rdq.user.manager.email);
             
-            // TODO: Implémenter l'envoi de rappel au manager
-            // Exemple: rappel pour RDQ en attente depuis X jours
+            enqueue("RDQ_REMINDER", rdq, rdq.user.manager,
+                    "Rappel : RDQ en attente - " + rdq.title,
+                    "La RDQ \"" + rdq.title + "\" de " + rdq.user.getFullName() + " attend votre décision.");
         }
     }
     
@@ -89,9 +124,48 @@ public class NotificationService {
      * Notification de bienvenue pour nouvel utilisateur
      */
     public void sendWelcomeNotification(UserEntity user) {
-        log.info("Sending welcome notification: user={}", user.email);
+        log.info("Queueing welcome notification: user={}", user.email);
         
-        // TODO: Implémenter l'envoi d'email de bienvenue
-        // Exemple: email de bienvenue avec instructions de première connexion
+        enqueue("WELCOME", null, user,
+                "Bienvenue sur l'application RDQ",
+                "Bonjour " + user.firstName + ", votre compte a été créé.");
+    }
+    
+    // ========== Méthodes privées ==========
+    
+    private void enqueue(String type, RdqEntity rdq, UserEntity recipient, String subject, String body) {
+        outboxRepository.persist(message(type, rdq != null ? rdq.id : null, recipient.email, subject, body));
+    }
+    
+    /**
+     * Message d'approbation ou de rejet, commun à la décision unitaire et groupée
+     */
+    private static NotificationOutboxEntity decisionMessage(RdqStatus status, Long rdqId, String recipient,
+                                                            String title, String comment) {
+        boolean approved = status == RdqStatus.APPROVED;
+        return message(approved ? "RDQ_APPROVED" : "RDQ_REJECTED", rdqId, recipient,
+                       (approved ? "RDQ approuvée : " : "RDQ rejetée : ") + title,
+                       "Votre RDQ \"" + title + "\" a été " + (approved ? "approuvée." : "rejetée.")
+                               + commentOf(comment));
+    }
+    
+    private static NotificationOutboxEntity message(String type, Long rdqId, String recipient,
+                                                    String subject, String body) {
+        NotificationOutboxEntity message = new NotificationOutboxEntity();
+        message.notificationType = type;
+        message.rdqId = rdqId;
+        message.recipient = recipient;
+        message.subject = subject.length() > 255 ? subject.substring(0, 255) : subject;
+        message.body = body;
+        message.nextAttemptAt = LocalDateTime.now();
+        return message;
+    }
+    
+    private static String commentOf(RdqEntity rdq) {
+        return commentOf(rdq.managerComment);
+    }
+    
+    private static String commentOf(String comment) {
+        return comment != null ? "\nCommentaire du manager : " + comment : "";
     }
-}
\ No newline at end of file
+}
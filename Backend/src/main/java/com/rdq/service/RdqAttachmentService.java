@@ -0,0 +1,236 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqAttachmentDto;
+import com.rdq.entity.AttachmentKind;
+import com.rdq.entity.RdqAttachmentEntity;
+import com.rdq.exception.AttachmentNotFoundException;
+import com.rdq.exception.ValidationException;
+import com.rdq.mapper.RdqAttachmentMapper;
+import com.rdq.repository.RdqAttachmentRepository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pièces jointes des RDQ (CV, fiche de poste...)
+ * - Droits : ceux de la lecture de la RDQ (propriétaire ou son manager), pour l'ajout comme pour la lecture
+ * - Types acceptés : liste fermée, vérifiée sur la signature du fichier et pas seulement sur le type déclaré
+ * - Contenu copié dans AttachmentStore hors transaction ; seule l'écriture des métadonnées est transactionnelle
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class RdqAttachmentService {
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP = {'P', 'K', 3, 4};
+    private static final byte[] OLE2 = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+                                        (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final int SIGNATURE_LENGTH = 8;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    /**
+     * Types de contenu acceptés et signature attendue en tête de fichier
+     */
+    private static final Map<String, byte[]> SIGNATURES = Map.of(
+            "application/pdf", PDF,
+            "application/msword", OLE2,
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", ZIP,
+            "application/vnd.oasis.opendocument.text", ZIP,
+            "image/png", PNG,
+            "image/jpeg", JPEG);
+
+    private final RdqAttachmentRepository attachmentRepository;
+    private final RdqAttachmentMapper attachmentMapper;
+    private final RdqService rdqService;
+    private final AttachmentStore store;
+
+    @Inject
+    @ConfigProperty(name = "rdq.attachments.max-size", defaultValue = "20M")
+    MemorySize maxSize;
+
+    /**
+     * Ajout d'une pièce jointe depuis un fichier temporaire (réception multipart)
+     */
+    public RdqAttachmentDto addAttachment(Long rdqId, AttachmentKind kind, String fileName, String contentType,
+                                          Path content, Long userId) {
+        rdqService.verifyReadAccess(rdqId, userId);
+        String mediaType = acceptedMediaType(contentType);
+        try {
+            checkSize(Files.size(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture de la pièce jointe impossible", e);
+        }
+        checkSignature(content, mediaType);
+
+        AttachmentStore.Blob blob;
+        try {
+            blob = store.store(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture de la pièce jointe impossible", e);
+        }
+
+        return QuarkusTransaction.requiringNew()
+                .call(() -> saveAttachment(rdqId, kind, fileName, mediaType, blob, userId));
+    }
+
+    /**
+     * Enregistrement des métadonnées d'un contenu déjà placé dans le magasin (transaction de l'appelant)
+     */
+    RdqAttachmentDto saveAttachment(Long rdqId, AttachmentKind kind, String fileName, String mediaType,
+                                    AttachmentStore.Blob blob, Long userId) {
+        RdqAttachmentEntity entity = new RdqAttachmentEntity();
+        entity.rdqId = rdqId;
+        entity.kind = kind;
+        entity.fileName = sanitizeFileName(fileName);
+        entity.contentType = mediaType;
+        entity.sizeBytes = blob.getSize();
+        entity.sha256 = blob.getSha256();
+        entity.uploadedBy = userId;
+        attachmentRepository.persist(entity);
+
+        log.info("Attachment added: rdq={}, id={}, size={}", rdqId, entity.id, entity.sizeBytes);
+        return attachmentMapper.toDto(entity);
+    }
+
+    @Transactional
+    public List<RdqAttachmentDto> listAttachments(Long rdqId, Long userId) {
+        rdqService.verifyReadAccess(rdqId, userId);
+        return attachmentMapper.toDtoList(attachmentRepository.listByRdq(rdqId));
+    }
+
+    /**
+     * Pièce jointe à télécharger : métadonnées et chemin du contenu dans le magasin
+     */
+    @Transactional
+    public StoredAttachment getAttachment(Long rdqId, Long attachmentId, Long userId) {
+        rdqService.verifyReadAccess(rdqId, userId);
+        RdqAttachmentEntity entity = attachmentRepository.findByRdqAndId(rdqId, attachmentId);
+        if (entity == null) {
+            throw new AttachmentNotFoundException(attachmentId);
+        }
+        return new StoredAttachment(entity.id, entity.fileName, entity.contentType, entity.sizeBytes,
+                                    entity.sha256, entity.createdAt, store.resolve(entity.sha256));
+    }
+
+    /**
+     * Type déclaré sans paramètres, s'il fait partie des types acceptés
+     */
+    String acceptedMediaType(String contentType) {
+        String mediaType = contentType == null ? ""
+                : contentType.split(";", 2)[0].strip().toLowerCase(Locale.ROOT);
+        if (!SIGNATURES.containsKey(mediaType)) {
+            throw new ValidationException("Type de fichier non accepté : PDF, Word, OpenDocument, PNG ou JPEG");
+        }
+        return mediaType;
+    }
+
+    void checkSize(long size) {
+        if (size > maxSize.asLongValue()) {
+            throw new ValidationException("Fichier trop volumineux (maximum " + maxSize.asLongValue() + " octets)");
+        }
+    }
+
+    /**
+     * Signature en tête de fichier conforme au type déclaré (mediaType issu de acceptedMediaType)
+     */
+    void checkSignature(Path content, String mediaType) {
+        byte[] expected = SIGNATURES.get(mediaType);
+        byte[] header;
+        try (InputStream in = Files.newInputStream(content)) {
+            header = in.readNBytes(SIGNATURE_LENGTH);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture de la pièce jointe impossible", e);
+        }
+
+        if (header.length < expected.length
+                || !Arrays.equals(header, 0, expected.length, expected, 0, expected.length)) {
+            throw new ValidationException("Le contenu du fichier ne correspond pas au type " + mediaType);
+        }
+    }
+
+    /**
+     * Nom de fichier affiché et renvoyé au téléchargement : sans chemin ni caractères de contrôle
+     */
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName == null ? "" : fileName;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1)
+                   .replaceAll("\\p{Cntrl}", "")
+                   .strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            name = "piece-jointe";
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    /**
+     * Pièce jointe résolue dans le magasin, prête à être envoyée
+     */
+    public static final class StoredAttachment {
+        private final Long id;
+        private final String fileName;
+        private final String contentType;
+        private final long size;
+        private final String sha256;
+        private final LocalDateTime createdAt;
+        private final Path content;
+
+        StoredAttachment(Long id, String fileName, String contentType, long size, String sha256,
+                         LocalDateTime createdAt, Path content) {
+            this.id = id;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.size = size;
+            this.sha256 = sha256;
+            this.createdAt = createdAt;
+            this.content = content;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public Path getContent() {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqStatusEventDto;
+
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Diffusion des transitions de statut aux connexions SSE ouvertes
+ * - Connexions indexées par utilisateur : une transition n'est poussée qu'au propriétaire et à son manager
+ * - Diffusion non bloquante : emit dépose l'élément dans le tampon borné de la connexion,
+ *   l'écriture réseau est asynchrone (Vert.x)
+ * - Client trop lent (tampon plein) : connexion fermée, le client se reconnecte et recharge son état
+ * - Heartbeat périodique unique pour toutes les connexions (proxies, détection des connexions mortes)
+ * - Nombre de connexions par utilisateur borné : la plus ancienne est fermée au-delà
+ */
+@ApplicationScoped
+@Slf4j
+public class RdqEventBroadcaster {
+
+    static final String CONNECTIONS_GAUGE = "rdq.events.connections";
+    static final String OVERFLOW_COUNTER = "rdq.events.overflow";
+
+    @Inject
+    @ConfigProperty(name = "rdq.events.buffer-size", defaultValue = "32")
+    int bufferSize;
+
+    @Inject
+    @ConfigProperty(name = "rdq.events.max-connections-per-user", defaultValue = "10")
+    int maxConnectionsPerUser;
+
+    private final Map<Long, List<Connection<?>>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    @PostConstruct
+    void registerGauge() {
+        Metrics.gauge(CONNECTIONS_GAUGE, connectionCount);
+    }
+
+    /**
+     * Flux des transitions visibles par userId, converties par onChange ; heartbeat produit le signal de vie
+     * La connexion est enregistrée à l'abonnement et retirée à l'annulation (déconnexion du client)
+     */
+    public <T> Multi<T> subscribe(Long userId, Function<RdqStatusEventDto, T> onChange, Supplier<T> heartbeat) {
+        return Multi.createFrom().<T>emitter(
+                        emitter -> register(userId, new Connection<>(emitter, onChange, heartbeat)),
+                        BackPressureStrategy.ERROR)
+                .onOverflow().buffer(bufferSize)
+                .onFailure(BackPressureFailure.class).invoke(() -> {
+                    Metrics.counter(OVERFLOW_COUNTER).increment();
+                    log.debug("SSE connection closed on full buffer: user={}", userId);
+                });
+    }
+
+    /**
+     * Transition validée : poussée aux connexions du propriétaire et de son manager
+     */
+    void onStatusChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) RdqStatusChangedEvent event) {
+        send(event.getOwnerId(), event.getPayload());
+        if (event.getOwnerManagerId() != null && !event.getOwnerManagerId().equals(event.getOwnerId())) {
+            send(event.getOwnerManagerId(), event.getPayload());
+        }
+    }
+
+    @Scheduled(every = "${rdq.events.heartbeat-interval:20s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void heartbeat() {
+        connections.values().forEach(list -> list.forEach(Connection::heartbeat));
+    }
+
+    private void send(Long userId, RdqStatusEventDto payload) {
+        List<Connection<?>> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.forEach(connection -> connection.send(payload));
+        }
+    }
+
+    private void register(Long userId, Connection<?> connection) {
+        Connection<?>[] evicted = new Connection<?>[1];
+        connections.compute(userId, (id, list) -> {
+            List<Connection<?>> updated = list != null ? list : new CopyOnWriteArrayList<>();
+            if (updated.size() >= maxConnectionsPerUser) {
+                evicted[0] = updated.remove(0);
+            }
+            updated.add(connection);
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+        connection.emitter.onTermination(() -> unregister(userId, connection));
+
+        if (evicted[0] != null) {
+            log.debug("SSE connection limit reached, closing oldest: user={}", userId);
+            evicted[0].emitter.complete();
+        }
+    }
+
+    private void unregister(Long userId, Connection<?> connection) {
+        connections.computeIfPresent(userId, (id, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+        connectionCount.decrementAndGet();
+    }
+
+    /**
+     * Connexion SSE : émetteur Mutiny et conversion vers le type d'événement du transport
+     */
+    private static final class Connection<T> {
+        private final MultiEmitter<? super T> emitter;
+        private final Function<RdqStatusEventDto, T> onChange;
+        private final Supplier<T> heartbeat;
+
+        Connection(MultiEmitter<? super T> emitter, Function<RdqStatusEventDto, T> onChange, Supplier<T> heartbeat) {
+            this.emitter = emitter;
+            this.onChange = onChange;
+            this.heartbeat = heartbeat;
+        }
+
+        void send(RdqStatusEventDto payload) {
+            emitter.emit(onChange.apply(payload));
+        }
+
+        void heartbeat() {
+            emitter.emit(heartbeat.get());
+        }
+    }
+}
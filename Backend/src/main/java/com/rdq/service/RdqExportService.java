@@ -0,0 +1,168 @@
+package com.rdq.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rdq.dto.RdqExportDto;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.RdqSearchCriteria;
+import com.rdq.util.CsvWriter;
+
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Export de l'historique des RDQ en flux CSV ou NDJSON
+ * - Lignes lues depuis un curseur et écrites aussitôt dans la réponse : mémoire constante
+ * - Mêmes filtres que la liste (RdqSearchCriteria), visibilité fixée par l'appelant
+ * - Une transaction en lecture pour toute la durée du parcours (curseur serveur PostgreSQL)
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class RdqExportService {
+
+    static final String ROWS_COUNTER = "rdq.export.rows";
+
+    private static final String[] CSV_HEADER = {"id", "title", "description", "type", "status", "priority",
+            "requestedDate", "justification", "managerComment", "createdAt", "updatedAt", "userId", "userEmail",
+            "userFullName", "managerFullName"};
+
+    private final RdqRepository rdqRepository;
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    @ConfigProperty(name = "rdq.export.fetch-size", defaultValue = "500")
+    int fetchSize;
+
+    /**
+     * Durée maximale d'un export : la transaction de lecture reste ouverte pendant tout l'envoi
+     */
+    @Inject
+    @ConfigProperty(name = "rdq.export.transaction-timeout", defaultValue = "30m")
+    Duration transactionTimeout;
+
+    /**
+     * Formats d'export proposés
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Critères d'export : filtres de la liste, périmètre selon l'appelant
+     * - Manager : ses RDQ et celles de son équipe
+     * - Utilisateur : ses propres RDQ
+     */
+    public RdqSearchCriteria buildCriteria(Long viewerId, boolean manager, RdqStatus status, RdqType type,
+                                           RdqPriority priority, LocalDate dateFrom, LocalDate dateTo) {
+        return RdqSearchCriteria.builder()
+                .userId(manager ? null : viewerId)
+                .teamOf(manager ? viewerId : null)
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .build();
+    }
+
+    /**
+     * Écriture de toutes les RDQ correspondant aux critères dans output (non fermé ici)
+     * Un échec d'écriture (client déconnecté) interrompt le parcours et libère le curseur
+     */
+    public void export(RdqSearchCriteria criteria, Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long rows;
+        try {
+            rows = format == Format.CSV ? exportCsv(criteria, writer) : exportNdjson(criteria, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        Metrics.counter(ROWS_COUNTER, "format", format.getExtension()).increment(rows);
+        log.info("RDQ export completed: format={}, rows={}", format, rows);
+    }
+
+    private long exportCsv(RdqSearchCriteria criteria, Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) CSV_HEADER);
+        return scroll(criteria, row -> {
+            try {
+                csv.writeRecord(row.getId(), row.getTitle(), row.getDescription(), row.getType(), row.getStatus(),
+                                row.getPriority(), row.getRequestedDate(), row.getJustification(),
+                                row.getManagerComment(), row.getCreatedAt(), row.getUpdatedAt(), row.getUserId(),
+                                row.getUserEmail(), row.getUserFullName(), row.getManagerFullName());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long exportNdjson(RdqSearchCriteria criteria, Writer writer) throws IOException {
+        long rows;
+        // Pas de vidage par ligne (le tampon de writer regroupe les envois) ;
+        // générateur fermé sans fermer la réponse, avant d'écrire directement dans writer
+        try (SequenceWriter json = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+            rows = scroll(criteria, row -> {
+                try {
+                    json.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (rows > 0) {
+            writer.write('\n');
+        }
+        return rows;
+    }
+
+    private long scroll(RdqSearchCriteria criteria, Consumer<RdqExportDto> consumer) {
+        return QuarkusTransaction.requiringNew()
+                .timeout((int) transactionTimeout.toSeconds())
+                .call(() -> rdqRepository.scrollExport(criteria, fetchSize, consumer));
+    }
+}
@@ -0,0 +1,329 @@
+package com.rdq.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rdq.dto.RdqImportResultDto;
+import com.rdq.dto.RdqImportRowDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.UserEntity;
+import com.rdq.exception.BusinessException;
+import com.rdq.mapper.RdqMapper;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.CsvReader;
+
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Import en masse de RDQ depuis un flux CSV ou NDJSON
+ * - Lecture ligne à ligne : seul le lot courant est en mémoire
+ * - Validation Bean Validation identique à CreateRdqDto, ligne par ligne
+ * - Propriétaires résolus par email avec un cache propre à l'import (une requête par lot pour les emails nouveaux)
+ * - Insertion par lots JDBC, une transaction par lot de chunk-size lignes :
+ *   un lot en échec est signalé ligne par ligne sans interrompre l'import
+ * - Aucune notification de création (reprise de données), compteurs de statistiques mis à jour par lot
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class RdqImportService {
+
+    static final String ROWS_COUNTER = "rdq.import.rows";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("userEmail", "title", "description", "type", "priority");
+
+    private final RdqRepository rdqRepository;
+    private final UserRepository userRepository;
+    private final RdqMapper rdqMapper;
+    private final RdqStatisticsService statisticsService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Inject
+    @ConfigProperty(name = "rdq.import.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @Inject
+    @ConfigProperty(name = "rdq.import.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @Inject
+    @ConfigProperty(name = "rdq.import.max-reported-errors", defaultValue = "1000")
+    int maxReportedErrors;
+
+    /**
+     * Formats d'import acceptés
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Import d'un flux complet, rapport par ligne en retour
+     * Un en-tête CSV incomplet est rejeté avant toute insertion (BusinessException)
+     */
+    public RdqImportResultDto importRdqs(InputStream input, Format format) {
+        ImportState state = new ImportState();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            RowSource source = format == Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow row;
+
+            while ((row = source.next()) != null) {
+                state.result.setTotalRows(state.result.getTotalRows() + 1);
+                if (row.error() != null) {
+                    state.fail(row.line(), "INVALID_FORMAT", row.error());
+                    continue;
+                }
+                String violations = validate(row.data());
+                if (violations != null) {
+                    state.fail(row.line(), "VALIDATION_ERROR", violations);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, state);
+                    chunk.clear();
+                }
+            }
+            flush(chunk, state);
+
+        } catch (IOException e) {
+            // Flux illisible ou tronqué : les lots déjà validés restent importés
+            log.warn("RDQ import stopped on unreadable input: {}", e.getMessage());
+            state.result.getErrors().add(new RdqImportResultDto.RowError(0, "INVALID_FILE",
+                    "Lecture interrompue : " + e.getMessage()));
+        }
+
+        RdqImportResultDto result = state.result;
+        Metrics.counter(ROWS_COUNTER, "outcome", "imported").increment(result.getImported());
+        Metrics.counter(ROWS_COUNTER, "outcome", "failed").increment(result.getFailed());
+        log.info("RDQ import completed: format={}, rows={}, imported={}, failed={}",
+                format, result.getTotalRows(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    // ========== Lecture des formats ==========
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new BusinessException("INVALID_IMPORT_FILE", "Fichier CSV vide");
+        }
+        List<String> columns = header.stream().map(String::trim).toList();
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("INVALID_IMPORT_FILE", "Colonnes obligatoires absentes : " + missing);
+        }
+
+        return () -> {
+            List<String> record = csv.next();
+            if (record == null) {
+                return null;
+            }
+            long line = csv.recordLine();
+            if (record.size() != columns.size()) {
+                return ParsedRow.error(line, "Nombre de colonnes incorrect : " + record.size()
+                        + " au lieu de " + columns.size());
+            }
+            // Cellule vide = valeur absente (une énumération vide ne serait pas convertible)
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                String value = record.get(i).trim();
+                if (!value.isEmpty()) {
+                    values.put(columns.get(i), value);
+                }
+            }
+            try {
+                return ParsedRow.of(line, objectMapper.convertValue(values, RdqImportRowDto.class));
+            } catch (IllegalArgumentException e) {
+                return ParsedRow.error(line, conversionError(e));
+            }
+        };
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber[0]++;
+            } while (line.isBlank());
+            try {
+                return ParsedRow.of(lineNumber[0], objectMapper.readValue(line, RdqImportRowDto.class));
+            } catch (IOException e) {
+                return ParsedRow.error(lineNumber[0], conversionError(e));
+            }
+        };
+    }
+
+    private static String conversionError(Exception e) {
+        Throwable cause = e instanceof JsonMappingException ? e : e.getCause();
+        if (cause instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            return "Valeur invalide pour " + field;
+        }
+        return "Ligne illisible";
+    }
+
+    private String validate(RdqImportRowDto row) {
+        Set<ConstraintViolation<RdqImportRowDto>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> leafName(violation) + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String leafName(ConstraintViolation<?> violation) {
+        String path = violation.getPropertyPath().toString();
+        return path.substring(path.lastIndexOf('.') + 1);
+    }
+
+    // ========== Insertion par lots ==========
+
+    private void flush(List<ParsedRow> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            ChunkResult chunkResult = QuarkusTransaction.requiringNew().call(() -> insertChunk(chunk, state));
+            state.result.setImported(state.result.getImported() + chunkResult.inserted());
+            chunkResult.rejected().forEach(rejected -> state.fail(rejected.getLine(), rejected.getCode(),
+                                                                  rejected.getMessage()));
+        } catch (Exception e) {
+            log.error("RDQ import chunk failed: lines {}-{}", chunk.get(0).line(),
+                      chunk.get(chunk.size() - 1).line(), e);
+            for (ParsedRow row : chunk) {
+                state.fail(row.line(), "IMPORT_FAILED", "Lot rejeté par la base de données");
+            }
+        }
+    }
+
+    private ChunkResult insertChunk(List<ParsedRow> chunk, ImportState state) {
+        resolveOwners(chunk, state);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RdqEntity> entities = new ArrayList<>(chunk.size());
+        List<RdqImportResultDto.RowError> rejected = new ArrayList<>();
+        for (ParsedRow row : chunk) {
+            String email = row.data().getUserEmail().trim();
+            UserEntity owner = state.owners.get(email);
+            if (owner == null) {
+                rejected.add(new RdqImportResultDto.RowError(row.line(), "USER_NOT_FOUND",
+                        "Utilisateur inconnu ou inactif : " + email));
+                continue;
+            }
+            RdqEntity entity = rdqMapper.toEntity(row.data().getRdq());
+            entity.user = owner;
+            entity.createdAt = now;
+            entity.updatedAt = now;
+            entities.add(entity);
+        }
+
+        rdqRepository.insertBatch(entities, batchSize);
+        statisticsService.recordCreatedAll(entities);
+        return new ChunkResult(entities.size(), rejected);
+    }
+
+    /**
+     * Résolution des emails encore inconnus de l'import en une requête
+     * Propriétaire réduit à son identifiant : suffisant pour l'insertion et les statistiques
+     */
+    private void resolveOwners(List<ParsedRow> chunk, ImportState state) {
+        Set<String> unresolved = new HashSet<>();
+        for (ParsedRow row : chunk) {
+            String email = row.data().getUserEmail().trim();
+            if (!state.owners.containsKey(email) && !state.unknownEmails.contains(email)) {
+                unresolved.add(email);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> ids = userRepository.findActiveIdsByEmail(unresolved);
+        for (String email : unresolved) {
+            Long id = ids.get(email);
+            if (id == null) {
+                state.unknownEmails.add(email);
+            } else {
+                UserEntity owner = new UserEntity();
+                owner.id = id;
+                state.owners.put(email, owner);
+            }
+        }
+    }
+
+    // ========== Types internes ==========
+
+    @FunctionalInterface
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private record ParsedRow(long line, RdqImportRowDto data, String error) {
+
+        static ParsedRow of(long line, RdqImportRowDto data) {
+            return new ParsedRow(line, data, null);
+        }
+
+        static ParsedRow error(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    private record ChunkResult(int inserted, List<RdqImportResultDto.RowError> rejected) {
+    }
+
+    /**
+     * État d'un import : rapport en cours et cache des propriétaires
+     */
+    private final class ImportState {
+
+        private final RdqImportResultDto result = new RdqImportResultDto();
+        private final Map<String, UserEntity> owners = new HashMap<>();
+        private final Set<String> unknownEmails = new HashSet<>();
+
+        void fail(long line, String code, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new RdqImportResultDto.RowError(line, code, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+}
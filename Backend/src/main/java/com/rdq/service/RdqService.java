@@ -1,29 +1,47 @@
 package com.rdq.service;
 
 import com.rdq.dto.RdqDto;
+import com.rdq.dto.BulkDecisionDto;
+import com.rdq.dto.BulkDecisionResultDto;
 import com.rdq.dto.CreateRdqDto;
 import com.rdq.dto.UpdateRdqDto;
 import com.rdq.dto.PageDto;
+import com.rdq.dto.CursorPageDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqStatisticsDto;
+import com.rdq.dto.RdqStatusEventDto;
+import com.rdq.dto.RdqSummaryDto;
 import com.rdq.entity.RdqEntity;
 import com.rdq.entity.RdqStatus;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
 import com.rdq.entity.UserEntity;
 import com.rdq.repository.RdqRepository;
+import com.rdq.repository.RdqSearchCriteria;
 import com.rdq.repository.UserRepository;
 import com.rdq.mapper.RdqMapper;
 import com.rdq.exception.RdqNotFoundException;
 import com.rdq.exception.BusinessException;
 import com.rdq.exception.AccessDeniedException;
+import com.rdq.util.KeysetCursor;
+import com.rdq.util.ResourceVersion;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service RDQ selon les instructions Backend
@@ -43,6 +61,8 @@ public class RdqService {
     private final UserRepository userRepository;
     private final RdqMapper rdqMapper; // Injection automatique MapStruct
     private final NotificationService notificationService;
+    private final RdqStatisticsService statisticsService;
+    private final Event<RdqStatusChangedEvent> statusEvents;
     
     /**
      * Création d'une RDQ selon les instructions Backend
@@ -66,6 +86,7 @@ public class RdqService {
         
         // 4. Persistance
         rdqRepository.persist(entity);
+        statisticsService.recordCreated(entity);
         
         // 5. Actions post-création
         notificationService.sendRdqCreatedNotification(entity);
@@ -86,9 +107,18 @@ public class RdqService {
         
         // Validation des droits
         validateUpdatePermissions(entity, userId);
+        if (updateDto.getStatus() != null && updateDto.getStatus() != entity.status) {
+            throw new BusinessException("INVALID_STATUS",
+                    "Le statut ne change que par soumission, approbation ou rejet");
+        }
         
-        // Mise à jour avec MapStruct (ignore les valeurs null)
+        // Mise à jour avec MapStruct (ignore les valeurs null et le statut)
+        RdqType previousType = entity.type;
+        RdqPriority previousPriority = entity.priority;
         rdqMapper.updateEntityFromDto(updateDto, entity);
+        if (entity.type != previousType || entity.priority != previousPriority) {
+            statisticsService.recordReclassified(previousType, previousPriority, entity);
+        }
         
         log.info("RDQ updated successfully: id={}", rdqId);
         return rdqMapper.toDto(entity);
@@ -96,43 +126,25 @@ public class RdqService {
     
     /**
      * Récupération des RDQ d'un utilisateur avec pagination
+     * Projection de synthèse : les colonnes TEXT ne sont ni lues ni sérialisées
+     */
+    public PageDto<RdqSummaryDto> getUserRdqs(Long userId, RdqStatus status, int page, int size) {
+        return getUserRdqs(userId, status, page, size, true);
+    }
+    
+    /**
+     * Récupération des RDQ d'un utilisateur, comptage total optionnel
+     * includeTotal=false : aucun comptage, pour les clients en défilement infini
      */
-    public PageDto<RdqDto> getUserRdqs(Long userId, RdqStatus status, int page, int size) {
+    public PageDto<RdqSummaryDto> getUserRdqs(Long userId, RdqStatus status, int page, int size,
+                                              boolean includeTotal) {
         log.debug("Getting RDQs for user {}, status {}, page {}, size {}", userId, status, page, size);
         
-        // Utilisation directe de l'API Panache native
-        String query;
-        Object[] params;
-        
-        if (status != null) {
-            query = "user.id = ?1 and status = ?2 ORDER BY createdAt DESC";
-            params = new Object[]{userId, status};
-        } else {
-            query = "user.id = ?1 ORDER BY createdAt DESC";
-            params = new Object[]{userId};
-        }
-        
-        // Récupération paginée avec comptage
-        long totalElements = rdqRepository.count(query, params);
-        List<RdqEntity> entities = rdqRepository.find(query, params)
-                                                .page(page, size)
-                                                .list();
-        
-        // Transformation avec MapStruct
-        List<RdqDto> dtoList = rdqMapper.toDtoList(entities);
-        
-        // Construction du PageDto
-        PageDto<RdqDto> result = new PageDto<>();
-        result.setContent(dtoList);
-        result.setTotalElements(totalElements);
-        result.setTotalPages((int) Math.ceil((double) totalElements / size));
-        result.setNumber(page);
-        result.setSize(size);
-        result.setFirst(page == 0);
-        result.setLast(page >= (int) Math.ceil((double) totalElements / size) - 1);
-        result.setNumberOfElements(dtoList.size());
-        
-        return result;
+        RdqSearchCriteria criteria = RdqSearchCriteria.builder()
+                .userId(userId)
+                .status(status)
+                .build();
+        return findSummaries(criteria, page, size, includeTotal);
     }
     
     /**
@@ -149,6 +161,44 @@ public class RdqService {
         return rdqMapper.toDto(entity);
     }
     
+    /**
+     * Version d'une RDQ pour les requêtes conditionnelles (If-None-Match, If-Modified-Since)
+     * - Lecture des seuls horodatages : ni chargement d'entité ni mapping
+     * - Mêmes droits de lecture que getRdqById
+     * - La représentation inclut le propriétaire et son manager : leurs modifications changent la version
+     */
+    public ResourceVersion getRdqVersion(Long rdqId, Long userId) {
+        RdqRepository.RdqVersion version = findReadableVersion(rdqId, userId);
+        
+        return rdqVersion(rdqId, version.getUpdatedAt(), version.getOwnerUpdatedAt(),
+                          version.getOwnerManagerUpdatedAt());
+    }
+    
+    /**
+     * Récupération d'une RDQ et de sa version en une seule lecture
+     * - Version calculée depuis les horodatages de l'entité chargée : même ETag que getRdqVersion
+     * - Pour les GET sans If-Modified-Since (If-None-Match seul ou aucune condition)
+     */
+    public VersionedRdq getRdqWithVersion(Long rdqId, Long userId) {
+        log.debug("Getting versioned RDQ {} for user {}", rdqId, userId);
+        
+        RdqEntity entity = findRdqById(rdqId);
+        validateReadPermissions(entity, userId);
+        
+        UserEntity manager = entity.user.manager;
+        ResourceVersion version = rdqVersion(rdqId, entity.updatedAt, entity.user.updatedAt,
+                                             manager != null ? manager.updatedAt : null);
+        return new VersionedRdq(rdqMapper.toDto(entity), version);
+    }
+    
+    /**
+     * Vérification des droits de lecture sur une RDQ sans la charger (pièces jointes)
+     * Mêmes règles que getRdqById : propriétaire ou manager du propriétaire
+     */
+    public void verifyReadAccess(Long rdqId, Long userId) {
+        findReadableVersion(rdqId, userId);
+    }
+    
     /**
      * Soumission d'une RDQ pour approbation
      */
@@ -163,6 +213,8 @@ public class RdqService {
         }
         
         entity.status = RdqStatus.SUBMITTED;
+        statisticsService.recordStatusChange(RdqStatus.DRAFT, RdqStatus.SUBMITTED);
+        publishStatusChange(entity, RdqStatus.DRAFT);
         
         // Notification au manager
         if (entity.user.manager != null) {
@@ -188,6 +240,8 @@ public class RdqService {
         
         entity.status = RdqStatus.APPROVED;
         entity.managerComment = comment;
+        statisticsService.recordStatusChange(RdqStatus.SUBMITTED, RdqStatus.APPROVED);
+        publishStatusChange(entity, RdqStatus.SUBMITTED);
         
         notificationService.sendRdqApprovedNotification(entity);
         
@@ -210,6 +264,8 @@ public class RdqService {
         
         entity.status = RdqStatus.REJECTED;
         entity.managerComment = comment;
+        statisticsService.recordStatusChange(RdqStatus.SUBMITTED, RdqStatus.REJECTED);
+        publishStatusChange(entity, RdqStatus.SUBMITTED);
         
         notificationService.sendRdqRejectedNotification(entity);
         
@@ -218,68 +274,186 @@ public class RdqService {
     }
     
     /**
-     * Recherche de RDQ avec critères multiples
+     * Approbation ou rejet groupé par un manager
+     * - Éligibilité (existence, manager du propriétaire, statut SUBMITTED) vérifiée en une requête
+     *   qui verrouille les RDQ jusqu'à la fin de la transaction
+     * - Mise à jour des RDQ éligibles en une instruction, notifications écrites en un lot
+     * - Les RDQ non éligibles sont signalées individuellement sans annuler les autres
      */
-    public PageDto<RdqDto> searchRdq(Long userId, RdqStatus status, RdqType type, 
-                                     RdqPriority priority, LocalDate dateFrom, 
-                                     LocalDate dateTo, int page, int size) {
-        log.debug("Searching RDQ with criteria: user={}, status={}, type={}", userId, status, type);
-        
-        // Construction dynamique de la requête
-        StringBuilder query = new StringBuilder("1=1");
-        List<Object> paramsList = new ArrayList<>();
-        
-        if (userId != null) {
-            query.append(" AND user.id = ?").append(paramsList.size() + 1);
-            paramsList.add(userId);
+    public BulkDecisionResultDto decideBulk(BulkDecisionDto decisionDto, Long managerId) {
+        BulkDecisionDto.Decision decision = decisionDto.getDecision();
+        String comment = decisionDto.getComment();
+        if (decision == BulkDecisionDto.Decision.REJECT && (comment == null || comment.isBlank())) {
+            throw new BusinessException("COMMENT_REQUIRED", "Le commentaire de rejet est obligatoire");
         }
-        if (status != null) {
-            query.append(" AND status = ?").append(paramsList.size() + 1);
-            paramsList.add(status);
-        }
-        if (type != null) {
-            query.append(" AND type = ?").append(paramsList.size() + 1);
-            paramsList.add(type);
-        }
-        if (priority != null) {
-            query.append(" AND priority = ?").append(paramsList.size() + 1);
-            paramsList.add(priority);
-        }
-        if (dateFrom != null) {
-            query.append(" AND createdAt >= ?").append(paramsList.size() + 1);
-            paramsList.add(dateFrom.atStartOfDay());
+        
+        Set<Long> ids = new LinkedHashSet<>(decisionDto.getIds());
+        log.debug("Bulk {} of {} RDQ by manager {}", decision, ids.size(), managerId);
+        
+        Map<Long, RdqRepository.DecisionCandidate> candidates = rdqRepository.lockDecisionCandidates(ids).stream()
+                .collect(Collectors.toMap(RdqRepository.DecisionCandidate::getId, Function.identity()));
+        
+        List<BulkDecisionResultDto.Item> results = new ArrayList<>(ids.size());
+        List<RdqRepository.DecisionCandidate> eligible = new ArrayList<>(candidates.size());
+        for (Long id : ids) {
+            RdqRepository.DecisionCandidate candidate = candidates.get(id);
+            if (candidate == null) {
+                results.add(BulkDecisionResultDto.Item.failure(id, "RDQ_NOT_FOUND",
+                        "RDQ avec l'ID " + id + " non trouvée"));
+            } else if (!managerId.equals(candidate.getOwnerManagerId())) {
+                results.add(BulkDecisionResultDto.Item.failure(id, "ACCESS_DENIED",
+                        "Vous n'êtes pas le manager de cet utilisateur"));
+            } else if (candidate.getStatus() != RdqStatus.SUBMITTED) {
+                results.add(BulkDecisionResultDto.Item.failure(id, "INVALID_STATUS",
+                        "Seules les RDQ soumises peuvent être traitées"));
+            } else {
+                results.add(BulkDecisionResultDto.Item.success(id));
+                eligible.add(candidate);
+            }
         }
-        if (dateTo != null) {
-            query.append(" AND createdAt <= ?").append(paramsList.size() + 1);
-            paramsList.add(dateTo.atTime(23, 59, 59));
+        
+        RdqStatus targetStatus = decision.getTargetStatus();
+        int updated = 0;
+        if (!eligible.isEmpty()) {
+            List<Long> eligibleIds = eligible.stream().map(RdqRepository.DecisionCandidate::getId).toList();
+            LocalDateTime now = LocalDateTime.now();
+            updated = rdqRepository.applyDecision(eligibleIds, targetStatus, comment, now);
+            statisticsService.recordStatusChanges(RdqStatus.SUBMITTED, targetStatus, updated);
+            notificationService.sendRdqDecisionNotifications(eligible, targetStatus, comment);
+            
+            for (RdqRepository.DecisionCandidate candidate : eligible) {
+                statusEvents.fire(new RdqStatusChangedEvent(
+                        new RdqStatusEventDto(candidate.getId(), candidate.getTitle(), RdqStatus.SUBMITTED,
+                                              targetStatus, now),
+                        candidate.getOwnerId(), candidate.getOwnerManagerId()));
+            }
         }
         
-        query.append(" ORDER BY createdAt DESC");
-        Object[] params = paramsList.toArray();
+        log.info("Bulk decision applied: decision={}, requested={}, updated={}, manager={}",
+                decision, ids.size(), updated, managerId);
+        return new BulkDecisionResultDto(targetStatus, ids.size(), updated, results);
+    }
+    
+    /**
+     * Recherche de RDQ avec critères multiples
+     * Projection de synthèse : les colonnes TEXT ne sont ni lues ni sérialisées
+     */
+    public PageDto<RdqSummaryDto> searchRdq(Long userId, RdqStatus status, RdqType type, 
+                                            RdqPriority priority, LocalDate dateFrom, 
+                                            LocalDate dateTo, int page, int size) {
+        return searchRdq(userId, status, type, priority, dateFrom, dateTo, page, size, true);
+    }
+    
+    /**
+     * Recherche de RDQ avec critères multiples, comptage total optionnel
+     * - includeTotal=true : page et total obtenus en une seule requête (count(*) over())
+     * - includeTotal=false : aucun comptage, pour les clients en défilement infini
+     */
+    public PageDto<RdqSummaryDto> searchRdq(Long userId, RdqStatus status, RdqType type, 
+                                            RdqPriority priority, LocalDate dateFrom, 
+                                            LocalDate dateTo, int page, int size,
+                                            boolean includeTotal) {
+        log.debug("Searching RDQ with criteria: user={}, status={}, type={}", userId, status, type);
         
-        // Récupération paginée avec comptage
-        long totalElements = rdqRepository.count(query.toString(), params);
-        List<RdqEntity> entities = rdqRepository.find(query.toString(), params)
-                                                .page(page, size)
-                                                .list();
+        RdqSearchCriteria criteria = buildCriteria(userId, status, type, priority, dateFrom, dateTo)
+                .build();
+        return findSummaries(criteria, page, size, includeTotal);
+    }
+    
+    /**
+     * Version d'une page de liste pour les requêtes conditionnelles
+     * - Une agrégation sur les critères (nombre de lignes et dernières modifications), aucune ligne lue
+     * - variant distingue les représentations d'un même filtre (pagination, taille, comptage)
+     * - Dans l'ETag, une suppression change le nombre de lignes, toute autre écriture change updatedAt
+     * - ETag seul, sans Last-Modified : une ligne qui sort du filtre (transition, suppression)
+     *   ne fait pas avancer le max(updatedAt) des lignes restantes, If-Modified-Since répondrait 304
+     */
+    public ResourceVersion getRdqListVersion(Long userId, RdqStatus status, RdqType type, RdqPriority priority,
+                                             LocalDate dateFrom, LocalDate dateTo, KeysetCursor after,
+                                             String variant) {
+        RdqSearchCriteria criteria = buildCriteria(userId, status, type, priority, dateFrom, dateTo)
+                .after(after)
+                .build();
+        RdqRepository.ListVersion version = rdqRepository.findListVersion(criteria);
+        
+        return toListVersion(version, userId, status, type, priority, dateFrom, dateTo, after, variant);
+    }
+    
+    /**
+     * ETag d'une page de liste à partir de son agrégation de version (partagé avec ReactiveRdqService)
+     */
+    static ResourceVersion toListVersion(RdqRepository.ListVersion version, Long userId, RdqStatus status,
+                                         RdqType type, RdqPriority priority, LocalDate dateFrom, LocalDate dateTo,
+                                         KeysetCursor after, String variant) {
+        return ResourceVersion.of(null,
+                userId, status, type, priority, dateFrom, dateTo, after != null ? after.encode() : null, variant,
+                version.getCount(), version.getUpdatedAt(), version.getOwnerUpdatedAt(),
+                version.getOwnerManagerUpdatedAt());
+    }
+    
+    /**
+     * Recherche de RDQ avec pagination keyset (curseur)
+     * - Coût constant quelle que soit la profondeur de la page
+     * - Pas de comptage total, la présence d'une page suivante est déduite d'un élément sentinelle
+     */
+    public CursorPageDto<RdqSummaryDto> searchRdqAfter(Long userId, RdqStatus status, RdqType type,
+                                                       RdqPriority priority, LocalDate dateFrom,
+                                                       LocalDate dateTo, KeysetCursor after, int size) {
+        log.debug("Searching RDQ with cursor: user={}, status={}, type={}, after={}",
+                userId, status, type, after != null ? after.getId() : null);
+        
+        RdqSearchCriteria criteria = buildCriteria(userId, status, type, priority, dateFrom, dateTo)
+                .after(after)
+                .build();
+        
+        // Un élément de plus que la taille demandée pour savoir s'il existe une page suivante
+        List<RdqSummaryDto> summaries = rdqRepository.findSummaries(criteria, 0, size + 1);
+        
+        boolean hasNext = summaries.size() > size;
+        if (hasNext) {
+            summaries = summaries.subList(0, size);
+        }
         
-        // Transformation avec MapStruct
-        List<RdqDto> dtoList = rdqMapper.toDtoList(entities);
+        String nextCursor = null;
+        if (hasNext) {
+            RdqSummaryDto last = summaries.get(summaries.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
         
-        // Construction du PageDto
-        PageDto<RdqDto> result = new PageDto<>();
-        result.setContent(dtoList);
-        result.setTotalElements(totalElements);
-        result.setTotalPages((int) Math.ceil((double) totalElements / size));
-        result.setNumber(page);
+        CursorPageDto<RdqSummaryDto> result = new CursorPageDto<>();
+        result.setContent(summaries);
         result.setSize(size);
-        result.setFirst(page == 0);
-        result.setLast(page >= (int) Math.ceil((double) totalElements / size) - 1);
-        result.setNumberOfElements(dtoList.size());
+        result.setNumberOfElements(summaries.size());
+        result.setHasNext(hasNext);
+        result.setNextCursor(nextCursor);
         
         return result;
     }
     
+    /**
+     * Recherche plein texte dans les RDQ visibles par l'utilisateur
+     * - Résultats classés par pertinence (titre > description > justification)
+     * - Extraits surlignés calculés uniquement pour la page retournée
+     */
+    public PageDto<RdqSearchResultDto> searchByText(String searchTerm, Long userId, int page, int size) {
+        log.debug("Full-text search for user {}: page {}, size {}", userId, page, size);
+        
+        String term = searchTerm.trim();
+        long totalElements = rdqRepository.countFullText(term, userId);
+        List<RdqSearchResultDto> results = totalElements == 0
+                ? List.of()
+                : rdqRepository.searchFullText(term, userId, page, size);
+        
+        return toPage(results, totalElements, page, size);
+    }
+    
+    /**
+     * Statistiques RDQ lues dans les compteurs maintenus à l'écriture (RdqStatisticsService)
+     */
+    public RdqStatisticsDto getStatistics(Long userId) {
+        return statisticsService.getStatistics(userId);
+    }
+    
     /**
      * Suppression d'une RDQ (soft delete)
      */
@@ -294,20 +468,108 @@ public class RdqService {
         }
         
         rdqRepository.delete(entity);
+        statisticsService.recordDeleted(entity);
         
         log.info("RDQ deleted successfully: id={}", rdqId);
     }
     
+    /**
+     * Publication d'une transition (poussée SSE après validation de la transaction, voir RdqEventBroadcaster)
+     */
+    private void publishStatusChange(RdqEntity entity, RdqStatus previousStatus) {
+        RdqStatusEventDto payload = new RdqStatusEventDto(entity.id, entity.title, previousStatus, entity.status,
+                                                          LocalDateTime.now());
+        statusEvents.fire(new RdqStatusChangedEvent(payload, entity.user.id,
+                                                    entity.user.manager != null ? entity.user.manager.id : null));
+    }
+    
+    // ========== Méthodes privées de construction des requêtes ==========
+    
+    /**
+     * Critères de recherche partagés entre la pagination par offset et la pagination keyset
+     * La requête correspondante est précompilée (voir RdqSearchQueries)
+     */
+    private static RdqSearchCriteria.RdqSearchCriteriaBuilder buildCriteria(Long userId, RdqStatus status,
+                                                                           RdqType type, RdqPriority priority,
+                                                                           LocalDate dateFrom, LocalDate dateTo) {
+        return RdqSearchCriteria.builder()
+                .userId(userId)
+                .status(status)
+                .type(type)
+                .priority(priority)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo);
+    }
+    
+    private PageDto<RdqSummaryDto> findSummaries(RdqSearchCriteria criteria, int page, int size,
+                                                 boolean includeTotal) {
+        if (!includeTotal) {
+            // Un élément sentinelle suffit à savoir si la page est la dernière
+            List<RdqSummaryDto> rows = rdqRepository.findSummaries(criteria, page * size, size + 1);
+            boolean last = rows.size() <= size;
+            return toPageWithoutTotal(last ? rows : rows.subList(0, size), page, size, last);
+        }
+        
+        RdqRepository.SummaryPage summaryPage =
+                rdqRepository.findSummaryPageWithTotal(criteria, page, size);
+        long totalElements = summaryPage.getTotalElements();
+        if (totalElements < 0) {
+            // Page vide : total nul en première page, sinon page au-delà de la fin
+            totalElements = page == 0 ? 0 : rdqRepository.countMatching(criteria);
+        }
+        return toPage(summaryPage.getContent(), totalElements, page, size);
+    }
+    
+    private static <T> PageDto<T> toPageWithoutTotal(List<T> content, int page, int size, boolean last) {
+        PageDto<T> result = new PageDto<>();
+        result.setContent(content);
+        result.setTotalElements(-1);
+        result.setTotalPages(-1);
+        result.setNumber(page);
+        result.setSize(size);
+        result.setFirst(page == 0);
+        result.setLast(last);
+        result.setNumberOfElements(content.size());
+        return result;
+    }
+    
+    /**
+     * Construction d'une page avec total connu (partagée avec ReactiveRdqService)
+     */
+    static <T> PageDto<T> toPage(List<T> content, long totalElements, int page, int size) {
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        
+        PageDto<T> result = new PageDto<>();
+        result.setContent(content);
+        result.setTotalElements(totalElements);
+        result.setTotalPages(totalPages);
+        result.setNumber(page);
+        result.setSize(size);
+        result.setFirst(page == 0);
+        result.setLast(page >= totalPages - 1);
+        result.setNumberOfElements(content.size());
+        return result;
+    }
+    
     // ========== Méthodes privées de validation ==========
     
     private RdqEntity findRdqById(Long rdqId) {
-        RdqEntity entity = rdqRepository.findById(rdqId);
+        RdqEntity entity = rdqRepository.findByIdWithUser(rdqId);
         if (entity == null) {
             throw new RdqNotFoundException(rdqId);
         }
         return entity;
     }
     
+    private RdqRepository.RdqVersion findReadableVersion(Long rdqId, Long userId) {
+        RdqRepository.RdqVersion version = rdqRepository.findVersion(rdqId);
+        if (version == null) {
+            throw new RdqNotFoundException(rdqId);
+        }
+        checkReadAccess(version.getOwnerId(), version.getOwnerManagerId(), userId);
+        return version;
+    }
+    
     private void validateRdqCreation(CreateRdqDto dto, Long userId) {
         // Validation métier spécifique
         if (dto.getTitle().toLowerCase().contains("test") && dto.getType() != RdqType.AUTRE) {
@@ -321,17 +583,26 @@ public class RdqService {
         }
     }
     
+    private static ResourceVersion rdqVersion(Long rdqId, LocalDateTime updatedAt, LocalDateTime ownerUpdatedAt,
+                                              LocalDateTime ownerManagerUpdatedAt) {
+        return ResourceVersion.of(ResourceVersion.latest(updatedAt, ownerUpdatedAt, ownerManagerUpdatedAt),
+                                  rdqId, updatedAt, ownerUpdatedAt, ownerManagerUpdatedAt);
+    }
+    
     private void validateReadPermissions(RdqEntity entity, Long userId) {
         // Un utilisateur peut voir ses RDQ ou celles de son équipe s'il est manager
-        UserEntity currentUser = userRepository.findById(userId);
-        
+        // (utilisateur et manager déjà chargés avec la RDQ, aucune requête supplémentaire)
+        checkReadAccess(entity.user.id, entity.user.manager != null ? entity.user.manager.id : null, userId);
+    }
+    
+    private void checkReadAccess(Long ownerId, Long ownerManagerId, Long userId) {
         // L'utilisateur peut voir sa propre RDQ
-        if (entity.user.id.equals(userId)) {
+        if (ownerId.equals(userId)) {
             return;
         }
         
         // Un manager peut voir les RDQ de son équipe
-        if (entity.user.manager != null && entity.user.manager.id.equals(userId)) {
+        if (ownerManagerId != null && ownerManagerId.equals(userId)) {
             return;
         }
         
@@ -347,4 +618,13 @@ public class RdqService {
     private void validateDeletePermissions(RdqEntity entity, Long userId) {
         validateUpdatePermissions(entity, userId);
     }
-}
\ No newline at end of file
+    
+    /**
+     * RDQ et version de sa représentation (ETag, Last-Modified)
+     */
+    @Value
+    public static class VersionedRdq {
+        RdqDto rdq;
+        ResourceVersion version;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rdq.service;
+
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.RdqStatisticEntity;
+import com.rdq.repository.RdqStatisticsRepository;
+
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Réconciliation périodique des compteurs de statistiques avec les comptages réels
+ * - Un axe par transaction : compteurs de l'axe verrouillés, puis comptage GROUP BY sur rdq ;
+ *   les écritures concurrentes sont soit déjà visibles dans les deux, soit appliquées après
+ * - Écart journalisé et compté (rdq.statistics.drift), corrigé si repair=true
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class RdqStatisticsReconciler {
+    
+    static final String DRIFT_COUNTER = "rdq.statistics.drift";
+    
+    private final RdqStatisticsRepository statisticsRepository;
+    
+    @Inject
+    @ConfigProperty(name = "rdq.statistics.reconcile.repair", defaultValue = "true")
+    boolean repair;
+    
+    @Scheduled(every = "${rdq.statistics.reconcile.interval:1h}",
+               delayed = "${rdq.statistics.reconcile.initial-delay:5m}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconcileAll() {
+        for (RdqStatisticDimension dimension : RdqStatisticDimension.values()) {
+            try {
+                int drifted = QuarkusTransaction.requiringNew().call(() -> reconcile(dimension));
+                if (drifted > 0) {
+                    log.warn("RDQ statistics drift on {}: {} counter(s) {}", dimension, drifted,
+                             repair ? "repaired" : "left unchanged");
+                }
+            } catch (Exception e) {
+                log.error("RDQ statistics reconciliation failed for {}", dimension, e);
+            }
+        }
+    }
+    
+    /**
+     * Compare les compteurs d'un axe aux comptages réels, retourne le nombre de compteurs en écart
+     */
+    int reconcile(RdqStatisticDimension dimension) {
+        List<RdqStatisticEntity> counters = statisticsRepository.lockDimension(dimension);
+        Map<String, Long> actual = new HashMap<>(statisticsRepository.countRdqGroupedBy(dimension));
+        LocalDateTime now = LocalDateTime.now();
+        int drifted = 0;
+        
+        for (RdqStatisticEntity counter : counters) {
+            long expected = actual.getOrDefault(counter.dimensionValue, 0L);
+            actual.remove(counter.dimensionValue);
+            if (counter.rdqCount != expected) {
+                drifted++;
+                recordDrift(dimension, counter.dimensionValue, counter.rdqCount, expected);
+                if (repair) {
+                    counter.rdqCount = expected;
+                    counter.updatedAt = now;
+                }
+            }
+        }
+        
+        // Valeurs comptées sans compteur existant : ligne non verrouillée, éventuellement créée
+        // entre-temps par une écriture concurrente, d'où une valeur absolue plutôt qu'un incrément
+        for (Map.Entry<String, Long> missing : actual.entrySet()) {
+            drifted++;
+            recordDrift(dimension, missing.getKey(), 0, missing.getValue());
+            if (repair) {
+                statisticsRepository.set(dimension, missing.getKey(), missing.getValue(), now);
+            }
+        }
+        return drifted;
+    }
+    
+    private static void recordDrift(RdqStatisticDimension dimension, String value, long counted, long expected) {
+        log.warn("RDQ statistic {}={} is {} but {} RDQ exist", dimension, value, counted, expected);
+        Metrics.counter(DRIFT_COUNTER, "dimension", dimension.name()).increment();
+    }
+}
@@ -0,0 +1,158 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqStatisticsDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.RdqStatisticEntity;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.repository.RdqStatisticsRepository;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintenance incrémentale des compteurs de statistiques RDQ
+ * - Appelé par RdqService dans la transaction de la modification (MANDATORY) :
+ *   compteurs et RDQ sont validés ou annulés ensemble
+ * - Deltas fusionnés puis appliqués dans l'ordre des clés : deux transactions
+ *   concurrentes verrouillent les lignes dans le même ordre (pas d'interblocage)
+ * - Lecture en une requête sur la clé primaire, indépendante du volume de RDQ
+ */
+@ApplicationScoped
+@Transactional(Transactional.TxType.MANDATORY)
+@RequiredArgsConstructor
+@Slf4j
+public class RdqStatisticsService {
+    
+    private final RdqStatisticsRepository statisticsRepository;
+    
+    /**
+     * RDQ créée : +1 sur son statut, son type, sa priorité et son propriétaire
+     */
+    public void recordCreated(RdqEntity rdq) {
+        Deltas deltas = new Deltas();
+        deltas.addAll(rdq, 1);
+        apply(deltas);
+    }
+    
+    /**
+     * Lot de RDQ créées (import) : deltas fusionnés, quelques mises à jour de compteurs par lot
+     */
+    public void recordCreatedAll(Collection<RdqEntity> rdqs) {
+        if (rdqs.isEmpty()) {
+            return;
+        }
+        Deltas deltas = new Deltas();
+        for (RdqEntity rdq : rdqs) {
+            deltas.addAll(rdq, 1);
+        }
+        apply(deltas);
+    }
+    
+    /**
+     * RDQ supprimée : -1 sur son statut, son type, sa priorité et son propriétaire
+     */
+    public void recordDeleted(RdqEntity rdq) {
+        Deltas deltas = new Deltas();
+        deltas.addAll(rdq, -1);
+        apply(deltas);
+    }
+    
+    /**
+     * Changement de statut (soumission, approbation, rejet)
+     */
+    public void recordStatusChange(RdqStatus from, RdqStatus to) {
+        recordStatusChanges(from, to, 1);
+    }
+    
+    /**
+     * Même changement de statut appliqué à count RDQ (décision groupée)
+     */
+    public void recordStatusChanges(RdqStatus from, RdqStatus to, long count) {
+        Deltas deltas = new Deltas();
+        deltas.add(RdqStatisticDimension.STATUS, from.name(), -count);
+        deltas.add(RdqStatisticDimension.STATUS, to.name(), count);
+        apply(deltas);
+    }
+    
+    /**
+     * Modification du type ou de la priorité d'une RDQ (valeurs avant modification en paramètre)
+     */
+    public void recordReclassified(RdqType previousType, RdqPriority previousPriority, RdqEntity rdq) {
+        Deltas deltas = new Deltas();
+        deltas.add(RdqStatisticDimension.TYPE, previousType.name(), -1);
+        deltas.add(RdqStatisticDimension.TYPE, rdq.type.name(), 1);
+        deltas.add(RdqStatisticDimension.PRIORITY, previousPriority.name(), -1);
+        deltas.add(RdqStatisticDimension.PRIORITY, rdq.priority.name(), 1);
+        apply(deltas);
+    }
+    
+    /**
+     * Statistiques globales et compteur de l'utilisateur
+     */
+    public RdqStatisticsDto getStatistics(Long userId) {
+        Map<RdqStatus, Long> byStatus = zeros(RdqStatus.class);
+        Map<RdqType, Long> byType = zeros(RdqType.class);
+        Map<RdqPriority, Long> byPriority = zeros(RdqPriority.class);
+        long ownTotal = 0;
+        
+        for (RdqStatisticEntity statistic : statisticsRepository.findGlobalAndUser(userId)) {
+            String value = statistic.dimensionValue;
+            switch (statistic.dimension) {
+                case STATUS -> byStatus.put(RdqStatus.valueOf(value), statistic.rdqCount);
+                case TYPE -> byType.put(RdqType.valueOf(value), statistic.rdqCount);
+                case PRIORITY -> byPriority.put(RdqPriority.valueOf(value), statistic.rdqCount);
+                case USER -> ownTotal = statistic.rdqCount;
+            }
+        }
+        
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new RdqStatisticsDto(total, byStatus, byType, byPriority, ownTotal);
+    }
+    
+    private void apply(Deltas deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        deltas.values.forEach((key, delta) -> {
+            if (delta != 0) {
+                statisticsRepository.increment(key.getDimension(), key.getDimensionValue(), delta, now);
+            }
+        });
+        log.debug("RDQ statistics updated: {}", deltas.values);
+    }
+    
+    private static <E extends Enum<E>> Map<E, Long> zeros(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0L);
+        }
+        return counts;
+    }
+    
+    /**
+     * Deltas d'une transaction, triés par clé et fusionnés (un changement sans effet s'annule)
+     */
+    private static final class Deltas {
+        
+        private final Map<RdqStatisticEntity.Key, Long> values = new TreeMap<>();
+        
+        void add(RdqStatisticDimension dimension, String value, long delta) {
+            values.merge(new RdqStatisticEntity.Key(dimension, value), delta, Long::sum);
+        }
+        
+        void addAll(RdqEntity rdq, long delta) {
+            for (RdqStatisticDimension dimension : RdqStatisticDimension.values()) {
+                add(dimension, dimension.valueOf(rdq), delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqStatusEventDto;
+
+/**
+ * Événement CDI publié par RdqService à chaque transition de statut
+ * - Porte les destinataires (propriétaire et son manager) en plus des données publiées
+ * - Observé après validation de la transaction : une transition annulée n'est jamais poussée
+ */
+public final class RdqStatusChangedEvent {
+
+    private final RdqStatusEventDto payload;
+    private final Long ownerId;
+    private final Long ownerManagerId;
+
+    public RdqStatusChangedEvent(RdqStatusEventDto payload, Long ownerId, Long ownerManagerId) {
+        this.payload = payload;
+        this.ownerId = ownerId;
+        this.ownerManagerId = ownerManagerId;
+    }
+
+    public RdqStatusEventDto getPayload() {
+        return payload;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public Long getOwnerManagerId() {
+        return ownerManagerId;
+    }
+}
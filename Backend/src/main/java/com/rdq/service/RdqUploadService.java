@@ -0,0 +1,292 @@
+package com.rdq.service;
+
+import com.rdq.dto.CreateUploadDto;
+import com.rdq.dto.RdqAttachmentDto;
+import com.rdq.dto.RdqUploadDto;
+import com.rdq.entity.AttachmentKind;
+import com.rdq.entity.RdqUploadSessionEntity;
+import com.rdq.exception.BusinessException;
+import com.rdq.exception.UploadNotFoundException;
+import com.rdq.exception.ValidationException;
+import com.rdq.repository.RdqUploadSessionRepository;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Envois de pièces jointes en plusieurs blocs, avec reprise après coupure
+ * - Ouverture : droits de lecture sur la RDQ, type et taille contrôlés avant tout transfert
+ * - Blocs : écrits à leur position dans le fichier partiel du magasin, dans n'importe quel ordre et en parallèle ;
+ *   un bloc interrompu ou dont la longueur diffère de son Content-Length n'est ni écrit ni enregistré
+ * - Finalisation : fichier entièrement couvert, signature du type et empreinte SHA-256 du client vérifiées
+ *   sur une copie figée, mise en place telle quelle ; une seule finalisation aboutit par envoi
+ * - Transactions courtes autour des seules écritures en base : aucune connexion retenue pendant un transfert
+ * - Envois sans bloc reçu depuis rdq.uploads.session-ttl purgés périodiquement (lignes et fichier partiel)
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@Slf4j
+public class RdqUploadService {
+
+    private final RdqUploadSessionRepository sessionRepository;
+    private final RdqAttachmentService attachmentService;
+    private final RdqService rdqService;
+    private final AttachmentStore store;
+
+    @Inject
+    @ConfigProperty(name = "rdq.uploads.max-chunk-size", defaultValue = "8M")
+    MemorySize maxChunkSize;
+
+    @Inject
+    @ConfigProperty(name = "rdq.uploads.session-ttl", defaultValue = "24h")
+    Duration sessionTtl;
+
+    @Inject
+    @ConfigProperty(name = "rdq.uploads.max-sessions-per-user", defaultValue = "5")
+    int maxSessionsPerUser;
+
+    /**
+     * Ouverture d'un envoi : fichier partiel vide et session en base
+     */
+    public RdqUploadDto createUpload(Long rdqId, CreateUploadDto uploadDto, Long userId) {
+        rdqService.verifyReadAccess(rdqId, userId);
+        String mediaType = attachmentService.acceptedMediaType(uploadDto.getContentType());
+        attachmentService.checkSize(uploadDto.getSize());
+
+        RdqUploadSessionEntity session = new RdqUploadSessionEntity();
+        session.id = UUID.randomUUID().toString();
+        session.rdqId = rdqId;
+        session.userId = userId;
+        session.kind = uploadDto.getKind() != null ? uploadDto.getKind() : AttachmentKind.OTHER;
+        session.fileName = uploadDto.getFileName();
+        session.contentType = mediaType;
+        session.sizeBytes = uploadDto.getSize();
+
+        // Fichier créé avant la ligne : un fichier sans session est repris par la purge, l'inverse ne peut arriver
+        try {
+            store.createPartial(session.id);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Création du fichier d'envoi impossible", e);
+        }
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                if (sessionRepository.countByUser(userId) >= maxSessionsPerUser) {
+                    throw new BusinessException("TOO_MANY_UPLOADS",
+                            "Au plus " + maxSessionsPerUser + " envois en cours : finalisez ou annulez un envoi");
+                }
+                sessionRepository.persist(session);
+            });
+        } catch (RuntimeException e) {
+            deletePartialQuietly(session.id);
+            throw e;
+        }
+
+        log.info("Upload session opened: rdq={}, upload={}, size={}", rdqId, session.id, session.sizeBytes);
+        return toDto(session, List.of());
+    }
+
+    /**
+     * Réception d'un bloc de length octets (Content-Length) à la position offset ;
+     * retourne l'état de l'envoi après ce bloc
+     */
+    public RdqUploadDto writeChunk(Long rdqId, String uploadId, long offset, Long length, InputStream content,
+                                   Long userId) {
+        RdqUploadSessionEntity session = findSession(rdqId, uploadId, userId);
+        if (offset < 0 || offset >= session.sizeBytes) {
+            throw new ValidationException("Position hors du fichier (0 à " + (session.sizeBytes - 1) + ")");
+        }
+        if (length == null) {
+            throw new ValidationException("Longueur du bloc requise (Content-Length)");
+        }
+        if (length <= 0) {
+            throw new ValidationException("Bloc vide");
+        }
+        long maxBytes = Math.min(maxChunkSize.asLongValue(), session.sizeBytes - offset);
+        if (length > maxBytes) {
+            throw new ValidationException("Bloc trop long : " + maxBytes + " octets au plus à cette position");
+        }
+
+        try {
+            store.writePartial(uploadId, offset, length, content);
+        } catch (NoSuchFileException e) {
+            throw new UploadNotFoundException(uploadId);
+        } catch (IOException e) {
+            // Connexion coupée en cours de bloc : rien n'est enregistré, le client renvoie le bloc
+            throw new UncheckedIOException("Réception du bloc interrompue", e);
+        }
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            // Session verrouillée en partage jusqu'à l'insertion : sa suppression (finalisation, abandon) attend,
+            // et un envoi supprimé pendant la réception du bloc n'est plus à jour
+            if (sessionRepository.findById(uploadId, LockModeType.PESSIMISTIC_READ) == null) {
+                throw new UploadNotFoundException(uploadId);
+            }
+            sessionRepository.addChunk(uploadId, offset, length);
+        });
+        return toDto(session, sessionRepository.findChunks(uploadId));
+    }
+
+    public RdqUploadDto getUpload(Long rdqId, String uploadId, Long userId) {
+        RdqUploadSessionEntity session = findSession(rdqId, uploadId, userId);
+        return toDto(session, sessionRepository.findChunks(uploadId));
+    }
+
+    /**
+     * Finalisation : contrôles du fichier complet, mise en place dans le magasin et création de la pièce jointe
+     * Empreinte différente : l'envoi reste ouvert (blocs renvoyables) jusqu'à annulation ou expiration
+     */
+    public RdqAttachmentDto completeUpload(Long rdqId, String uploadId, String sha256, Long userId) {
+        RdqUploadSessionEntity session = findSession(rdqId, uploadId, userId);
+        rdqService.verifyReadAccess(rdqId, userId);
+
+        RdqUploadDto state = toDto(session, sessionRepository.findChunks(uploadId));
+        if (!state.isComplete()) {
+            throw new ValidationException("Envoi incomplet : " + state.getReceivedBytes() + " octets reçus sur "
+                                          + state.getSize());
+        }
+
+        AttachmentStore.Blob blob;
+        try {
+            blob = store.adopt(uploadId, sha256.toLowerCase(Locale.ROOT),
+                               content -> attachmentService.checkSignature(content, session.contentType));
+        } catch (NoSuchFileException e) {
+            throw new UploadNotFoundException(uploadId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Finalisation de l'envoi impossible", e);
+        }
+
+        RdqAttachmentDto attachment = QuarkusTransaction.requiringNew().call(() -> {
+            // Suppression de la session sous verrou de ligne : une finalisation concurrente du même envoi échoue
+            if (!sessionRepository.deleteWithChunks(uploadId)) {
+                throw new UploadNotFoundException(uploadId);
+            }
+            return attachmentService.saveAttachment(rdqId, session.kind, session.fileName, session.contentType,
+                                                    blob, userId);
+        });
+        log.info("Upload session completed: upload={}, attachment={}", uploadId, attachment.getId());
+        return attachment;
+    }
+
+    public void abortUpload(Long rdqId, String uploadId, Long userId) {
+        findSession(rdqId, uploadId, userId);
+        try {
+            purge(uploadId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Suppression du fichier d'envoi impossible", e);
+        }
+        log.info("Upload session aborted: upload={}", uploadId);
+    }
+
+    /**
+     * Purge des envois abandonnés : fichier partiel sans écriture depuis session-ttl,
+     * ou session ancienne dont le fichier n'existe plus
+     */
+    @Scheduled(every = "${rdq.uploads.cleanup-interval:15m}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purgeAbandoned() {
+        Instant cutoff = Instant.now().minus(sessionTtl);
+        List<String> abandoned;
+        try {
+            abandoned = new ArrayList<>(store.stalePartials(cutoff));
+        } catch (IOException e) {
+            log.error("Upload sessions purge failed", e);
+            return;
+        }
+        LocalDateTime createdBefore = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        for (String uploadId : QuarkusTransaction.requiringNew()
+                .call(() -> sessionRepository.findIdsCreatedBefore(createdBefore))) {
+            if (!store.hasPartial(uploadId)) {
+                abandoned.add(uploadId);
+            }
+        }
+
+        int purged = 0;
+        for (String uploadId : abandoned) {
+            try {
+                purge(uploadId);
+                purged++;
+            } catch (Exception e) {
+                log.warn("Abandoned upload {} not purged: {}", uploadId, e.getMessage());
+            }
+        }
+        if (purged > 0) {
+            log.info("Abandoned upload sessions purged: {}", purged);
+        }
+    }
+
+    private void deletePartialQuietly(String uploadId) {
+        try {
+            store.deletePartial(uploadId);
+        } catch (IOException e) {
+            log.warn("Upload file {} not deleted, left to the purge: {}", uploadId, e.getMessage());
+        }
+    }
+
+    private void purge(String uploadId) throws IOException {
+        QuarkusTransaction.requiringNew().run(() -> sessionRepository.deleteWithChunks(uploadId));
+        store.deletePartial(uploadId);
+    }
+
+    /**
+     * Session de l'utilisateur pour cette RDQ ; introuvable sinon (pas d'indication sur les envois des autres)
+     */
+    private RdqUploadSessionEntity findSession(Long rdqId, String uploadId, Long userId) {
+        RdqUploadSessionEntity session = sessionRepository.findById(uploadId);
+        if (session == null || !session.rdqId.equals(rdqId) || !session.userId.equals(userId)) {
+            throw new UploadNotFoundException(uploadId);
+        }
+        return session;
+    }
+
+    /**
+     * État de l'envoi : blocs (triés par position) fusionnés en plages reçues
+     */
+    static RdqUploadDto toDto(RdqUploadSessionEntity session, List<long[]> chunks) {
+        List<RdqUploadDto.ByteSpan> received = new ArrayList<>();
+        long receivedBytes = 0;
+        long start = -1;
+        long end = -1;
+        for (long[] chunk : chunks) {
+            long chunkEnd = chunk[0] + chunk[1];
+            if (start >= 0 && chunk[0] <= end) {
+                end = Math.max(end, chunkEnd);
+                continue;
+            }
+            if (start >= 0) {
+                received.add(new RdqUploadDto.ByteSpan(start, end - 1));
+                receivedBytes += end - start;
+            }
+            start = chunk[0];
+            end = chunkEnd;
+        }
+        if (start >= 0) {
+            received.add(new RdqUploadDto.ByteSpan(start, end - 1));
+            receivedBytes += end - start;
+        }
+
+        long nextOffset = !received.isEmpty() && received.get(0).getStart() == 0 ? received.get(0).getEnd() + 1 : 0;
+        return new RdqUploadDto(session.id, session.rdqId, session.kind, session.fileName, session.contentType,
+                                session.sizeBytes, receivedBytes, nextOffset, nextOffset == session.sizeBytes,
+                                received, session.createdAt);
+    }
+}
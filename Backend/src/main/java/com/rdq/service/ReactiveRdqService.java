@@ -0,0 +1,95 @@
+package com.rdq.service;
+
+import com.rdq.dto.PageDto;
+import com.rdq.dto.RdqDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqSummaryDto;
+import com.rdq.entity.RdqStatus;
+import com.rdq.exception.AccessDeniedException;
+import com.rdq.exception.RdqNotFoundException;
+import com.rdq.repository.ReactiveRdqRepository;
+import com.rdq.util.ResourceVersion;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service réactif des lectures RDQ (liste, détail, recherche)
+ * - Mêmes règles de visibilité que RdqService, sans thread bloqué pendant les requêtes SQL
+ * - Les erreurs métier sont propagées comme échecs du Uni
+ */
+@ApplicationScoped
+@IfBuildProperty(name = ReactiveRdqRepository.REACTIVE_PROPERTY, stringValue = "true", enableIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRdqService {
+    
+    private final ReactiveRdqRepository reactiveRdqRepository;
+    
+    /**
+     * RDQ d'un utilisateur, page et total en une requête
+     */
+    public Uni<PageDto<RdqSummaryDto>> getUserRdqs(Long userId, RdqStatus status, int page, int size) {
+        log.debug("Getting RDQs (reactive) for user {}, status {}, page {}, size {}", userId, status, page, size);
+        
+        return reactiveRdqRepository.findUserSummaryPage(userId, status, page, size)
+                .flatMap(summaryPage -> {
+                    long totalElements = summaryPage.getTotalElements();
+                    if (totalElements >= 0 || page == 0) {
+                        return Uni.createFrom().item(RdqService.toPage(summaryPage.getContent(),
+                                Math.max(totalElements, 0), page, size));
+                    }
+                    // Page au-delà de la fin : comptage explicite
+                    return reactiveRdqRepository.countUserRdqs(userId, status)
+                            .map(count -> RdqService.toPage(summaryPage.getContent(), count, page, size));
+                });
+    }
+    
+    /**
+     * Version de la page de liste (ETag) : même agrégation et même calcul que RdqService.getRdqListVersion
+     */
+    public Uni<ResourceVersion> getUserRdqsVersion(Long userId, RdqStatus status, int page, int size) {
+        return reactiveRdqRepository.findUserListVersion(userId, status)
+                .map(version -> RdqService.toListVersion(version, userId, status, null, null, null, null, null,
+                                                         "offset:" + page + ":" + size + ":true"));
+    }
+    
+    /**
+     * RDQ par ID avec vérification des droits de lecture
+     */
+    public Uni<RdqDto> getRdqById(Long rdqId, Long userId) {
+        log.debug("Getting RDQ (reactive) {} for user {}", rdqId, userId);
+        
+        return reactiveRdqRepository.findByIdWithUser(rdqId)
+                .onItem().ifNull().failWith(() -> new RdqNotFoundException(rdqId))
+                .invoke(rdq -> validateReadPermissions(rdq, userId));
+    }
+    
+    /**
+     * Recherche plein texte : page et total exécutés en parallèle sur le pool réactif
+     */
+    public Uni<PageDto<RdqSearchResultDto>> searchByText(String term, Long userId, int page, int size) {
+        log.debug("Full-text search (reactive) for user {}, page {}, size {}", userId, page, size);
+        
+        return Uni.combine().all()
+                .unis(reactiveRdqRepository.searchFullText(term, userId, page, size),
+                      reactiveRdqRepository.countFullText(term, userId))
+                .combinedWith((results, total) -> RdqService.toPage(results, total, page, size));
+    }
+    
+    // ========== Méthodes privées de validation ==========
+    
+    private void validateReadPermissions(RdqDto rdq, Long userId) {
+        // L'utilisateur peut voir sa propre RDQ, un manager celles de son équipe
+        if (rdq.getUserDto().getId().equals(userId)) {
+            return;
+        }
+        if (rdq.getManagerDto() != null && rdq.getManagerDto().getId().equals(userId)) {
+            return;
+        }
+        throw new AccessDeniedException("Accès non autorisé à cette RDQ");
+    }
+}
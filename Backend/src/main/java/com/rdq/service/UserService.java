@@ -11,6 +11,7 @@ import com.rdq.exception.UserNotFoundException;
 import com.rdq.exception.BusinessException;
 import com.rdq.security.PasswordService;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -39,35 +40,42 @@ public class UserService {
     
     /**
      * Création d'un utilisateur
+     * Hash BCrypt calculé avant la transaction : aucune connexion retenue pendant le calcul
+     * ni pendant l'attente sur un pool BCrypt saturé
      */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public UserDto createUser(CreateUserDto createDto) {
         log.debug("Creating user: {}", createDto.getEmail());
         
-        // Validation métier
-        validateUserCreation(createDto);
-        
-        // Transformation DTO -> Entity avec MapStruct
-        UserEntity entity = userMapper.toEntity(createDto);
-        
-        // Hash du mot de passe (sécurité OWASP A02)
-        entity.passwordHash = passwordService.hashPassword(createDto.getPassword());
-        
-        // Gestion du manager si spécifié
-        if (createDto.getManagerId() != null) {
-            UserEntity manager = userRepository.findById(createDto.getManagerId());
-            if (manager == null) {
-                throw new BusinessException("MANAGER_NOT_FOUND", "Manager non trouvé");
+        // Validation du mot de passe puis hash (sécurité OWASP A02)
+        validatePassword(createDto.getPassword());
+        String passwordHash = passwordService.hashPassword(createDto.getPassword());
+        
+        return QuarkusTransaction.requiringNew().call(() -> {
+            // Validation métier
+            validateEmailAvailable(createDto.getEmail());
+            
+            // Transformation DTO -> Entity avec MapStruct
+            UserEntity entity = userMapper.toEntity(createDto);
+            entity.passwordHash = passwordHash;
+            
+            // Gestion du manager si spécifié
+            if (createDto.getManagerId() != null) {
+                UserEntity manager = userRepository.findById(createDto.getManagerId());
+                if (manager == null) {
+                    throw new BusinessException("MANAGER_NOT_FOUND", "Manager non trouvé");
+                }
+                entity.manager = manager;
             }
-            entity.manager = manager;
-        }
-        
-        // Persistance
-        userRepository.persist(entity);
-        
-        log.info("User created successfully: id={}, email={}", entity.id, entity.email);
-        
-        // Retour DTO avec MapStruct
-        return userMapper.toDto(entity);
+            
+            // Persistance
+            userRepository.persist(entity);
+            
+            log.info("User created successfully: id={}, email={}", entity.id, entity.email);
+            
+            // Retour DTO avec MapStruct
+            return userMapper.toDto(entity);
+        });
     }
     
     /**
@@ -213,14 +221,16 @@ public class UserService {
         return entity;
     }
     
-    private void validateUserCreation(CreateUserDto dto) {
+    private void validateEmailAvailable(String email) {
         // Vérification unicité email
-        if (userRepository.findByEmail(dto.getEmail()) != null) {
+        if (userRepository.emailExists(email)) {
             throw new BusinessException("EMAIL_ALREADY_EXISTS", "Cet email est déjà utilisé");
         }
-        
+    }
+    
+    private void validatePassword(String password) {
         // Validation mot de passe
-        if (!passwordService.isValidPassword(dto.getPassword())) {
+        if (!passwordService.isValidPassword(password)) {
             throw new BusinessException("WEAK_PASSWORD", 
                 "Le mot de passe doit contenir au moins 8 caractères, une majuscule, une minuscule et un chiffre");
         }
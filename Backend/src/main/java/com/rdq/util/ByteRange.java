@@ -0,0 +1,85 @@
+package com.rdq.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plage d'octets demandée par l'en-tête Range (unité bytes, bornes incluses)
+ * - Une seule plage prise en charge : une demande multi-plages est servie en entier (200 autorisé par HTTP)
+ * - En-tête mal formé ignoré (200) ; plage commençant au-delà de la fin : non satisfaisable (416)
+ * - Fin de plage au-delà du fichier ramenée au dernier octet
+ */
+public final class ByteRange {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Plage demandée par header pour un contenu de size octets, ou null si le contenu doit être envoyé en entier
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = SINGLE_RANGE.matcher(header.strip());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+
+        try {
+            if (matcher.group(1).isEmpty()) {
+                // Suffixe : les N derniers octets
+                long suffix = Long.parseLong(matcher.group(2));
+                return suffix == 0 || size == 0 ? UNSATISFIABLE : new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long first = Long.parseLong(matcher.group(1));
+            long last = matcher.group(2).isEmpty() ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+            if (last < first) {
+                return null;
+            }
+            return first >= size ? UNSATISFIABLE : new ByteRange(first, Math.min(last, size - 1));
+        } catch (NumberFormatException e) {
+            // Borne au-delà de Long.MAX_VALUE
+            return null;
+        }
+    }
+
+    /**
+     * Valeur de Content-Range d'une réponse 416
+     */
+    public static String unsatisfiedContentRange(long size) {
+        return "bytes */" + size;
+    }
+
+    public boolean isSatisfiable() {
+        return this != UNSATISFIABLE;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Valeur de Content-Range d'une réponse 206
+     */
+    public String contentRange(long size) {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+}
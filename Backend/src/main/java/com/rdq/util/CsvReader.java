@@ -0,0 +1,127 @@
+package com.rdq.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecteur CSV en flux (RFC 4180), un enregistrement à la fois
+ * - Séparateur virgule, champs entre guillemets avec "" pour un guillemet littéral
+ * - Retours à la ligne (LF ou CRLF) autorisés dans un champ entre guillemets
+ * - Marque d'ordre des octets (BOM) UTF-8 ignorée en tête de flux (exports Excel)
+ * - Aucune mise en mémoire au-delà de l'enregistrement courant
+ */
+public final class CsvReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long recordLine;
+    private int pending = -2;
+    private boolean started;
+
+    /**
+     * Le lecteur fourni doit être tamponné (BufferedReader) : la lecture se fait caractère par caractère
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Enregistrement suivant, ou null en fin de flux
+     * Les lignes vides sont ignorées
+     */
+    public List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        recordLine = line;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IOException("Guillemet non fermé dans l'enregistrement de la ligne " + recordLine);
+                }
+                if (!fieldStarted && record.isEmpty()) {
+                    return null;
+                }
+                record.add(field.toString());
+                return record;
+            }
+            if (quoted) {
+                if (c == QUOTE) {
+                    int following = read();
+                    if (following == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == SEPARATOR) {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                line++;
+                if (!fieldStarted && record.isEmpty()) {
+                    recordLine = line;
+                    continue;
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+    }
+
+    /**
+     * Numéro de ligne (à partir de 1) du début du dernier enregistrement lu
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
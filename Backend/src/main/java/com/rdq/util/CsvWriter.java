@@ -0,0 +1,77 @@
+package com.rdq.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Écrivain CSV en flux (RFC 4180), pendant de CsvReader
+ * - Séparateur virgule, fin d'enregistrement CRLF
+ * - Champ entre guillemets s'il contient un séparateur, un guillemet ou un retour à la ligne
+ * - Injection de formules (OWASP) neutralisée : un champ commençant par = + - @ ou une tabulation
+ *   est préfixé d'une apostrophe pour ne pas être évalué par un tableur
+ */
+public final class CsvWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String RECORD_END = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Le writer fourni doit être tamponné (BufferedWriter) : un enregistrement produit plusieurs écritures
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Écriture d'un enregistrement, null écrit comme un champ vide
+     */
+    public void writeRecord(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write(RECORD_END);
+    }
+
+    private void writeField(String value) throws IOException {
+        String safe = startsLikeFormula(value) ? "'" + value : value;
+        if (!needsQuotes(safe)) {
+            writer.write(safe);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < safe.length(); i++) {
+            char c = safe.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean startsLikeFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
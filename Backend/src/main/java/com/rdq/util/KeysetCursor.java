@@ -0,0 +1,73 @@
+package com.rdq.util;
+
+import com.rdq.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Curseur de pagination keyset (createdAt, id)
+ * - Encodé en Base64 URL-safe pour rester opaque côté client
+ * - Le couple (createdAt, id) correspond au tri "createdAt DESC, id DESC"
+ * - Un curseur altéré est rejeté (OWASP A01 - validation des entrées)
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ',';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("createdAt et id sont obligatoires pour un curseur");
+        }
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * Décodage d'un curseur reçu dans le paramètre "after"
+     * Retourne null pour un curseur vide (première page)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new ValidationException("Curseur de pagination invalide");
+            }
+            return of(LocalDateTime.parse(raw.substring(0, separator)),
+                      Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Curseur de pagination invalide");
+        }
+    }
+
+    /**
+     * Encodage opaque du curseur
+     */
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                     .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
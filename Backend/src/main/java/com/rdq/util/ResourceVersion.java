@@ -0,0 +1,115 @@
+package com.rdq.util;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Version d'une représentation pour les requêtes conditionnelles (ETag fort et Last-Modified)
+ * - ETag : empreinte SHA-256 tronquée des éléments qui déterminent la représentation
+ *   (identifiants, filtres, horodatages à la nanoseconde, nombre de lignes)
+ * - Last-Modified : horodatage le plus récent, tronqué à la seconde comme l'en-tête HTTP
+ * - Cache-Control private, no-cache : réutilisation par le navigateur après revalidation uniquement
+ */
+public final class ResourceVersion {
+
+    private static final int TAG_BYTES = 16;
+    private static final byte PART_SEPARATOR = 0x1F;
+    private static final CacheControl REVALIDATE = revalidate();
+
+    private final EntityTag entityTag;
+    private final Date lastModified;
+
+    private ResourceVersion(EntityTag entityTag, Date lastModified) {
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Version calculée à partir des éléments de la représentation
+     * lastModified peut être null (liste vide) : seul l'ETag est alors émis
+     */
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update(PART_SEPARATOR);
+        }
+        String tag = Base64.getUrlEncoder().withoutPadding()
+                           .encodeToString(Arrays.copyOf(digest.digest(), TAG_BYTES));
+
+        Date date = lastModified == null ? null
+                : Date.from(lastModified.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()).toInstant());
+        return new ResourceVersion(new EntityTag(tag), date);
+    }
+
+    /**
+     * Horodatage le plus récent parmi values (valeurs null ignorées)
+     */
+    public static LocalDateTime latest(LocalDateTime... values) {
+        LocalDateTime latest = null;
+        for (LocalDateTime value : values) {
+            if (value != null && (latest == null || value.isAfter(latest))) {
+                latest = value;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Évaluation de If-None-Match / If-Modified-Since
+     * Retourne une réponse 304 prête à construire, ou null si la représentation doit être envoyée
+     */
+    public Response.ResponseBuilder evaluatePreconditions(Request request) {
+        Response.ResponseBuilder notModified = lastModified != null
+                ? request.evaluatePreconditions(lastModified, entityTag)
+                : request.evaluatePreconditions(entityTag);
+        return notModified == null ? null : tag(notModified);
+    }
+
+    /**
+     * En-têtes de version ajoutés à une réponse
+     */
+    public Response.ResponseBuilder tag(Response.ResponseBuilder builder) {
+        builder.tag(entityTag).cacheControl(REVALIDATE);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    public EntityTag getEntityTag() {
+        return entityTag;
+    }
+
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+}
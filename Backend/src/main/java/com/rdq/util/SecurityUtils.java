@@ -6,33 +6,12 @@ import jakarta.enterprise.context.ApplicationScoped;
 /**
  * Utilitaires de sécurité selon les instructions Backend
  * - Extraction d'informations du contexte de sécurité
+ * - Identifiant de l'utilisateur courant : CurrentUser (claim userId du JWT)
  * - Gestion des rôles et permissions
  */
 @ApplicationScoped
 public class SecurityUtils {
     
-    /**
-     * Extraction de l'ID utilisateur depuis le contexte de sécurité
-     */
-    public static Long getCurrentUserId(SecurityContext securityContext) {
-        if (securityContext == null || securityContext.getUserPrincipal() == null) {
-            throw new SecurityException("Utilisateur non authentifié");
-        }
-        
-        // TODO: Adapter selon l'implémentation JWT de Quarkus
-        // Pour le moment, simulation - à adapter avec le vrai JWT
-        String userPrincipal = securityContext.getUserPrincipal().getName();
-        
-        // Si le principal contient l'ID utilisateur
-        try {
-            return Long.parseLong(userPrincipal);
-        } catch (NumberFormatException e) {
-            // Si le principal est l'email, récupérer l'ID depuis un service
-            // Pour le moment, retourner un ID fictif
-            return 1L;
-        }
-    }
-    
     /**
      * Vérification si l'utilisateur a un rôle spécifique
      */
@@ -0,0 +1,35 @@
+package com.rdq.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Texte libre sûr contre les injections XSS (OWASP A07)
+ * - Lettres ASCII, chiffres, espaces, ponctuation simple - _ . , ! ? ( ) et lettres accentuées françaises
+ * - Non vide et limité à max caractères ; null est accepté (combiner avec @NotBlank si obligatoire)
+ */
+@Documented
+@Constraint(validatedBy = SafeTextValidator.class)
+@Target({FIELD, METHOD, PARAMETER, ANNOTATION_TYPE, TYPE_USE})
+@Retention(RUNTIME)
+public @interface SafeText {
+    
+    String message() default "Format d'entrée invalide";
+    
+    int max() default 2000;
+    
+    Class<?>[] groups() default {};
+    
+    Class<? extends Payload>[] payload() default {};
+}
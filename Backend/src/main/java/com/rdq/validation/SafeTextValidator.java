@@ -0,0 +1,61 @@
+package com.rdq.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validateur de @SafeText par table de correspondance précalculée
+ * - Un parcours unique des caractères, sans expression régulière ni allocation
+ * - Tout caractère hors Latin-1 est refusé sans consulter la table
+ */
+public class SafeTextValidator implements ConstraintValidator<SafeText, CharSequence> {
+    
+    private static final String ALLOWED_PUNCTUATION = " \t\n\u000B\f\r-_.,!?()";
+    private static final String ALLOWED_ACCENTS = "àáâãäåçèéêëìíîïñòóôõöùúûüýÿ";
+    
+    private static final boolean[] ALLOWED = new boolean[256];
+    
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ALLOWED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ALLOWED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ALLOWED[c] = true;
+        }
+        for (char c : (ALLOWED_PUNCTUATION + ALLOWED_ACCENTS).toCharArray()) {
+            ALLOWED[c] = true;
+        }
+    }
+    
+    private int max;
+    
+    @Override
+    public void initialize(SafeText constraint) {
+        this.max = constraint.max();
+    }
+    
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isSafe(value, max);
+    }
+    
+    /**
+     * Vérification directe, utilisable hors Bean Validation
+     */
+    public static boolean isSafe(CharSequence value, int max) {
+        int length = value.length();
+        if (length == 0 || length > max) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= ALLOWED.length || !ALLOWED[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
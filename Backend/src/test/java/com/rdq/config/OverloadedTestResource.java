@@ -0,0 +1,24 @@
+package com.rdq.config;
+
+import com.rdq.exception.BusinessException;
+import com.rdq.exception.ServiceOverloadedException;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Endpoint de test : saturation levée sous la gestion d'erreurs habituelle des ressources (BusinessException -> 400)
+ */
+@Path("/test/overloaded")
+public class OverloadedTestResource {
+
+    @GET
+    public Response overloaded() {
+        try {
+            throw new ServiceOverloadedException("Service momentanément saturé, réessayez", 3);
+        } catch (BusinessException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+}
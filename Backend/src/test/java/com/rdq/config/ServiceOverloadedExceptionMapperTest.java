@@ -0,0 +1,24 @@
+package com.rdq.config;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Saturation traduite en 503 avec Retry-After quel que soit l'endpoint
+ */
+@QuarkusTest
+class ServiceOverloadedExceptionMapperTest {
+
+    @Test
+    void shouldMapOverloadToServiceUnavailableWithRetryAfter() {
+        given()
+            .when().get("/test/overloaded")
+            .then()
+            .statusCode(503)
+            .header("Retry-After", "3")
+            .body("code", equalTo("SERVICE_OVERLOADED"));
+    }
+}
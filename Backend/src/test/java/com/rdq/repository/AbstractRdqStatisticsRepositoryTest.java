@@ -0,0 +1,94 @@
+package com.rdq.repository;
+
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.RdqStatisticEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Suite commune des upserts natifs des compteurs de statistiques, exécutée par base de données
+ * - increment : création au premier appel, puis cumul (deltas négatifs compris)
+ * - set : valeur absolue, ligne existante ou non
+ */
+abstract class AbstractRdqStatisticsRepositoryTest {
+
+    @Inject
+    RdqStatisticsRepository statisticsRepository;
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> statisticsRepository.deleteAll());
+    }
+
+    /**
+     * Premier incrément : ligne créée avec le delta
+     */
+    @Test
+    void shouldCreateCounterOnFirstIncrement() {
+        increment(RdqStatisticDimension.TYPE, "FORMATION", 3);
+
+        assertEquals(3, count(RdqStatisticDimension.TYPE, "FORMATION"));
+    }
+
+    /**
+     * Incréments suivants cumulés sur la même ligne, deltas négatifs compris
+     */
+    @Test
+    void shouldAddToExistingCounter() {
+        increment(RdqStatisticDimension.STATUS, "DRAFT", 3);
+        increment(RdqStatisticDimension.STATUS, "DRAFT", -1);
+        increment(RdqStatisticDimension.STATUS, "DRAFT", 2);
+
+        assertEquals(4, count(RdqStatisticDimension.STATUS, "DRAFT"));
+        assertEquals(1, QuarkusTransaction.requiringNew().call(() -> statisticsRepository.count()));
+    }
+
+    /**
+     * Même valeur sur deux axes : deux compteurs distincts
+     */
+    @Test
+    void shouldKeepDimensionsApart() {
+        increment(RdqStatisticDimension.USER, "1", 2);
+        increment(RdqStatisticDimension.STATUS, "1", 5);
+
+        assertEquals(2, count(RdqStatisticDimension.USER, "1"));
+        assertEquals(5, count(RdqStatisticDimension.STATUS, "1"));
+    }
+
+    /**
+     * set remplace le compteur existant et crée celui qui manque
+     */
+    @Test
+    void shouldSetAbsoluteValue() {
+        increment(RdqStatisticDimension.PRIORITY, "HIGH", 5);
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            statisticsRepository.set(RdqStatisticDimension.PRIORITY, "HIGH", 2, LocalDateTime.now());
+            statisticsRepository.set(RdqStatisticDimension.PRIORITY, "LOW", 7, LocalDateTime.now());
+        });
+
+        assertEquals(2, count(RdqStatisticDimension.PRIORITY, "HIGH"));
+        assertEquals(7, count(RdqStatisticDimension.PRIORITY, "LOW"));
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private void increment(RdqStatisticDimension dimension, String value, long delta) {
+        QuarkusTransaction.requiringNew().run(() ->
+                statisticsRepository.increment(dimension, value, delta, LocalDateTime.now()));
+    }
+
+    private long count(RdqStatisticDimension dimension, String value) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            RdqStatisticEntity counter = statisticsRepository.findById(new RdqStatisticEntity.Key(dimension, value));
+            assertNotNull(counter, dimension + "/" + value);
+            return counter.rdqCount;
+        });
+    }
+}
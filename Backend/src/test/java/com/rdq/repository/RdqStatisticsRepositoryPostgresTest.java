@@ -0,0 +1,15 @@
+package com.rdq.repository;
+
+import com.rdq.util.PostgresTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Tests des upserts natifs des compteurs sur PostgreSQL (INSERT ... ON CONFLICT)
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Testcontainers(disabledWithoutDocker = true)
+class RdqStatisticsRepositoryPostgresTest extends AbstractRdqStatisticsRepositoryTest {
+}
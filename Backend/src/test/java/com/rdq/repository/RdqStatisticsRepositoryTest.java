@@ -0,0 +1,10 @@
+package com.rdq.repository;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Tests des upserts natifs des compteurs sur H2 (MERGE)
+ */
+@QuarkusTest
+class RdqStatisticsRepositoryTest extends AbstractRdqStatisticsRepositoryTest {
+}
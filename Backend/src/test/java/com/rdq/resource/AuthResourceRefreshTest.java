@@ -0,0 +1,82 @@
+package com.rdq.resource;
+
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.UserRepository;
+import com.rdq.security.CurrentUser;
+import com.rdq.security.JwtService;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Renouvellement du token (POST /api/auth/refresh)
+ * - Le nouveau token est émis pour l'utilisateur du token présenté, lu dans ses claims vérifiés
+ */
+@QuarkusTest
+class AuthResourceRefreshTest {
+
+    @Inject
+    JwtService jwtService;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    JWTParser jwtParser;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = QuarkusTransaction.requiringNew().call(() -> {
+            UserEntity created = TestDataBuilder.createUser("refresh@example.com");
+            userRepository.persist(created);
+            return created;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> userRepository.deleteById(user.id));
+    }
+
+    @Test
+    void shouldIssueTokenForCallerOfRefresh() throws Exception {
+        String newToken = given()
+            .contentType(ContentType.JSON)
+            .header("Authorization", "Bearer " + jwtService.generateToken(user))
+            .when().post("/api/auth/refresh")
+            .then()
+            .statusCode(200)
+            .extract().path("token");
+
+        JsonWebToken refreshed = jwtParser.parse(newToken);
+        assertEquals(user.id, Long.valueOf(refreshed.getClaim(CurrentUser.USER_ID_CLAIM).toString()));
+        assertEquals(user.email, refreshed.getSubject());
+    }
+
+    @Test
+    void shouldRefuseRefreshForDeactivatedUser() {
+        String token = jwtService.generateToken(user);
+        QuarkusTransaction.requiringNew().run(() -> userRepository.findById(user.id).active = false);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("Authorization", "Bearer " + token)
+            .when().post("/api/auth/refresh")
+            .then()
+            .statusCode(401)
+            .body("code", equalTo("INVALID_CREDENTIALS"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.rdq.resource;
+
+import com.rdq.dto.LoginDto;
+import com.rdq.util.UntrustedProxyTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Tests de la limitation des connexions par IP derrière un proxy
+ * - Un X-Forwarded-For venu d'un client hors proxys de confiance ne change pas l'IP comptée
+ */
+@QuarkusTest
+@TestProfile(UntrustedProxyTestProfile.class)
+class AuthResourceThrottleTest {
+
+    /**
+     * Faire varier X-Forwarded-For et l'email ne contourne pas la limite par IP
+     */
+    @Test
+    void shouldIgnoreForwardedForFromUntrustedClient() {
+        for (int attempt = 0; attempt < UntrustedProxyTestProfile.MAX_PER_IP; attempt++) {
+            login(attempt)
+                .then()
+                .statusCode(401);
+        }
+
+        login(UntrustedProxyTestProfile.MAX_PER_IP)
+            .then()
+            .statusCode(429)
+            .header("Retry-After", notNullValue())
+            .body("code", equalTo("TOO_MANY_ATTEMPTS"));
+    }
+
+    private static Response login(int attempt) {
+        return given()
+            .contentType(ContentType.JSON)
+            .header("X-Forwarded-For", "203.0.113." + attempt)
+            .body(new LoginDto("throttle" + attempt + "@example.com", "Motdepasse1!"))
+            .when()
+            .post("/api/auth/login");
+    }
+}
@@ -0,0 +1,44 @@
+package com.rdq.resource;
+
+import com.rdq.security.Claim;
+import com.rdq.security.JwtSecurity;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static com.rdq.resource.HandlingThreadFilter.VIRTUAL_THREAD_HEADER;
+import static io.restassured.RestAssured.given;
+
+/**
+ * Build par défaut : RdqResource, AuthResource et RdqUploadResource s'exécutent sur threads virtuels
+ */
+@QuarkusTest
+class EndpointThreadingTest {
+
+    @Test
+    void shouldRunAuthResourceOnVirtualThread() {
+        given()
+            .contentType(ContentType.JSON)
+            .when().post("/api/auth/refresh")
+            .then()
+            .statusCode(401)
+            .header(VIRTUAL_THREAD_HEADER, "true");
+    }
+
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = "900001"))
+    void shouldRunRdqResourcesOnVirtualThread() {
+        given()
+            .when().get("/api/rdq/stats")
+            .then()
+            .header(VIRTUAL_THREAD_HEADER, "true");
+
+        given()
+            .when().get("/api/rdq/1/uploads/00000000-0000-0000-0000-000000000000")
+            .then()
+            .statusCode(400)
+            .header(VIRTUAL_THREAD_HEADER, "true");
+    }
+}
@@ -0,0 +1,17 @@
+package com.rdq.resource;
+
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Filtre de test : indique dans la réponse si l'endpoint a été exécuté sur un thread virtuel
+ */
+public class HandlingThreadFilter {
+
+    static final String VIRTUAL_THREAD_HEADER = "X-Test-Virtual-Thread";
+
+    @ServerResponseFilter
+    public void addHandlingThread(ContainerResponseContext response) {
+        response.getHeaders().putSingle(VIRTUAL_THREAD_HEADER, String.valueOf(Thread.currentThread().isVirtual()));
+    }
+}
@@ -1,32 +1,74 @@
 package com.rdq.resource;
 
+import com.rdq.dto.BulkDecisionDto;
 import com.rdq.dto.CreateRdqDto;
 import com.rdq.dto.LoginDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqStatus;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
+import com.rdq.entity.UserRole;
+import com.rdq.repository.NotificationOutboxRepository;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.security.Claim;
+import com.rdq.security.JwtSecurity;
+import com.rdq.service.RdqService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Tests d'intégration pour RdqResource selon les instructions Backend
  * - Tests end-to-end avec @QuarkusTest
- * - Tests de sécurité avec @TestSecurity
+ * - Tests de sécurité avec @TestSecurity et claim userId du JWT (@JwtSecurity)
+ * - Utilisateurs des identités de test insérés avec des ID fixes, hors plage des séquences
  * - Validation des endpoints REST
  */
 @QuarkusTest
 class RdqResourceIT {
     
+    static final String TEST_USER_ID = "900001";
+    static final String MANAGER_ID = "900002";
+    static final String OTHER_USER_ID = "900003";
+    
+    @Inject
+    UserRepository userRepository;
+    
+    @Inject
+    RdqRepository rdqRepository;
+    
+    @Inject
+    NotificationOutboxRepository outboxRepository;
+    
+    @Inject
+    RdqService rdqService;
+    
     private CreateRdqDto validCreateDto;
     
     @BeforeEach
     void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            ensureUser(MANAGER_ID, "manager@example.com", UserRole.MANAGER, null);
+            ensureUser(TEST_USER_ID, "test@example.com", UserRole.USER, MANAGER_ID);
+            ensureUser(OTHER_USER_ID, "user@example.com", UserRole.USER, null);
+        });
+        
         validCreateDto = CreateRdqDto.builder()
                 .title("Formation Java Spring Boot")
                 .description("Formation complète sur Spring Boot pour monter en compétences sur ce framework")
@@ -51,6 +93,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldCreateRdqSuccessfully() {
         given()
             .contentType(ContentType.JSON)
@@ -64,11 +107,45 @@ class RdqResourceIT {
             .body("status", equalTo("DRAFT"));
     }
     
+    /**
+     * Test de mise à jour : le statut ne change pas par PUT (transitions dédiées uniquement)
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldRejectStatusChangeThroughUpdate() {
+        int id = given()
+            .contentType(ContentType.JSON)
+            .body(validCreateDto)
+            .when().post("/api/rdq")
+            .then()
+            .statusCode(201)
+            .extract().path("id");
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Titre modifié\", \"status\": \"APPROVED\"}")
+            .when().put("/api/rdq/" + id)
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("INVALID_STATUS"));
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Titre modifié\", \"status\": \"DRAFT\"}")
+            .when().put("/api/rdq/" + id)
+            .then()
+            .statusCode(200)
+            .body("title", equalTo("Titre modifié"))
+            .body("status", equalTo("DRAFT"));
+    }
+    
     /**
      * Test de récupération des RDQ utilisateur
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturnUserRdqs() {
         given()
             .when().get("/api/rdq")
@@ -82,6 +159,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturnRdqsWithPagination() {
         given()
             .queryParam("page", 0)
@@ -96,6 +174,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturnFilteredRdqs() {
         given()
             .queryParam("type", "FORMATION")
@@ -105,11 +184,228 @@ class RdqResourceIT {
             .statusCode(200);
     }
     
+    /**
+     * Test de requête conditionnelle : 304 pour un ETag inchangé
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldReturn304WhenListIsUnchanged() {
+        String etag = given()
+            .queryParam("type", "FORMATION")
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+        
+        given()
+            .queryParam("type", "FORMATION")
+            .header("If-None-Match", etag)
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag));
+    }
+    
+    /**
+     * Liste revalidée par If-Modified-Since seul après la suppression d'une ligne : 200, jamais 304
+     * (le max(updatedAt) des lignes restantes ne bouge pas, aucun Last-Modified n'est émis sur les listes)
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldNotAnswer304ToIfModifiedSinceAfterRowLeavesList() {
+        draftRdq(TEST_USER_ID);
+        int deleted = createRdq();
+    
+        given()
+            .queryParam("status", "DRAFT")
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .header("Last-Modified", nullValue());
+    
+        given()
+            .when().delete("/api/rdq/" + deleted)
+            .then()
+            .statusCode(204);
+    
+        given()
+            .queryParam("status", "DRAFT")
+            .header("If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)))
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(200)
+            .body("content.id", not(hasItem(deleted)));
+    }
+    
+    /**
+     * Détail d'une RDQ : Last-Modified conservé, If-Modified-Since satisfait par un 304
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldReturn304ForUnmodifiedRdqSinceLastModified() {
+        int id = createRdq();
+    
+        String lastModified = given()
+            .when().get("/api/rdq/" + id)
+            .then()
+            .statusCode(200)
+            .header("Last-Modified", notNullValue())
+            .extract().header("Last-Modified");
+    
+        given()
+            .header("If-Modified-Since", lastModified)
+            .when().get("/api/rdq/" + id)
+            .then()
+            .statusCode(304);
+    }
+    
+    /**
+     * Navigateur envoyant les deux validateurs : l'ETag de la lecture unique est reconnu par le chemin If-Modified-Since
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldReturn304WhenBothValidatorsMatch() {
+        int id = createRdq();
+    
+        Response first = given()
+            .when().get("/api/rdq/" + id)
+            .then()
+            .statusCode(200)
+            .extract().response();
+    
+        given()
+            .header("If-None-Match", first.header("ETag"))
+            .header("If-Modified-Since", first.header("Last-Modified"))
+            .when().get("/api/rdq/" + id)
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo(first.header("ETag")));
+    }
+    
+    /**
+     * CORS : revalidation conditionnelle autorisée en prévol, ETag et Last-Modified lisibles par le frontend
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldAllowConditionalRequestsCrossOrigin() {
+        given()
+            .header("Origin", "http://localhost:3000")
+            .header("Access-Control-Request-Method", "GET")
+            .header("Access-Control-Request-Headers", "if-none-match,if-modified-since")
+            .when().options("/api/rdq")
+            .then()
+            .statusCode(200)
+            .header("Access-Control-Allow-Headers", allOf(containsStringIgnoringCase("if-none-match"),
+                                                          containsStringIgnoringCase("if-modified-since")));
+
+        given()
+            .header("Origin", "http://localhost:3000")
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(200)
+            .header("Access-Control-Expose-Headers", allOf(containsString("ETag"),
+                                                           containsString("Last-Modified")));
+    }
+
+    /**
+     * Test d'export CSV avec filtres : en-tête en première ligne, pièce jointe
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldExportRdqsAsCsv() {
+        given()
+            .queryParam("format", "csv")
+            .queryParam("type", "FORMATION")
+            .when().get("/api/rdq/export")
+            .then()
+            .statusCode(200)
+            .contentType(startsWith("text/csv"))
+            .header("Content-Disposition", containsString("attachment"))
+            .body(startsWith("id,title,description,type,status,priority"));
+    }
+    
+    /**
+     * Test d'ajout de pièce jointe : contenu ne correspondant pas au type déclaré
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldRejectAttachmentWithUnsupportedContent() {
+        int id = createRdq();
+        
+        given()
+            .multiPart("file", "cv.pdf", "pas un PDF".getBytes(), "application/pdf")
+            .multiPart("kind", "CV")
+            .when().post("/api/rdq/" + id + "/attachments")
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("VALIDATION_ERROR"));
+    }
+    
+    /**
+     * Test d'ajout puis de téléchargement partiel d'une pièce jointe (Range, 206 puis 416)
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldDownloadAttachmentRange() {
+        int id = createRdq();
+        byte[] pdf = "%PDF-1.7 contenu de test".getBytes();
+        
+        int attachmentId = given()
+            .multiPart("file", "cv.pdf", pdf, "application/pdf")
+            .multiPart("kind", "CV")
+            .when().post("/api/rdq/" + id + "/attachments")
+            .then()
+            .statusCode(201)
+            .body("sizeBytes", equalTo(pdf.length))
+            .extract().path("id");
+        
+        given()
+            .header("Range", "bytes=0-3")
+            .when().get("/api/rdq/" + id + "/attachments/" + attachmentId)
+            .then()
+            .statusCode(206)
+            .header("Content-Range", equalTo("bytes 0-3/" + pdf.length))
+            .body(equalTo("%PDF"));
+        
+        given()
+            .header("Range", "bytes=" + pdf.length + "-")
+            .when().get("/api/rdq/" + id + "/attachments/" + attachmentId)
+            .then()
+            .statusCode(416)
+            .header("Content-Range", equalTo("bytes */" + pdf.length));
+    }
+    
+    /**
+     * Test d'ouverture d'un envoi en plusieurs blocs : taille obligatoire
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
+    void shouldRejectUploadWithoutSize() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"fileName\": \"cv.pdf\", \"contentType\": \"application/pdf\"}")
+            .when().post("/api/rdq/1/uploads")
+            .then()
+            .statusCode(400);
+    }
+    
     /**
      * Test de validation des données d'entrée
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturn400WithInvalidData() {
         var invalidDto = CreateRdqDto.builder()
                 .title("Test") // Trop court (< 5 caractères)
@@ -129,6 +425,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "user@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OTHER_USER_ID))
     void shouldReturn403ForInsufficientRole() {
         // Tentative d'approbation par un utilisateur simple
         given()
@@ -139,11 +436,42 @@ class RdqResourceIT {
             .statusCode(403); // Forbidden
     }
     
+    /**
+     * RDQ d'un autre utilisateur hors équipe : 403 ACCESS_DENIED comme /api/reactive/rdq, RDQ absente en 400
+     */
+    @Test
+    @TestSecurity(user = "user@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OTHER_USER_ID))
+    void shouldReturn403ForRdqOutsideTeam() {
+        long id = draftRdq(TEST_USER_ID);
+        
+        given()
+            .when().get("/api/rdq/" + id)
+            .then()
+            .statusCode(403)
+            .body("code", equalTo("ACCESS_DENIED"));
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(validCreateDto)
+            .when().put("/api/rdq/" + id)
+            .then()
+            .statusCode(403)
+            .body("code", equalTo("ACCESS_DENIED"));
+        
+        given()
+            .when().get("/api/rdq/899999")
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("RDQ_NOT_FOUND"));
+    }
+    
     /**
      * Test d'approbation par un manager
      */
     @Test
     @TestSecurity(user = "manager@example.com", roles = "MANAGER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = MANAGER_ID))
     void shouldApproveRdqAsManager() {
         // D'abord créer une RDQ comme utilisateur
         // Puis l'approuver comme manager (simulation)
@@ -155,11 +483,84 @@ class RdqResourceIT {
             .statusCode(anyOf(is(200), is(400))); // 400 si RDQ n'existe pas
     }
     
+    /**
+     * Décision groupée : seules les RDQ soumises des collaborateurs du manager changent de statut,
+     * chaque autre identifiant est signalé avec son code ; une notification par RDQ décidée
+     */
+    @Test
+    @TestSecurity(user = "manager@example.com", roles = "MANAGER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = MANAGER_ID))
+    void shouldApplyBulkDecisionToEligibleRdqOnly() {
+        long eligibleA = submittedRdq(TEST_USER_ID);
+        long eligibleB = submittedRdq(TEST_USER_ID);
+        long otherManager = submittedRdq(OTHER_USER_ID);
+        long draft = draftRdq(TEST_USER_ID);
+        long missing = 899999L;
+        
+        given()
+            .contentType(ContentType.JSON)
+            .body(BulkDecisionDto.builder()
+                    .ids(List.of(eligibleA, otherManager, draft, missing, eligibleB, eligibleA))
+                    .decision(BulkDecisionDto.Decision.APPROVE)
+                    .comment("Validé en lot")
+                    .build())
+            .when().post("/api/rdq/bulk-decision")
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("APPROVED"))
+            .body("requested", equalTo(5))
+            .body("updated", equalTo(2))
+            .body("results.id", contains((int) eligibleA, (int) otherManager, (int) draft, (int) missing,
+                                         (int) eligibleB))
+            .body("results.success", contains(true, false, false, false, true))
+            .body("results.code", contains(null, "ACCESS_DENIED", "INVALID_STATUS", "RDQ_NOT_FOUND", null));
+        
+        assertEquals(RdqStatus.APPROVED, statusOf(eligibleA));
+        assertEquals(RdqStatus.APPROVED, statusOf(eligibleB));
+        assertEquals(RdqStatus.SUBMITTED, statusOf(otherManager));
+        assertEquals(RdqStatus.DRAFT, statusOf(draft));
+        assertEquals("Validé en lot", QuarkusTransaction.requiringNew().call(() ->
+                rdqRepository.findById(eligibleA).managerComment));
+        
+        assertEquals(1, decisionMessages(eligibleA, "RDQ_APPROVED"));
+        assertEquals(1, decisionMessages(eligibleB, "RDQ_APPROVED"));
+        assertEquals(0, decisionMessages(otherManager, "RDQ_APPROVED"));
+        assertEquals(0, decisionMessages(draft, "RDQ_APPROVED"));
+    }
+    
+    /**
+     * Rejet groupé sans commentaire : refusé avant toute mise à jour
+     */
+    @Test
+    @TestSecurity(user = "manager@example.com", roles = "MANAGER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = MANAGER_ID))
+    void shouldRefuseBulkRejectWithoutComment() {
+        long submitted = submittedRdq(TEST_USER_ID);
+        
+        for (String comment : new String[] {null, "   "}) {
+            given()
+                .contentType(ContentType.JSON)
+                .body(BulkDecisionDto.builder()
+                        .ids(List.of(submitted))
+                        .decision(BulkDecisionDto.Decision.REJECT)
+                        .comment(comment)
+                        .build())
+                .when().post("/api/rdq/bulk-decision")
+                .then()
+                .statusCode(400)
+                .body("code", equalTo("COMMENT_REQUIRED"));
+        }
+        
+        assertEquals(RdqStatus.SUBMITTED, statusOf(submitted));
+        assertEquals(0, decisionMessages(submitted, "RDQ_REJECTED"));
+    }
+    
     /**
      * Test de recherche avec paramètres invalides
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturn400WithInvalidSearchParams() {
         given()
             .queryParam("q", "<script>alert('xss')</script>") // Tentative XSS
@@ -173,6 +574,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturnSearchResults() {
         given()
             .queryParam("q", "formation java")
@@ -187,6 +589,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldDeleteRdq() {
         // Simulation de suppression (peut retourner 404 si RDQ n'existe pas)
         given()
@@ -200,6 +603,7 @@ class RdqResourceIT {
      */
     @Test
     @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = TEST_USER_ID))
     void shouldReturnSecurityHeaders() {
         given()
             .when().get("/api/rdq")
@@ -209,4 +613,91 @@ class RdqResourceIT {
             .header("X-Content-Type-Options", "nosniff")
             .header("X-XSS-Protection", "1; mode=block");
     }
-}
\ No newline at end of file
+    
+    /**
+     * Jeton authentifié mais sans claim userId : 401, aucun ID par défaut
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "role", value = "USER"))
+    void shouldReturn401WithoutUserIdClaim() {
+        given()
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(401);
+        
+        given()
+            .when().get("/api/rdq/stats")
+            .then()
+            .statusCode(401);
+    }
+    
+    /**
+     * Claim userId non numérique : 401 comme un claim absent, pas d'erreur 500
+     */
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = "not-a-number"))
+    void shouldReturn401WithNonNumericUserIdClaim() {
+        given()
+            .when().get("/api/rdq/stats")
+            .then()
+            .statusCode(401);
+    }
+    
+    // ========== Méthodes utilitaires ==========
+    
+    /**
+     * RDQ créée par l'utilisateur authentifié du test, retourne son identifiant
+     */
+    private int createRdq() {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(validCreateDto)
+            .when().post("/api/rdq")
+            .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+    
+    /**
+     * RDQ brouillon créée par le service pour ownerId (compteurs et outbox tenus à jour)
+     */
+    private long draftRdq(String ownerId) {
+        return rdqService.createRdq(validCreateDto, Long.valueOf(ownerId)).getId();
+    }
+    
+    private long submittedRdq(String ownerId) {
+        long id = draftRdq(ownerId);
+        rdqService.submitRdq(id, Long.valueOf(ownerId));
+        return id;
+    }
+    
+    private RdqStatus statusOf(long rdqId) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            RdqEntity rdq = rdqRepository.findById(rdqId);
+            return rdq.status;
+        });
+    }
+    
+    private long decisionMessages(long rdqId, String notificationType) {
+        return QuarkusTransaction.requiringNew().call(() ->
+                outboxRepository.count("rdqId = ?1 AND notificationType = ?2", rdqId, notificationType));
+    }
+    
+    private void ensureUser(String id, String email, UserRole role, String managerId) {
+        if (userRepository.findById(Long.valueOf(id)) != null) {
+            return;
+        }
+        userRepository.getEntityManager().createNativeQuery(
+                        "INSERT INTO users (id, email, first_name, last_name, password_hash, role, manager_id, "
+                        + "active, created_at, updated_at) "
+                        + "VALUES (?1, ?2, 'Prénom', 'Nom', ?3, ?4, ?5, true, current_timestamp, current_timestamp)")
+                .setParameter(1, Long.valueOf(id))
+                .setParameter(2, email)
+                .setParameter(3, "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl.jvKq.L7O")
+                .setParameter(4, role.name())
+                .setParameter(5, managerId != null ? Long.valueOf(managerId) : null)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,335 @@
+package com.rdq.resource;
+
+import com.rdq.dto.CreateRdqDto;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqType;
+import com.rdq.repository.RdqUploadSessionRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.security.Claim;
+import com.rdq.security.JwtSecurity;
+import com.rdq.service.AttachmentStore;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration des envois en plusieurs blocs (/api/rdq/{id}/uploads)
+ * - Ouverture, blocs dans le désordre ou en parallèle, reprise à nextOffset après coupure
+ * - Finalisation : empreinte erronée (envoi conservé) puis correcte (pièce jointe créée, envoi supprimé)
+ * - Blocs hors du fichier refusés
+ */
+@QuarkusTest
+@TestSecurity(user = "test@example.com", roles = "USER")
+@JwtSecurity(claims = @Claim(key = "userId", value = RdqResourceIT.TEST_USER_ID))
+class RdqUploadResourceIT {
+
+    private static final byte[] CONTENT = ("%PDF-1.7 " + "contenu de la pièce jointe envoyée par blocs ".repeat(3))
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    RdqUploadSessionRepository sessionRepository;
+
+    @Inject
+    AttachmentStore store;
+
+    private int rdqId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            if (userRepository.findById(Long.valueOf(RdqResourceIT.TEST_USER_ID)) == null) {
+                userRepository.getEntityManager().createNativeQuery(
+                                "INSERT INTO users (id, email, first_name, last_name, password_hash, role, "
+                                + "active, created_at, updated_at) "
+                                + "VALUES (?1, 'test@example.com', 'Prénom', 'Nom', ?2, 'USER', true, "
+                                + "current_timestamp, current_timestamp)")
+                        .setParameter(1, Long.valueOf(RdqResourceIT.TEST_USER_ID))
+                        .setParameter(2, "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl.jvKq.L7O")
+                        .executeUpdate();
+            }
+        });
+
+        rdqId = given()
+            .contentType(ContentType.JSON)
+            .body(CreateRdqDto.builder()
+                    .title("Formation avec pièce jointe")
+                    .description("Formation dont le programme est envoyé en plusieurs blocs")
+                    .type(RdqType.FORMATION)
+                    .priority(RdqPriority.MEDIUM)
+                    .build())
+            .when().post("/api/rdq")
+            .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    /**
+     * Envois laissés ouverts par un test : supprimés pour ne pas atteindre max-sessions-per-user
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        List<String> uploadIds = QuarkusTransaction.requiringNew().call(() ->
+                sessionRepository.list("userId", Long.valueOf(RdqResourceIT.TEST_USER_ID)).stream()
+                        .map(session -> session.id)
+                        .toList());
+        for (String uploadId : uploadIds) {
+            QuarkusTransaction.requiringNew().run(() -> sessionRepository.deleteWithChunks(uploadId));
+            store.deletePartial(uploadId);
+        }
+    }
+
+    /**
+     * Ouverture : 201, Location vers l'envoi, rien de reçu
+     */
+    @Test
+    void shouldCreateUpload() {
+        String uploadId = createUpload();
+
+        given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .statusCode(200)
+            .body("size", equalTo(CONTENT.length))
+            .body("receivedBytes", equalTo(0))
+            .body("nextOffset", equalTo(0))
+            .body("complete", equalTo(false))
+            .body("received", empty());
+    }
+
+    /**
+     * Fin du fichier reçue avant le début : plage isolée, puis fichier complet et pièce jointe identique
+     */
+    @Test
+    void shouldAcceptChunksOutOfOrder() {
+        String uploadId = createUpload();
+
+        putChunk(uploadId, 40, CONTENT.length)
+            .statusCode(200)
+            .body("nextOffset", equalTo(0))
+            .body("received[0].start", equalTo(40))
+            .body("complete", equalTo(false));
+        putChunk(uploadId, 0, 40)
+            .statusCode(200)
+            .body("nextOffset", equalTo(CONTENT.length))
+            .body("received", hasSize(1))
+            .body("complete", equalTo(true));
+
+        assertAttachmentContent(complete(uploadId, sha256(CONTENT)).statusCode(201));
+    }
+
+    /**
+     * Quatre blocs envoyés simultanément : tous enregistrés, fichier reconstitué à l'identique
+     */
+    @Test
+    void shouldAcceptParallelChunks() throws Exception {
+        String uploadId = createUpload();
+        int chunkSize = (CONTENT.length + 3) / 4;
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int start = 0; start < CONTENT.length; start += chunkSize) {
+                int from = start;
+                statuses.add(executor.submit(() -> putChunk(uploadId, from, Math.min(from + chunkSize, CONTENT.length))
+                        .extract().statusCode()));
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .statusCode(200)
+            .body("receivedBytes", equalTo(CONTENT.length))
+            .body("complete", equalTo(true));
+        assertAttachmentContent(complete(uploadId, sha256(CONTENT)).statusCode(201));
+    }
+
+    /**
+     * Reprise après coupure : le client relit nextOffset et envoie la suite à partir de là
+     */
+    @Test
+    void shouldResumeFromNextOffset() {
+        String uploadId = createUpload();
+        putChunk(uploadId, 0, 25).statusCode(200);
+
+        int nextOffset = given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .statusCode(200)
+            .body("receivedBytes", equalTo(25))
+            .extract().path("nextOffset");
+        assertEquals(25, nextOffset);
+
+        putChunk(uploadId, nextOffset, CONTENT.length)
+            .statusCode(200)
+            .body("complete", equalTo(true));
+        assertAttachmentContent(complete(uploadId, sha256(CONTENT)).statusCode(201));
+    }
+
+    /**
+     * Empreinte erronée : refus, envoi conservé ; empreinte correcte : pièce jointe créée et envoi supprimé
+     */
+    @Test
+    void shouldKeepUploadOpenOnChecksumMismatch() {
+        String uploadId = createUpload();
+        putChunk(uploadId, 0, CONTENT.length).statusCode(200);
+
+        complete(uploadId, sha256("autre contenu".getBytes(StandardCharsets.UTF_8)))
+            .statusCode(400)
+            .body("code", equalTo("CHECKSUM_MISMATCH"));
+        given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .statusCode(200)
+            .body("complete", equalTo(true));
+
+        complete(uploadId, sha256(CONTENT).toUpperCase()).statusCode(201);
+        given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("UPLOAD_NOT_FOUND"));
+        complete(uploadId, sha256(CONTENT))
+            .statusCode(400)
+            .body("code", equalTo("UPLOAD_NOT_FOUND"));
+    }
+
+    /**
+     * Finalisation d'un envoi incomplet : refusée
+     */
+    @Test
+    void shouldRejectIncompleteUpload() {
+        String uploadId = createUpload();
+        putChunk(uploadId, 0, 10).statusCode(200);
+
+        complete(uploadId, sha256(CONTENT))
+            .statusCode(400)
+            .body("code", equalTo("VALIDATION_ERROR"));
+    }
+
+    /**
+     * Bloc dépassant la taille annoncée ou commençant après la fin : refusé, rien d'enregistré
+     */
+    @Test
+    void shouldRejectChunkOutsideFile() {
+        String uploadId = createUpload();
+        byte[] tooLong = Arrays.copyOf(CONTENT, CONTENT.length + 1);
+
+        given()
+            .contentType(ContentType.BINARY)
+            .body(tooLong)
+            .when().put(uploadPath(uploadId) + "?offset=0")
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("VALIDATION_ERROR"));
+        putChunk(uploadId, 0, 1);
+        given()
+            .contentType(ContentType.BINARY)
+            .body(new byte[] {1})
+            .when().put(uploadPath(uploadId) + "?offset=" + CONTENT.length)
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("VALIDATION_ERROR"));
+
+        given()
+            .when().get(uploadPath(uploadId))
+            .then()
+            .body("receivedBytes", equalTo(1));
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private String createUpload() {
+        ExtractableResponse<Response> created = given()
+            .contentType(ContentType.JSON)
+            .body("{\"fileName\": \"programme.pdf\", \"contentType\": \"application/pdf\", \"size\": "
+                  + CONTENT.length + ", \"kind\": \"OTHER\"}")
+            .when().post("/api/rdq/" + rdqId + "/uploads")
+            .then()
+            .statusCode(201)
+            .extract();
+
+        String uploadId = created.path("uploadId");
+        assertTrue(created.header("Location").endsWith(uploadPath(uploadId)), created.header("Location"));
+        return uploadId;
+    }
+
+    private String uploadPath(String uploadId) {
+        return "/api/rdq/" + rdqId + "/uploads/" + uploadId;
+    }
+
+    /**
+     * Bloc CONTENT[from, to[ envoyé à la position from
+     */
+    private ValidatableResponse putChunk(String uploadId, int from, int to) {
+        return given()
+            .contentType(ContentType.BINARY)
+            .body(Arrays.copyOfRange(CONTENT, from, to))
+            .when().put(uploadPath(uploadId) + "?offset=" + from)
+            .then();
+    }
+
+    private ValidatableResponse complete(String uploadId, String sha256) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"sha256\": \"" + sha256 + "\"}")
+            .when().post(uploadPath(uploadId) + "/complete")
+            .then();
+    }
+
+    /**
+     * Pièce jointe créée par la finalisation : contenu téléchargé identique au fichier envoyé
+     */
+    private void assertAttachmentContent(ValidatableResponse completed) {
+        int attachmentId = completed
+            .body("sizeBytes", equalTo(CONTENT.length))
+            .extract().path("id");
+
+        byte[] downloaded = given()
+            .when().get("/api/rdq/" + rdqId + "/attachments/" + attachmentId)
+            .then()
+            .statusCode(200)
+            .extract().asByteArray();
+        assertArrayEquals(CONTENT, downloaded);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.rdq.resource;
+
+import com.rdq.dto.PageDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.dto.RdqSummaryDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.UserEntity;
+import com.rdq.entity.UserRole;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.security.Claim;
+import com.rdq.security.JwtSecurity;
+import com.rdq.service.RdqService;
+import com.rdq.util.ReactivePostgresTestProfile;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Lectures réactives /api/reactive/rdq sur PostgreSQL réel
+ * - Le SQL du ReactiveRdqRepository est une copie des projections de RdqRepository :
+ *   chaque réponse est comparée au résultat de RdqService sur les mêmes données
+ * - Droits de lecture : propriétaire et manager 200, utilisateur hors équipe 403
+ * - Liste conditionnelle : ETag et 304 comme /api/rdq
+ */
+@QuarkusTest
+@TestProfile(ReactivePostgresTestProfile.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ReactiveRdqResourceTest {
+
+    static final String OWNER_ID = "910001";
+    static final String MANAGER_ID = "910002";
+    static final String OUTSIDER_ID = "910003";
+
+    @Inject
+    RdqService rdqService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private final List<Long> rdqIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            ensureUser(MANAGER_ID, "reactive-manager@example.com", UserRole.MANAGER, null);
+            ensureUser(OWNER_ID, "reactive-owner@example.com", UserRole.USER, MANAGER_ID);
+            ensureUser(OUTSIDER_ID, "reactive-outsider@example.com", UserRole.USER, null);
+
+            UserEntity owner = userRepository.findById(Long.valueOf(OWNER_ID));
+            for (String title : List.of("Certification Kubernetes", "Formation Quarkus réactif",
+                                        "Atelier Kubernetes avancé")) {
+                RdqEntity rdq = TestDataBuilder.createRdq(null, title, owner);
+                rdqRepository.persist(rdq);
+                rdqIds.add(rdq.id);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> rdqRepository.deleteAll());
+    }
+
+    /**
+     * Pages et total identiques à RdqService, y compris au-delà de la dernière page (comptage explicite)
+     */
+    @Test
+    @TestSecurity(user = "reactive-owner@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OWNER_ID))
+    void shouldPageUserRdqsLikeRdqService() {
+        for (int page : new int[] {0, 1, 5}) {
+            PageDto<RdqSummaryDto> expected = rdqService.searchRdq(Long.valueOf(OWNER_ID), null, null, null,
+                                                                   null, null, page, 2, true);
+
+            given()
+                .queryParam("page", page)
+                .queryParam("size", 2)
+                .when().get("/api/reactive/rdq")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(3))
+                .body("totalPages", equalTo(expected.getTotalPages()))
+                .body("content.id", equalTo(ids(expected.getContent().stream().map(RdqSummaryDto::getId))))
+                .body("content.userFullName", everyItem(equalTo("John Doe")))
+                .body("content.managerId", everyItem(equalTo(Integer.valueOf(MANAGER_ID))));
+        }
+    }
+
+    /**
+     * Filtre de statut appliqué par le SQL réactif
+     */
+    @Test
+    @TestSecurity(user = "reactive-owner@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OWNER_ID))
+    void shouldFilterUserRdqsByStatus() {
+        given()
+            .queryParam("status", "SUBMITTED")
+            .when().get("/api/reactive/rdq")
+            .then()
+            .statusCode(200)
+            .body("totalElements", equalTo(0))
+            .body("content", empty());
+    }
+
+    /**
+     * Requête conditionnelle sur la liste : 304 tant que rien ne change, 200 et nouvel ETag après une modification
+     */
+    @Test
+    @TestSecurity(user = "reactive-owner@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OWNER_ID))
+    void shouldReturn304WhenListIsUnchanged() {
+        String etag = given()
+            .when().get("/api/reactive/rdq")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get("/api/reactive/rdq")
+            .then()
+            .statusCode(304);
+
+        rdqService.submitRdq(rdqIds.get(0), Long.valueOf(OWNER_ID));
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get("/api/reactive/rdq")
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)));
+    }
+
+    /**
+     * RDQ complète avec utilisateur et manager pour le propriétaire
+     */
+    @Test
+    @TestSecurity(user = "reactive-owner@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OWNER_ID))
+    void shouldReturnRdqToOwner() {
+        Long id = rdqIds.get(0);
+
+        given()
+            .when().get("/api/reactive/rdq/" + id)
+            .then()
+            .statusCode(200)
+            .body("id", equalTo(id.intValue()))
+            .body("title", equalTo(rdqService.getRdqById(id, Long.valueOf(OWNER_ID)).getTitle()))
+            .body("userDto.id", equalTo(Integer.valueOf(OWNER_ID)))
+            .body("managerDto.id", equalTo(Integer.valueOf(MANAGER_ID)))
+            .body("managerDto.role", equalTo("MANAGER"));
+    }
+
+    @Test
+    @TestSecurity(user = "reactive-manager@example.com", roles = "MANAGER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = MANAGER_ID))
+    void shouldReturnRdqToOwnersManager() {
+        given()
+            .when().get("/api/reactive/rdq/" + rdqIds.get(0))
+            .then()
+            .statusCode(200)
+            .body("userDto.id", equalTo(Integer.valueOf(OWNER_ID)));
+    }
+
+    @Test
+    @TestSecurity(user = "reactive-outsider@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OUTSIDER_ID))
+    void shouldRefuseRdqToUserOutsideTeam() {
+        given()
+            .when().get("/api/reactive/rdq/" + rdqIds.get(0))
+            .then()
+            .statusCode(403)
+            .body("code", equalTo("ACCESS_DENIED"));
+
+        given()
+            .when().get("/api/reactive/rdq/899999")
+            .then()
+            .statusCode(400)
+            .body("code", equalTo("RDQ_NOT_FOUND"));
+    }
+
+    /**
+     * Recherche plein texte : même classement, même total et mêmes extraits que RdqService
+     */
+    @Test
+    @TestSecurity(user = "reactive-manager@example.com", roles = "MANAGER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = MANAGER_ID))
+    void shouldSearchLikeRdqService() {
+        PageDto<RdqSearchResultDto> expected = rdqService.searchByText("kubernetes", Long.valueOf(MANAGER_ID),
+                                                                       0, 10);
+        assertEquals(2, expected.getTotalElements());
+
+        given()
+            .queryParam("q", "kubernetes")
+            .when().get("/api/reactive/rdq/search")
+            .then()
+            .statusCode(200)
+            .body("totalElements", equalTo(2))
+            .body("content.id", equalTo(ids(expected.getContent().stream().map(RdqSearchResultDto::getId))))
+            .body("content.titleHighlight", equalTo(expected.getContent().stream()
+                    .map(RdqSearchResultDto::getTitleHighlight).toList()));
+    }
+
+    @Test
+    @TestSecurity(user = "reactive-outsider@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = OUTSIDER_ID))
+    void shouldRestrictSearchToVisibleRdqs() {
+        given()
+            .queryParam("q", "kubernetes")
+            .when().get("/api/reactive/rdq/search")
+            .then()
+            .statusCode(200)
+            .body("totalElements", equalTo(0))
+            .body("content", empty());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    /**
+     * Identifiants tels que lus par RestAssured dans le JSON (entiers)
+     */
+    private static List<Integer> ids(Stream<Long> ids) {
+        return ids.map(Long::intValue).toList();
+    }
+
+    private void ensureUser(String id, String email, UserRole role, String managerId) {
+        if (userRepository.findById(Long.valueOf(id)) != null) {
+            return;
+        }
+        UserEntity user = TestDataBuilder.createUser(email);
+        userRepository.getEntityManager().createNativeQuery(
+                        "INSERT INTO users (id, email, first_name, last_name, password_hash, role, manager_id, "
+                        + "active, created_at, updated_at) "
+                        + "VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, true, current_timestamp, current_timestamp)")
+                .setParameter(1, Long.valueOf(id))
+                .setParameter(2, user.email)
+                .setParameter(3, user.firstName)
+                .setParameter(4, user.lastName)
+                .setParameter(5, user.passwordHash)
+                .setParameter(6, role.name())
+                .setParameter(7, managerId != null ? Long.valueOf(managerId) : null)
+                .executeUpdate();
+    }
+}
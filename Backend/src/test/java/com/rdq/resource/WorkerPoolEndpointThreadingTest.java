@@ -0,0 +1,74 @@
+package com.rdq.resource;
+
+import com.rdq.security.Claim;
+import com.rdq.security.JwtSecurity;
+import com.rdq.util.WorkerPoolTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static com.rdq.resource.HandlingThreadFilter.VIRTUAL_THREAD_HEADER;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Build de repli (rdq.virtual-threads.endpoints=false) : mêmes endpoints, exécutés sur le pool de travail
+ * - Les contrôles d'accès et les contraintes de validation héritées restent appliqués
+ */
+@QuarkusTest
+@TestProfile(WorkerPoolTestProfile.class)
+class WorkerPoolEndpointThreadingTest {
+
+    @Test
+    void shouldRunAuthResourceOnWorkerPool() {
+        given()
+            .contentType(ContentType.JSON)
+            .when().post("/api/auth/refresh")
+            .then()
+            .statusCode(401)
+            .header(VIRTUAL_THREAD_HEADER, "false");
+    }
+
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = "900001"))
+    void shouldRunRdqResourcesOnWorkerPool() {
+        given()
+            .when().get("/api/rdq/stats")
+            .then()
+            .header(VIRTUAL_THREAD_HEADER, "false");
+
+        given()
+            .when().get("/api/rdq/1/uploads/00000000-0000-0000-0000-000000000000")
+            .then()
+            .statusCode(400)
+            .header(VIRTUAL_THREAD_HEADER, "false");
+    }
+
+    @Test
+    @TestSecurity(user = "test@example.com", roles = "USER")
+    @JwtSecurity(claims = @Claim(key = "userId", value = "900001"))
+    void shouldKeepInheritedValidationConstraints() {
+        given()
+            .when().get("/api/rdq/0")
+            .then()
+            .statusCode(400)
+            .body("title", equalTo("Constraint Violation"));
+
+        given()
+            .when().get("/api/rdq/1/uploads/not-an-upload-id")
+            .then()
+            .statusCode(400)
+            .body("title", equalTo("Constraint Violation"));
+    }
+
+    @Test
+    void shouldKeepAccessControl() {
+        given()
+            .when().get("/api/rdq")
+            .then()
+            .statusCode(401);
+    }
+}
@@ -0,0 +1,118 @@
+package com.rdq.resource;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import org.jboss.resteasy.reactive.RestForm;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ressources du build de repli (rdq.virtual-threads.endpoints=false) : miroir exact de leur parent
+ * - Chaque endpoint du parent (@RunOnVirtualThread) doit être redéclaré, sans quoi il resterait
+ *   sur un thread virtuel dans le binaire pool de travail
+ * - Mêmes annotations JAX-RS et de sécurité, sur la classe, les méthodes et les paramètres
+ */
+class WorkerPoolResourceMirrorTest {
+
+    /**
+     * Annotations de méthode et de classe qui définissent la route, les types de contenu et l'accès
+     */
+    private static final Set<Class<? extends Annotation>> ROUTING = Set.of(
+            Path.class, Produces.class, Consumes.class, RolesAllowed.class, PermitAll.class, DenyAll.class);
+
+    /**
+     * Annotations de paramètre qui définissent la liaison de la requête
+     * (les contraintes Bean Validation sont héritées et interdites sur une redéfinition)
+     */
+    private static final Set<Class<? extends Annotation>> BINDING = Set.of(
+            PathParam.class, QueryParam.class, HeaderParam.class, CookieParam.class, MatrixParam.class,
+            FormParam.class, BeanParam.class, DefaultValue.class, Context.class, RestForm.class);
+
+    @ParameterizedTest
+    @ValueSource(classes = {WorkerPoolRdqResource.class, WorkerPoolAuthResource.class,
+                            WorkerPoolRdqUploadResource.class})
+    void shouldRunOnlyParentEndpointsOnVirtualThreads(Class<?> workerPool) {
+        Class<?> parent = workerPool.getSuperclass();
+
+        assertTrue(parent.isAnnotationPresent(RunOnVirtualThread.class), parent.getSimpleName());
+        assertFalse(workerPool.isAnnotationPresent(RunOnVirtualThread.class), workerPool.getSimpleName());
+        assertEquals(annotations(parent.getAnnotations(), ROUTING), annotations(workerPool.getAnnotations(), ROUTING),
+                     workerPool.getSimpleName());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {WorkerPoolRdqResource.class, WorkerPoolAuthResource.class,
+                            WorkerPoolRdqUploadResource.class})
+    void shouldRedeclareEveryParentEndpoint(Class<?> workerPool) throws NoSuchMethodException {
+        Class<?> parent = workerPool.getSuperclass();
+        List<Method> endpoints = Arrays.stream(parent.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && isEndpoint(method))
+                .toList();
+        assertFalse(endpoints.isEmpty(), parent.getSimpleName());
+
+        for (Method endpoint : endpoints) {
+            String name = parent.getSimpleName() + "." + endpoint.getName();
+            Method mirror;
+            try {
+                mirror = workerPool.getDeclaredMethod(endpoint.getName(), endpoint.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                fail(name + " n'est pas redéclarée dans " + workerPool.getSimpleName());
+                return;
+            }
+
+            assertFalse(mirror.isAnnotationPresent(RunOnVirtualThread.class), name);
+            assertEquals(httpMethod(endpoint), httpMethod(mirror), name);
+            assertEquals(annotations(endpoint.getAnnotations(), ROUTING), annotations(mirror.getAnnotations(), ROUTING),
+                         name);
+            for (int i = 0; i < endpoint.getParameterCount(); i++) {
+                assertEquals(annotations(endpoint.getParameterAnnotations()[i], BINDING),
+                             annotations(mirror.getParameterAnnotations()[i], BINDING),
+                             name + ", paramètre " + i);
+            }
+        }
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private static boolean isEndpoint(Method method) {
+        return httpMethod(method) != null || method.isAnnotationPresent(Path.class);
+    }
+
+    /**
+     * Verbe HTTP (@GET, @POST...) : annotation elle-même annotée @HttpMethod
+     */
+    private static String httpMethod(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                return httpMethod.value();
+            }
+        }
+        return null;
+    }
+
+    private static List<String> annotations(Annotation[] annotations, Set<Class<? extends Annotation>> kept) {
+        List<String> result = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (kept.contains(annotation.annotationType())) {
+                result.add(annotation.toString());
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+}
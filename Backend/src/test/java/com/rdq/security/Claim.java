@@ -0,0 +1,15 @@
+package com.rdq.security;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Claim ajouté au JWT d'une identité de test
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Claim {
+
+    String key();
+
+    String value();
+}
@@ -0,0 +1,17 @@
+package com.rdq.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Claims du JWT de l'identité @TestSecurity (voir JwtTestSecurityIdentityAugmentor)
+ * - Même forme que io.quarkus.test.security.jwt.JwtSecurity, absent de Quarkus 3.4
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface JwtSecurity {
+
+    Claim[] claims() default {};
+}
@@ -0,0 +1,46 @@
+package com.rdq.security;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.test.security.TestSecurityIdentityAugmentor;
+import io.smallrye.jwt.auth.principal.DefaultJWTCallerPrincipal;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.jwt.Claims;
+import org.jose4j.jwt.JwtClaims;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+
+/**
+ * Principal JWT pour les tests annotés @TestSecurity + @JwtSecurity
+ * - Remplace le principal simple par un JsonWebToken portant les claims déclarés
+ * - Le code applicatif (CurrentUser) lit ainsi les mêmes claims qu'avec un vrai jeton
+ */
+@ApplicationScoped
+public class JwtTestSecurityIdentityAugmentor implements TestSecurityIdentityAugmentor {
+
+    @Override
+    public SecurityIdentity augment(SecurityIdentity identity, Annotation[] annotations) {
+        JwtSecurity jwtSecurity = null;
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof JwtSecurity found) {
+                jwtSecurity = found;
+            }
+        }
+        if (jwtSecurity == null) {
+            return identity;
+        }
+
+        JwtClaims claims = new JwtClaims();
+        claims.setSubject(identity.getPrincipal().getName());
+        claims.setClaim(Claims.upn.name(), identity.getPrincipal().getName());
+        claims.setStringListClaim(Claims.groups.name(), new ArrayList<>(identity.getRoles()));
+        for (Claim claim : jwtSecurity.claims()) {
+            claims.setClaim(claim.key(), claim.value());
+        }
+
+        return QuarkusSecurityIdentity.builder(identity)
+                .setPrincipal(new DefaultJWTCallerPrincipal(claims))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.rdq.security;
+
+import com.rdq.exception.TooManyAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la limitation des tentatives de connexion
+ * - Limites par email et par IP appliquées dans la fenêtre
+ * - Deux clés de même hashCode() gardent des compteurs indépendants
+ */
+class LoginThrottleTest {
+
+    private static final int MAX_PER_EMAIL = 3;
+
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle();
+        throttle.window = Duration.ofHours(1);
+        throttle.maxPerIp = 1000;
+        throttle.maxPerEmail = MAX_PER_EMAIL;
+        throttle.width = 1024;
+        throttle.init();
+    }
+
+    /**
+     * Au-delà de max-per-email, refus avec Retry-After, quelle que soit l'IP et la casse de l'email
+     */
+    @Test
+    void shouldRejectEmailOverLimit() {
+        for (int attempt = 0; attempt < MAX_PER_EMAIL; attempt++) {
+            throttle.checkAndRecord("10.0.0." + attempt, "victim@example.com");
+        }
+
+        TooManyAttemptsException exception = assertThrows(TooManyAttemptsException.class,
+                () -> throttle.checkAndRecord("10.0.1.1", "Victim@Example.com"));
+        assertEquals(3600, exception.getRetryAfterSeconds());
+    }
+
+    /**
+     * Au-delà de max-per-ip, refus même pour des emails différents
+     */
+    @Test
+    void shouldRejectIpOverLimit() {
+        throttle.maxPerIp = 2;
+        throttle.checkAndRecord("10.0.0.1", "a@example.com");
+        throttle.checkAndRecord("10.0.0.1", "b@example.com");
+
+        assertThrows(TooManyAttemptsException.class, () -> throttle.checkAndRecord("10.0.0.1", "c@example.com"));
+        assertDoesNotThrow(() -> throttle.checkAndRecord("10.0.0.2", "c@example.com"));
+    }
+
+    /**
+     * "az" et "b[" ont le même String.hashCode() : épuiser l'une ne bloque pas l'autre
+     */
+    @Test
+    void shouldKeepCollidingHashCodesApart() {
+        String attacker = "az@example.com";
+        String victim = "b[@example.com";
+        assertEquals(("email:" + attacker).hashCode(), ("email:" + victim).hashCode());
+
+        for (int attempt = 0; attempt < MAX_PER_EMAIL; attempt++) {
+            throttle.checkAndRecord("10.0.0.1", attacker);
+        }
+
+        assertThrows(TooManyAttemptsException.class, () -> throttle.checkAndRecord("10.0.0.1", attacker));
+        assertDoesNotThrow(() -> throttle.checkAndRecord("10.0.0.2", victim));
+    }
+}
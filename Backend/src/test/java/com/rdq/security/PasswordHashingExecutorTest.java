@@ -0,0 +1,122 @@
+package com.rdq.security;
+
+import com.rdq.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'exécuteur BCrypt borné
+ * - Le délai ne s'applique qu'à l'attente en file : une tâche encore en file est abandonnée sans être calculée,
+ *   une tâche commencée est attendue jusqu'à son terme
+ */
+class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.stop();
+    }
+
+    /**
+     * File pleine : rejet immédiat, sans attendre le délai
+     */
+    @Test
+    void shouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+        executor = newExecutor(1, Duration.ofSeconds(30));
+        occupyWorker();
+        CompletableFuture.runAsync(() -> executor.execute("hash", () -> "en file"));
+        awaitQueued(1);
+
+        long start = System.nanoTime();
+        assertThrows(ServiceOverloadedException.class, () -> executor.execute("hash", () -> "rejetée"));
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+    }
+
+    /**
+     * Délai dépassé en file : 503 pour l'appelant, tâche retirée et jamais exécutée
+     */
+    @Test
+    void shouldAbandonTaskStillQueuedAfterTimeout() throws Exception {
+        executor = newExecutor(4, Duration.ofMillis(200));
+        CompletableFuture<String> occupying = occupyWorker();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> executor.execute("hash", () -> ran.getAndSet(true)));
+
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(0, executor.executor.getQueue().size());
+        release.countDown();
+        assertEquals("occupé", occupying.get(5, TimeUnit.SECONDS));
+        executor.executor.shutdown();
+        assertTrue(executor.executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(ran.get());
+    }
+
+    /**
+     * Calcul commencé avant l'échéance : BCrypt n'est pas interruptible, le résultat est attendu
+     */
+    @Test
+    void shouldWaitForStartedTaskBeyondTimeout() {
+        executor = newExecutor(4, Duration.ofMillis(100));
+
+        String result = executor.execute("hash", () -> {
+            Thread.sleep(400);
+            return "calculé";
+        });
+
+        assertEquals("calculé", result);
+    }
+
+    /**
+     * Une erreur du calcul est relancée telle quelle
+     */
+    @Test
+    void shouldRethrowTaskFailure() {
+        executor = newExecutor(4, Duration.ofSeconds(5));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute("verify", () -> {
+                    throw new IllegalArgumentException("hash invalide");
+                }));
+
+        assertEquals("hash invalide", exception.getMessage());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private static PasswordHashingExecutor newExecutor(int queueCapacity, Duration timeout) {
+        return new PasswordHashingExecutor(Optional.of(1), queueCapacity, timeout);
+    }
+
+    private CompletableFuture<String> occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> occupying = CompletableFuture.supplyAsync(() -> executor.execute("hash", () -> {
+            started.countDown();
+            release.await();
+            return "occupé";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return occupying;
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.executor.getQueue().size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, executor.executor.getQueue().size());
+    }
+}
@@ -0,0 +1,178 @@
+package com.rdq.service;
+
+import com.rdq.exception.ChecksumMismatchException;
+import com.rdq.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du magasin de pièces jointes adressé par SHA-256
+ * - Contenu identique stocké une seule fois, staging/ vidé après chaque dépôt
+ * - Empreinte et chemin d'envoi validés : aucun chemin hors du magasin
+ * - Bloc tronqué ou trop long sans effet sur le fichier partiel
+ * - Fichier partiel mis en place seulement si sa copie passe les contrôles et a l'empreinte annoncée
+ */
+class AttachmentStoreTest {
+
+    private static final byte[] CONTENT = "%PDF-1.7 contenu de test".getBytes(StandardCharsets.UTF_8);
+    private static final Consumer<Path> NO_CHECK = content -> {
+    };
+
+    @TempDir
+    Path root;
+
+    private AttachmentStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new AttachmentStore();
+        store.storagePath = root.toString();
+        store.init();
+    }
+
+    /**
+     * Empreinte et taille calculées pendant la copie, contenu rangé sous blobs/ab/cd/
+     */
+    @Test
+    void shouldStoreContentUnderItsSha256() throws IOException {
+        AttachmentStore.Blob blob = store.store(source("cv.pdf", CONTENT));
+
+        assertEquals(sha256(CONTENT), blob.getSha256());
+        assertEquals(CONTENT.length, blob.getSize());
+        Path stored = store.resolve(blob.getSha256());
+        assertEquals(root.resolve("blobs").resolve(blob.getSha256().substring(0, 2))
+                         .resolve(blob.getSha256().substring(2, 4)).resolve(blob.getSha256()), stored);
+        assertArrayEquals(CONTENT, Files.readAllBytes(stored));
+    }
+
+    /**
+     * Même contenu déposé deux fois : une seule copie, rien ne reste dans staging/
+     */
+    @Test
+    void shouldDeduplicateIdenticalContent() throws IOException {
+        AttachmentStore.Blob first = store.store(source("cv.pdf", CONTENT));
+        AttachmentStore.Blob second = store.store(source("autre-nom.pdf", CONTENT));
+
+        assertEquals(first.getSha256(), second.getSha256());
+        assertEquals(1, countFiles(root.resolve("blobs")));
+        assertEquals(0, countFiles(root.resolve("staging")));
+    }
+
+    /**
+     * Empreinte mal formée (casse, longueur, séparateurs) : refusée avant toute résolution de chemin
+     */
+    @Test
+    void shouldRejectInvalidSha256() {
+        String valid = sha256(CONTENT);
+
+        assertThrows(IllegalArgumentException.class, () -> store.resolve(valid.toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve(valid.substring(1)));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("../../" + valid.substring(6)));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("g" + valid.substring(1)));
+    }
+
+    /**
+     * Identifiant d'envoi autre qu'un UUID canonique : refusé
+     */
+    @Test
+    void shouldRejectInvalidUploadId() {
+        assertThrows(IllegalArgumentException.class, () -> store.partialPath("../blobs/x"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> store.partialPath(UUID.randomUUID().toString().toUpperCase()));
+    }
+
+    /**
+     * Blocs écrits dans le désordre, puis empreinte erronée (fichier conservé) et correcte (mis en place)
+     */
+    @Test
+    void shouldAdoptPartialOnlyWithMatchingChecksum() throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        store.createPartial(uploadId);
+        store.writePartial(uploadId, 10, CONTENT.length - 10, slice(10, CONTENT.length));
+        store.writePartial(uploadId, 0, 10, slice(0, 10));
+
+        assertThrows(ChecksumMismatchException.class, () -> store.adopt(uploadId, sha256(new byte[0]), NO_CHECK));
+        assertTrue(store.hasPartial(uploadId));
+
+        AttachmentStore.Blob blob = store.adopt(uploadId, sha256(CONTENT), NO_CHECK);
+        assertArrayEquals(CONTENT, Files.readAllBytes(store.resolve(blob.getSha256())));
+        assertFalse(store.hasPartial(uploadId));
+        assertEquals(0, countFiles(root.resolve("staging")));
+    }
+
+    /**
+     * Contrôle appliqué à la copie de staging/ : refus sans mise en place, fichier partiel conservé
+     */
+    @Test
+    void shouldCheckStagedCopyBeforeAdopting() throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        store.createPartial(uploadId);
+        store.writePartial(uploadId, 0, CONTENT.length, new ByteArrayInputStream(CONTENT));
+
+        assertThrows(ValidationException.class, () -> store.adopt(uploadId, sha256(CONTENT), content -> {
+            assertTrue(content.startsWith(root.resolve("staging")), content.toString());
+            throw new ValidationException("Signature refusée");
+        }));
+
+        assertTrue(store.hasPartial(uploadId));
+        assertEquals(0, countFiles(root.resolve("blobs")));
+    }
+
+    /**
+     * Bloc plus court ou plus long que sa longueur annoncée : refusé, fichier partiel inchangé
+     */
+    @Test
+    void shouldLeavePartialUntouchedOnWrongChunkLength() throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        store.createPartial(uploadId);
+        store.writePartial(uploadId, 0, CONTENT.length, new ByteArrayInputStream(CONTENT));
+
+        byte[] garbage = "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXX".getBytes(StandardCharsets.UTF_8);
+        assertThrows(ValidationException.class,
+                     () -> store.writePartial(uploadId, 0, 10, new ByteArrayInputStream(garbage, 0, 4)));
+        assertThrows(ValidationException.class,
+                     () -> store.writePartial(uploadId, 0, 4, new ByteArrayInputStream(garbage)));
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(store.partialPath(uploadId)));
+        assertEquals(0, countFiles(root.resolve("staging")));
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private Path source(String name, byte[] content) throws IOException {
+        return Files.write(Files.createTempDirectory(root, "source").resolve(name), content);
+    }
+
+    private static ByteArrayInputStream slice(int from, int to) {
+        return new ByteArrayInputStream(CONTENT, from, to - from);
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.rdq.service;
+
+import com.rdq.entity.NotificationOutboxEntity;
+import com.rdq.entity.OutboxStatus;
+import com.rdq.repository.NotificationOutboxRepository;
+import io.quarkus.mailer.Mail;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'envoi des notifications de l'outbox
+ * - Dispatcher construit sur le vrai repository, avec un Mailer de test qui enregistre ou échoue
+ * - Un message envoyé est marqué SENT une seule fois et n'est jamais renvoyé
+ * - Un échec reprogramme le message avec une attente exponentielle, puis l'abandonne
+ */
+@QuarkusTest
+class NotificationDispatcherTest {
+
+    private static final Duration BASE_DELAY = Duration.ofSeconds(30);
+
+    @Inject
+    NotificationOutboxRepository outboxRepository;
+
+    private final List<String> sentTo = new ArrayList<>();
+    private boolean mailerFailing;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationDispatcher(outboxRepository, mails -> {
+            if (mailerFailing) {
+                throw new IllegalStateException("SMTP indisponible");
+            }
+            for (Mail mail : mails) {
+                sentTo.addAll(mail.getTo());
+            }
+        });
+        dispatcher.batchSize = 2;
+        dispatcher.lease = Duration.ofMinutes(5);
+        dispatcher.maxAttempts = 3;
+        dispatcher.retryBaseDelay = BASE_DELAY;
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> outboxRepository.deleteAll());
+        sentTo.clear();
+    }
+
+    /**
+     * Tous les messages dus sont envoyés, lot après lot, puis plus jamais
+     */
+    @Test
+    void shouldSendEachMessageExactlyOnce() {
+        Long first = enqueue("a@example.com");
+        Long second = enqueue("b@example.com");
+        Long third = enqueue("c@example.com");
+
+        dispatcher.dispatchPending();
+        dispatcher.dispatchPending();
+
+        assertEquals(List.of("a@example.com", "b@example.com", "c@example.com"), sentTo);
+        for (Long id : List.of(first, second, third)) {
+            NotificationOutboxEntity message = load(id);
+            assertEquals(OutboxStatus.SENT, message.status);
+            assertNotNull(message.sentAt);
+            assertEquals(0, message.attempts);
+        }
+    }
+
+    /**
+     * Un lot réclamé (bail posé) n'est pas réclamé une seconde fois par une autre instance
+     */
+    @Test
+    void shouldNotClaimLeasedMessagesTwice() {
+        enqueue("a@example.com");
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NotificationOutboxEntity> claimed = QuarkusTransaction.requiringNew()
+                .call(() -> outboxRepository.claimDue(now, now.plusMinutes(5), 10));
+        List<NotificationOutboxEntity> claimedAgain = QuarkusTransaction.requiringNew()
+                .call(() -> outboxRepository.claimDue(now, now.plusMinutes(5), 10));
+
+        assertEquals(1, claimed.size());
+        assertTrue(claimedAgain.isEmpty());
+    }
+
+    /**
+     * Échecs successifs : délai base puis 2 x base, message toujours en attente
+     */
+    @Test
+    void shouldRescheduleFailuresWithExponentialBackoff() {
+        Long id = enqueue("a@example.com");
+        mailerFailing = true;
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+        NotificationOutboxEntity afterFirst = load(id);
+
+        assertEquals(OutboxStatus.PENDING, afterFirst.status);
+        assertEquals(1, afterFirst.attempts);
+        assertEquals("SMTP indisponible", afterFirst.lastError);
+        assertDelay(before, afterFirst.nextAttemptAt, BASE_DELAY);
+
+        // Pas encore dû : aucun nouvel essai
+        dispatcher.dispatchPending();
+        assertEquals(1, load(id).attempts);
+
+        makeDue(id);
+        before = LocalDateTime.now();
+        dispatcher.dispatchPending();
+        NotificationOutboxEntity afterSecond = load(id);
+
+        assertEquals(2, afterSecond.attempts);
+        assertDelay(before, afterSecond.nextAttemptAt, BASE_DELAY.multipliedBy(2));
+    }
+
+    /**
+     * Après un échec, le nouvel essai réussi marque le message SENT et efface l'erreur
+     */
+    @Test
+    void shouldSendOnRetryAfterFailure() {
+        Long id = enqueue("a@example.com");
+        mailerFailing = true;
+        dispatcher.dispatchPending();
+
+        mailerFailing = false;
+        makeDue(id);
+        dispatcher.dispatchPending();
+        dispatcher.dispatchPending();
+
+        NotificationOutboxEntity message = load(id);
+        assertEquals(OutboxStatus.SENT, message.status);
+        assertNull(message.lastError);
+        assertEquals(List.of("a@example.com"), sentTo);
+    }
+
+    /**
+     * Abandon en FAILED une fois max-attempts atteint
+     */
+    @Test
+    void shouldAbandonAfterMaxAttempts() {
+        Long id = enqueue("a@example.com");
+        mailerFailing = true;
+
+        for (int attempt = 0; attempt < dispatcher.maxAttempts; attempt++) {
+            makeDue(id);
+            dispatcher.dispatchPending();
+        }
+        makeDue(id);
+        dispatcher.dispatchPending();
+
+        NotificationOutboxEntity message = load(id);
+        assertEquals(OutboxStatus.FAILED, message.status);
+        assertEquals(dispatcher.maxAttempts, message.attempts);
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private Long enqueue(String recipient) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            NotificationOutboxEntity message = new NotificationOutboxEntity();
+            message.notificationType = "RDQ_SUBMITTED";
+            message.recipient = recipient;
+            message.subject = "RDQ soumise";
+            message.body = "Une RDQ attend votre validation";
+            message.nextAttemptAt = LocalDateTime.now().minusSeconds(1);
+            outboxRepository.persist(message);
+            return message.id;
+        });
+    }
+
+    private void makeDue(Long id) {
+        QuarkusTransaction.requiringNew().run(() ->
+                outboxRepository.update("nextAttemptAt = ?1 WHERE id = ?2", LocalDateTime.now().minusSeconds(1), id));
+    }
+
+    private NotificationOutboxEntity load(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> outboxRepository.findById(id));
+    }
+
+    private static void assertDelay(LocalDateTime before, LocalDateTime nextAttemptAt, Duration expected) {
+        assertFalse(nextAttemptAt.isBefore(before.plus(expected)), nextAttemptAt.toString());
+        assertTrue(nextAttemptAt.isBefore(LocalDateTime.now().plus(expected).plusSeconds(1)), nextAttemptAt.toString());
+    }
+}
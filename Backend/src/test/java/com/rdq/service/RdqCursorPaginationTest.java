@@ -0,0 +1,119 @@
+package com.rdq.service;
+
+import com.rdq.dto.CursorPageDto;
+import com.rdq.dto.RdqSummaryDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.KeysetCursor;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la pagination keyset (createdAt DESC, id DESC)
+ * - Toutes les RDQ partagent la même date de création : seul l'id départage les lignes
+ * - Le parcours page par page ne doit ni sauter ni répéter de RDQ
+ */
+@QuarkusTest
+class RdqCursorPaginationTest {
+
+    private static final int RDQ_COUNT = 7;
+    private static final LocalDateTime SAME_INSTANT = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Inject
+    RdqService rdqService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private final List<Long> rdqIds = new ArrayList<>();
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            UserEntity owner = TestDataBuilder.createUser("cursor-owner@example.com");
+            userRepository.persist(owner);
+            ownerId = owner.id;
+
+            for (int i = 0; i < RDQ_COUNT; i++) {
+                RdqEntity rdq = new RdqEntity();
+                rdq.title = "Formation Quarkus " + i;
+                rdq.description = "Description suffisamment longue pour la RDQ " + i;
+                rdq.type = RdqType.FORMATION;
+                rdq.priority = RdqPriority.MEDIUM;
+                rdq.status = RdqStatus.DRAFT;
+                rdq.user = owner;
+                rdqRepository.persist(rdq);
+                rdqIds.add(rdq.id);
+            }
+        });
+        // Date de création forcée après coup (@CreationTimestamp l'écrase à l'insertion)
+        QuarkusTransaction.requiringNew().run(() ->
+                rdqRepository.update("createdAt = ?1 where user.id = ?2", SAME_INSTANT, ownerId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        rdqIds.clear();
+    }
+
+    /**
+     * À date de création égale, les pages se suivent par id décroissant sans doublon ni trou
+     */
+    @Test
+    void shouldBreakTiesOnIdWithoutSkippingOrRepeating() {
+        List<Long> visited = new ArrayList<>();
+        KeysetCursor after = null;
+        int pages = 0;
+
+        do {
+            CursorPageDto<RdqSummaryDto> page = rdqService.searchRdqAfter(ownerId, null, null, null,
+                                                                          null, null, after, 3);
+            page.getContent().forEach(summary -> visited.add(summary.getId()));
+            after = KeysetCursor.decode(page.getNextCursor());
+            assertEquals(page.getNextCursor() != null, page.isHasNext());
+            pages++;
+        } while (after != null && pages <= RDQ_COUNT);
+
+        assertEquals(3, pages);
+        assertEquals(rdqIds.stream().sorted(Comparator.reverseOrder()).toList(), visited);
+    }
+
+    /**
+     * Le curseur de page suivante porte la dernière ligne retournée
+     */
+    @Test
+    void shouldEncodeLastRowInNextCursor() {
+        CursorPageDto<RdqSummaryDto> page = rdqService.searchRdqAfter(ownerId, null, null, null,
+                                                                      null, null, null, 2);
+
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        RdqSummaryDto last = page.getContent().get(1);
+        assertEquals(last.getId(), next.getId());
+        assertEquals(SAME_INSTANT, next.getCreatedAt());
+    }
+}
@@ -0,0 +1,147 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqStatusEventDto;
+import com.rdq.entity.RdqStatus;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la diffusion SSE des transitions de statut
+ * - Chaque transition n'atteint que les connexions du propriétaire et de son manager
+ * - Au-delà de max-connections-per-user, la plus ancienne connexion est fermée
+ * - Observateur AFTER_SUCCESS : rien n'est poussé pour une transaction annulée
+ */
+@QuarkusTest
+class RdqEventBroadcasterTest {
+
+    private static final String HEARTBEAT = "heartbeat";
+    private static final long OWNER_ID = 9001L;
+    private static final long MANAGER_ID = 9002L;
+    private static final long OTHER_ID = 9003L;
+
+    @Inject
+    RdqEventBroadcaster broadcaster;
+
+    @Inject
+    Event<RdqStatusChangedEvent> statusEvents;
+
+    private final List<AssertSubscriber<String>> subscribers = new ArrayList<>();
+    private int defaultMaxConnections;
+
+    @BeforeEach
+    void setUp() {
+        defaultMaxConnections = ClientProxy.unwrap(broadcaster).maxConnectionsPerUser;
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscribers.forEach(AssertSubscriber::cancel);
+        ClientProxy.unwrap(broadcaster).maxConnectionsPerUser = defaultMaxConnections;
+    }
+
+    /**
+     * Propriétaire et manager reçoivent la transition, un autre utilisateur rien
+     */
+    @Test
+    void shouldPushOnlyToOwnerAndManager() {
+        AssertSubscriber<String> owner = connect(OWNER_ID);
+        AssertSubscriber<String> ownerSecondTab = connect(OWNER_ID);
+        AssertSubscriber<String> manager = connect(MANAGER_ID);
+        AssertSubscriber<String> other = connect(OTHER_ID);
+
+        fireCommitted(1L, OWNER_ID, MANAGER_ID);
+
+        assertEquals(List.of("1:SUBMITTED"), changes(owner));
+        assertEquals(List.of("1:SUBMITTED"), changes(ownerSecondTab));
+        assertEquals(List.of("1:SUBMITTED"), changes(manager));
+        assertEquals(List.of(), changes(other));
+    }
+
+    /**
+     * Propriétaire sans manager, ou son propre manager : une seule livraison par connexion
+     */
+    @Test
+    void shouldPushOnceWhenOwnerHasNoOtherManager() {
+        AssertSubscriber<String> owner = connect(OWNER_ID);
+
+        fireCommitted(1L, OWNER_ID, null);
+        fireCommitted(2L, OWNER_ID, OWNER_ID);
+
+        assertEquals(List.of("1:SUBMITTED", "2:SUBMITTED"), changes(owner));
+    }
+
+    /**
+     * Connexion de trop : la plus ancienne est terminée, les suivantes reçoivent les transitions
+     */
+    @Test
+    void shouldCloseOldestConnectionOverLimit() {
+        ClientProxy.unwrap(broadcaster).maxConnectionsPerUser = 2;
+        AssertSubscriber<String> oldest = connect(OWNER_ID);
+        AssertSubscriber<String> second = connect(OWNER_ID);
+        AssertSubscriber<String> newest = connect(OWNER_ID);
+
+        oldest.assertCompleted();
+        fireCommitted(1L, OWNER_ID, null);
+
+        assertEquals(List.of(), changes(oldest));
+        assertEquals(List.of("1:SUBMITTED"), changes(second));
+        assertEquals(List.of("1:SUBMITTED"), changes(newest));
+    }
+
+    /**
+     * Transition annulée avec sa transaction : jamais poussée
+     */
+    @Test
+    void shouldNotPushRolledBackTransition() {
+        AssertSubscriber<String> owner = connect(OWNER_ID);
+
+        assertThrows(IllegalStateException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            statusEvents.fire(event(1L, OWNER_ID, null));
+            throw new IllegalStateException("Échec après la transition");
+        }));
+        fireCommitted(2L, OWNER_ID, null);
+
+        assertEquals(List.of("2:SUBMITTED"), changes(owner));
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private AssertSubscriber<String> connect(long userId) {
+        AssertSubscriber<String> subscriber = broadcaster
+                .subscribe(userId, payload -> payload.getRdqId() + ":" + payload.getStatus(), () -> HEARTBEAT)
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        subscribers.add(subscriber);
+        return subscriber;
+    }
+
+    private void fireCommitted(long rdqId, Long ownerId, Long managerId) {
+        QuarkusTransaction.requiringNew().run(() -> statusEvents.fire(event(rdqId, ownerId, managerId)));
+    }
+
+    private static RdqStatusChangedEvent event(long rdqId, Long ownerId, Long managerId) {
+        return new RdqStatusChangedEvent(
+                new RdqStatusEventDto(rdqId, "RDQ " + rdqId, RdqStatus.DRAFT, RdqStatus.SUBMITTED,
+                                      LocalDateTime.now()),
+                ownerId, managerId);
+    }
+
+    /**
+     * Transitions reçues, hors heartbeats éventuellement émis pendant le test
+     */
+    private static List<String> changes(AssertSubscriber<String> subscriber) {
+        return subscriber.getItems().stream().filter(item -> !HEARTBEAT.equals(item)).toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.rdq.service;
+
+import com.rdq.dto.PageDto;
+import com.rdq.dto.RdqSearchResultDto;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.entity.UserRole;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.PostgresTestProfile;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la recherche plein texte PostgreSQL (search_vector, websearch_to_tsquery)
+ * - Classement : titre (A) > description (B) > justification (C)
+ * - Visibilité : RDQ de l'utilisateur ou de son équipe
+ * - Saisie libre : aucune syntaxe de requête ne provoque d'erreur SQL
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Testcontainers(disabledWithoutDocker = true)
+class RdqFullTextSearchTest {
+
+    @Inject
+    RdqService rdqService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private Long managerId;
+    private Long ownerId;
+    private Long outsiderId;
+    private Long titleMatchId;
+    private Long descriptionMatchId;
+    private Long justificationMatchId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            UserEntity manager = newUser("search-manager@example.com", UserRole.MANAGER, null);
+            UserEntity owner = newUser("search-owner@example.com", UserRole.USER, manager);
+            UserEntity outsider = newUser("search-outsider@example.com", UserRole.USER, null);
+            managerId = manager.id;
+            ownerId = owner.id;
+            outsiderId = outsider.id;
+
+            justificationMatchId = newRdq(owner, "Formation architecture logicielle",
+                    "Montée en compétences sur la conception des services",
+                    "Les équipes migrent vers Kubernetes cette année");
+            titleMatchId = newRdq(owner, "Certification Kubernetes administrateur",
+                    "Préparation à l'examen officiel avec un organisme agréé",
+                    null);
+            descriptionMatchId = newRdq(owner, "Formation déploiement continu",
+                    "Mise en place de pipelines de déploiement sur Kubernetes",
+                    null);
+            newRdq(outsider, "Atelier Kubernetes avancé",
+                    "RDQ d'un autre utilisateur, hors équipe du manager",
+                    null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.deleteAll();
+            userRepository.delete("manager is not null");
+            userRepository.deleteAll();
+        });
+    }
+
+    /**
+     * Les résultats sont classés selon le poids du champ qui contient le terme
+     */
+    @Test
+    void shouldRankTitleAboveDescriptionAboveJustification() {
+        PageDto<RdqSearchResultDto> page = rdqService.searchByText("kubernetes", ownerId, 0, 10);
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(titleMatchId, descriptionMatchId, justificationMatchId),
+                     page.getContent().stream().map(RdqSearchResultDto::getId).toList());
+
+        List<Float> ranks = page.getContent().stream().map(RdqSearchResultDto::getRank).toList();
+        assertTrue(ranks.get(0) > ranks.get(1) && ranks.get(1) > ranks.get(2), ranks.toString());
+    }
+
+    /**
+     * Le terme est surligné dans le titre et l'extrait de description
+     */
+    @Test
+    void shouldHighlightMatchesWithMark() {
+        PageDto<RdqSearchResultDto> page = rdqService.searchByText("kubernetes", ownerId, 0, 1);
+
+        RdqSearchResultDto first = page.getContent().get(0);
+        assertEquals("Certification <mark>Kubernetes</mark> administrateur", first.getTitleHighlight());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(1, page.getNumberOfElements());
+    }
+
+    /**
+     * Le manager voit les RDQ de son équipe, l'utilisateur hors équipe uniquement les siennes
+     */
+    @Test
+    void shouldRestrictResultsToVisibleRdqs() {
+        assertEquals(3, rdqService.searchByText("kubernetes", managerId, 0, 10).getTotalElements());
+        assertEquals(1, rdqService.searchByText("kubernetes", outsiderId, 0, 10).getTotalElements());
+    }
+
+    /**
+     * Test paramétré : opérateurs et caractères spéciaux interprétés par websearch_to_tsquery sans erreur
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "kubernetes & | ! :*",
+            "\"certification kubernetes\"",
+            "kubernetes -architecture",
+            "kubernetes'); --",
+            "(((kubernetes"
+    })
+    void shouldAcceptArbitrarySearchSyntax(String term) {
+        PageDto<RdqSearchResultDto> page = assertDoesNotThrow(() -> rdqService.searchByText(term, ownerId, 0, 10));
+
+        assertTrue(page.getContent().stream().map(RdqSearchResultDto::getId).anyMatch(titleMatchId::equals));
+        assertEquals(4, rdqRepository.count());
+    }
+
+    /**
+     * Un terme réduit à des mots vides ne renvoie rien
+     */
+    @Test
+    void shouldReturnEmptyPageForStopWordsOnly() {
+        PageDto<RdqSearchResultDto> page = rdqService.searchByText("le du et", ownerId, 0, 10);
+
+        assertEquals(0, page.getTotalElements());
+        assertTrue(page.getContent().isEmpty());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private UserEntity newUser(String email, UserRole role, UserEntity manager) {
+        UserEntity user = TestDataBuilder.createUser(email);
+        user.role = role;
+        user.manager = manager;
+        userRepository.persist(user);
+        return user;
+    }
+
+    private Long newRdq(UserEntity owner, String title, String description, String justification) {
+        RdqEntity rdq = new RdqEntity();
+        rdq.title = title;
+        rdq.description = description;
+        rdq.justification = justification;
+        rdq.type = RdqType.FORMATION;
+        rdq.priority = RdqPriority.MEDIUM;
+        rdq.status = RdqStatus.DRAFT;
+        rdq.user = owner;
+        rdqRepository.persist(rdq);
+        return rdq.id;
+    }
+}
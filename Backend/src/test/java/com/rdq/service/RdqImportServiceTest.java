@@ -0,0 +1,155 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqImportResultDto;
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.RdqStatisticsRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests d'intégration de l'import en masse de RDQ
+ * - Erreurs rapportées ligne par ligne sans interrompre l'import
+ * - Un lot rejeté par la base n'annule que ce lot (une transaction par lot)
+ */
+@QuarkusTest
+class RdqImportServiceTest {
+
+    private static final String HEADER = "userEmail,title,description,type,priority\n";
+    private static final String OWNER_EMAIL = "import-owner@example.com";
+    private static final String DESCRIPTION = "Description suffisamment longue pour la validation";
+    private static final String REFUSED_TITLE = "Titre refusé par la base";
+
+    @Inject
+    RdqImportService importService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    RdqStatisticsRepository statisticsRepository;
+
+    private Long ownerId;
+    private int defaultChunkSize;
+
+    @BeforeEach
+    void setUp() {
+        RdqImportService service = ClientProxy.unwrap(importService);
+        defaultChunkSize = service.chunkSize;
+        service.chunkSize = 2;
+
+        ownerId = QuarkusTransaction.requiringNew().call(() -> {
+            UserEntity owner = TestDataBuilder.createUser(OWNER_EMAIL);
+            userRepository.persist(owner);
+            return owner.id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientProxy.unwrap(importService).chunkSize = defaultChunkSize;
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.getEntityManager()
+                    .createNativeQuery("ALTER TABLE rdq DROP CONSTRAINT IF EXISTS chk_rdq_import_test")
+                    .executeUpdate();
+            rdqRepository.deleteAll();
+            statisticsRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    /**
+     * Chaque ligne invalide est rapportée avec son numéro et son code, les autres sont importées
+     */
+    @Test
+    void shouldReportErrorsPerRowAndImportTheRest() {
+        String csv = HEADER
+                + row("Formation valide A", "FORMATION")
+                + OWNER_EMAIL + ",Colonne manquante," + DESCRIPTION + ",FORMATION\n"
+                + row("Type inconnu", "INCONNU")
+                + row("Bref", "FORMATION")
+                + "inconnu@example.com,Propriétaire inconnu," + DESCRIPTION + ",FORMATION,MEDIUM\n"
+                + row("Formation valide B", "FORMATION");
+
+        RdqImportResultDto result = importCsv(csv);
+
+        assertEquals(6, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(4, result.getFailed());
+        assertEquals(List.of("3:INVALID_FORMAT", "4:INVALID_FORMAT", "5:VALIDATION_ERROR", "6:USER_NOT_FOUND"),
+                     errors(result));
+        assertEquals("Valeur invalide pour type", result.getErrors().get(1).getMessage());
+        assertEquals(List.of("Formation valide A", "Formation valide B"), importedTitles());
+    }
+
+    /**
+     * Lot refusé par une contrainte de la base : ses lignes sont en échec et rien n'en subsiste,
+     * ni RDQ ni compteur ; les lots suivants sont importés
+     */
+    @Test
+    void shouldRollBackOnlyTheFailingChunk() {
+        QuarkusTransaction.requiringNew().run(() -> rdqRepository.getEntityManager()
+                .createNativeQuery("ALTER TABLE rdq ADD CONSTRAINT chk_rdq_import_test CHECK (title <> '"
+                                   + REFUSED_TITLE + "')")
+                .executeUpdate());
+        String csv = HEADER
+                + row("Formation lot un", "FORMATION")
+                + row(REFUSED_TITLE, "FORMATION")
+                + row("Formation lot deux A", "FORMATION")
+                + row("Formation lot deux B", "FORMATION");
+
+        RdqImportResultDto result = importCsv(csv);
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of("2:IMPORT_FAILED", "3:IMPORT_FAILED"), errors(result));
+        assertEquals(List.of("Formation lot deux A", "Formation lot deux B"), importedTitles());
+        assertEquals(2, userCounter());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private static String row(String title, String type) {
+        return OWNER_EMAIL + "," + title + "," + DESCRIPTION + "," + type + ",MEDIUM\n";
+    }
+
+    private RdqImportResultDto importCsv(String csv) {
+        return importService.importRdqs(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                                        RdqImportService.Format.CSV);
+    }
+
+    private static List<String> errors(RdqImportResultDto result) {
+        return result.getErrors().stream().map(error -> error.getLine() + ":" + error.getCode()).toList();
+    }
+
+    private List<String> importedTitles() {
+        return QuarkusTransaction.requiringNew().call(() ->
+                rdqRepository.list("user.id = ?1 ORDER BY title", ownerId).stream()
+                        .map(rdq -> rdq.title)
+                        .toList());
+    }
+
+    private long userCounter() {
+        return QuarkusTransaction.requiringNew().call(() ->
+                statisticsRepository.findGlobalAndUser(ownerId).stream()
+                        .filter(counter -> counter.dimension == RdqStatisticDimension.USER)
+                        .mapToLong(counter -> counter.rdqCount)
+                        .sum());
+    }
+}
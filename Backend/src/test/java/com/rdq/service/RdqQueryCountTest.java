@@ -0,0 +1,175 @@
+package com.rdq.service;
+
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.entity.UserRole;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du nombre de requêtes SQL émises par les chemins de lecture RDQ
+ * - Chaque RDQ appartient à un utilisateur distinct avec son propre manager,
+ *   ce qui rendrait visible tout chargement paresseux (N+1) au mapping DTO
+ * - Les données sont validées dans une transaction séparée pour que le service
+ *   parte d'un contexte de persistance vide
+ */
+@QuarkusTest
+class RdqQueryCountTest {
+
+    private static final int RDQ_COUNT = 30;
+
+    @Inject
+    RdqService rdqService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private final List<Long> rdqIds = new ArrayList<>();
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (int i = 0; i < RDQ_COUNT; i++) {
+                UserEntity manager = newUser("manager" + i + "@example.com", UserRole.MANAGER, null);
+                UserEntity owner = newUser("owner" + i + "@example.com", UserRole.USER, manager);
+
+                RdqEntity rdq = new RdqEntity();
+                rdq.title = "Formation Quarkus " + i;
+                rdq.description = "Description suffisamment longue pour la RDQ " + i;
+                rdq.type = RdqType.FORMATION;
+                rdq.priority = RdqPriority.MEDIUM;
+                rdq.status = RdqStatus.DRAFT;
+                rdq.user = owner;
+                rdqRepository.persist(rdq);
+
+                rdqIds.add(rdq.id);
+                ownerId = owner.id;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.deleteAll();
+            userRepository.delete("manager is not null");
+            userRepository.deleteAll();
+        });
+        rdqIds.clear();
+    }
+
+    /**
+     * Le nombre de requêtes d'une page ne dépend pas de sa taille
+     */
+    @Test
+    void searchStatementCountShouldNotDependOnPageSize() {
+        long smallPage = statementsFor(() -> rdqService.searchRdq(null, null, null, null, null, null, 0, 5));
+        long largePage = statementsFor(() -> rdqService.searchRdq(null, null, null, null, null, null, 0, 25));
+
+        assertEquals(smallPage, largePage);
+        assertEquals(1, largePage, "Page et total attendus en une seule requête (count(*) over())");
+    }
+
+    /**
+     * Sans comptage (includeTotal=false) une seule requête est émise également
+     */
+    @Test
+    void searchWithoutTotalShouldUseSingleStatement() {
+        long statements = statementsFor(() -> rdqService.searchRdq(null, null, null, null, null, null, 0, 10, false));
+
+        assertEquals(1, statements);
+    }
+
+    /**
+     * Le total est correct lorsqu'il est porté par la fonction de fenêtrage
+     */
+    @Test
+    void searchShouldReturnTotalFromWindowFunction() {
+        var page = rdqService.searchRdq(null, null, null, null, null, null, 1, 10);
+
+        assertEquals(RDQ_COUNT, page.getTotalElements());
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    /**
+     * La pagination keyset charge également utilisateurs et managers par jointure
+     */
+    @Test
+    void cursorStatementCountShouldNotDependOnPageSize() {
+        long smallPage = statementsFor(() -> rdqService.searchRdqAfter(null, null, null, null, null, null, null, 5));
+        long largePage = statementsFor(() -> rdqService.searchRdqAfter(null, null, null, null, null, null, null, 25));
+
+        assertEquals(smallPage, largePage);
+        assertEquals(1, largePage);
+    }
+
+    /**
+     * La lecture d'une RDQ et la vérification des droits tiennent en une requête
+     */
+    @Test
+    void getByIdShouldUseSingleStatement() {
+        Long lastRdqId = rdqIds.get(rdqIds.size() - 1);
+
+        long statements = statementsFor(() -> rdqService.getRdqById(lastRdqId, ownerId));
+
+        assertEquals(1, statements);
+    }
+
+    /**
+     * RDQ et version (ETag, Last-Modified) en une requête : même ETag que la lecture des seuls horodatages
+     */
+    @Test
+    void getWithVersionShouldUseSingleStatement() {
+        Long lastRdqId = rdqIds.get(rdqIds.size() - 1);
+        RdqService.VersionedRdq[] result = new RdqService.VersionedRdq[1];
+
+        long statements = statementsFor(() -> result[0] = rdqService.getRdqWithVersion(lastRdqId, ownerId));
+
+        assertEquals(1, statements);
+        assertEquals(lastRdqId, result[0].getRdq().getId());
+        assertEquals(rdqService.getRdqVersion(lastRdqId, ownerId).getEntityTag(),
+                     result[0].getVersion().getEntityTag());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private long statementsFor(Runnable action) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UserEntity newUser(String email, UserRole role, UserEntity manager) {
+        UserEntity user = TestDataBuilder.createUser(email);
+        user.role = role;
+        user.manager = manager;
+        userRepository.persist(user);
+        return user;
+    }
+}
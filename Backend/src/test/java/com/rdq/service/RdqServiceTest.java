@@ -2,11 +2,15 @@ package com.rdq.service;
 
 import com.rdq.dto.RdqDto;
 import com.rdq.dto.CreateRdqDto;
+import com.rdq.dto.BulkDecisionDto;
+import com.rdq.dto.BulkDecisionResultDto;
+import com.rdq.entity.RdqEntity;
 import com.rdq.entity.RdqType;
 import com.rdq.entity.RdqPriority;
 import com.rdq.entity.RdqStatus;
 import com.rdq.repository.UserRepository;
 import com.rdq.repository.RdqRepository;
+import com.rdq.util.TestDataBuilder;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
 import jakarta.inject.Inject;
@@ -16,8 +20,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 /**
@@ -41,6 +50,9 @@ class RdqServiceTest {
     @InjectMock
     NotificationService notificationService;
     
+    @InjectMock
+    RdqStatisticsService statisticsService;
+    
     private CreateRdqDto validCreateDto;
     private Long userId;
     
@@ -64,12 +76,12 @@ class RdqServiceTest {
         var mockUser = TestDataBuilder.createUser(userId, "test@example.com");
         when(userRepository.findById(userId)).thenReturn(mockUser);
         
-        var mockRdq = TestDataBuilder.createRdq(1L, validCreateDto.getTitle(), mockUser);
-        when(rdqRepository.persist(any())).thenAnswer(invocation -> {
-            var rdq = invocation.getArgument(0);
+        doAnswer(invocation -> {
+            RdqEntity rdq = invocation.getArgument(0);
             // Simulation de l'assignation d'ID par la base
-            return rdq;
-        });
+            rdq.id = 1L;
+            return null;
+        }).when(rdqRepository).persist(any(RdqEntity.class));
         
         // When
         RdqDto result = rdqService.createRdq(validCreateDto, userId);
@@ -82,8 +94,9 @@ class RdqServiceTest {
         
         // Vérification des interactions
         Mockito.verify(userRepository).findById(userId);
-        Mockito.verify(rdqRepository).persist(any());
+        Mockito.verify(rdqRepository).persist(any(RdqEntity.class));
         Mockito.verify(notificationService).sendRdqCreatedNotification(any());
+        Mockito.verify(statisticsService).recordCreated(any());
     }
     
     /**
@@ -187,16 +200,18 @@ class RdqServiceTest {
         // Given
         Long rdqId = 1L;
         var mockUser = TestDataBuilder.createUser(userId, "test@example.com");
+        mockUser.manager = TestDataBuilder.createManager(2L, "manager@example.com"); // destinataire de la notification
         var mockRdq = TestDataBuilder.createRdq(rdqId, "Test RDQ", mockUser);
         mockRdq.status = RdqStatus.DRAFT;
         
-        when(rdqRepository.findById(rdqId)).thenReturn(mockRdq);
+        when(rdqRepository.findByIdWithUser(rdqId)).thenReturn(mockRdq);
         
         // When
         RdqDto result = rdqService.submitRdq(rdqId, userId);
         
         // Then
         assertEquals(RdqStatus.SUBMITTED, result.getStatus());
+        Mockito.verify(statisticsService).recordStatusChange(RdqStatus.DRAFT, RdqStatus.SUBMITTED);
         Mockito.verify(notificationService).sendRdqSubmittedNotification(any());
     }
     
@@ -211,11 +226,45 @@ class RdqServiceTest {
         var mockRdq = TestDataBuilder.createRdq(rdqId, "Test RDQ", mockUser);
         mockRdq.status = RdqStatus.APPROVED; // Déjà approuvée
         
-        when(rdqRepository.findById(rdqId)).thenReturn(mockRdq);
+        when(rdqRepository.findByIdWithUser(rdqId)).thenReturn(mockRdq);
         
         // When & Then
         assertThrows(Exception.class, () -> {
             rdqService.submitRdq(rdqId, userId);
         });
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test de décision groupée : seules les RDQ éligibles sont mises à jour,
+     * les autres sont signalées individuellement
+     */
+    @Test
+    void shouldApplyBulkDecisionToEligibleRdqOnly() {
+        // Given
+        Long managerId = 10L;
+        when(rdqRepository.lockDecisionCandidates(any())).thenReturn(List.of(
+                new RdqRepository.DecisionCandidate(1L, RdqStatus.SUBMITTED, 21L, managerId, "RDQ 1", "a@example.com"),
+                new RdqRepository.DecisionCandidate(2L, RdqStatus.SUBMITTED, 22L, 99L, "RDQ 2", "b@example.com"),
+                new RdqRepository.DecisionCandidate(3L, RdqStatus.DRAFT, 23L, managerId, "RDQ 3", "c@example.com")));
+        when(rdqRepository.applyDecision(any(), any(), any(), any())).thenReturn(1);
+        
+        BulkDecisionDto decisionDto = BulkDecisionDto.builder()
+                .ids(List.of(1L, 2L, 3L, 4L, 1L))
+                .decision(BulkDecisionDto.Decision.APPROVE)
+                .build();
+        
+        // When
+        BulkDecisionResultDto result = rdqService.decideBulk(decisionDto, managerId);
+        
+        // Then
+        assertEquals(4, result.getRequested());
+        assertEquals(1, result.getUpdated());
+        assertEquals(List.of(true, false, false, false),
+                     result.getResults().stream().map(BulkDecisionResultDto.Item::isSuccess).toList());
+        assertEquals(List.of("ACCESS_DENIED", "INVALID_STATUS", "RDQ_NOT_FOUND"),
+                     result.getResults().stream().skip(1).map(BulkDecisionResultDto.Item::getCode).toList());
+        Mockito.verify(rdqRepository).applyDecision(eq(List.of(1L)), eq(RdqStatus.APPROVED), isNull(), any());
+        Mockito.verify(statisticsService).recordStatusChanges(RdqStatus.SUBMITTED, RdqStatus.APPROVED, 1);
+        Mockito.verify(notificationService).sendRdqDecisionNotifications(any(), eq(RdqStatus.APPROVED), isNull());
+    }
+}
@@ -0,0 +1,141 @@
+package com.rdq.service;
+
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatisticDimension;
+import com.rdq.entity.RdqStatisticEntity;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.RdqStatisticsRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la réconciliation des compteurs sur une table en écart
+ * - RDQ insérées sans passer par RdqStatisticsService, compteurs faux, manquants ou orphelins
+ * - repair=true : chaque axe ramené aux comptages réels ; repair=false : compteurs inchangés
+ */
+@QuarkusTest
+class RdqStatisticsReconcilerTest {
+
+    @Inject
+    RdqStatisticsReconciler reconciler;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    RdqStatisticsRepository statisticsRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = QuarkusTransaction.requiringNew().call(() -> {
+            UserEntity owner = TestDataBuilder.createUser("reconcile-owner@example.com");
+            userRepository.persist(owner);
+
+            newRdq(owner, RdqStatus.DRAFT, RdqType.FORMATION);
+            newRdq(owner, RdqStatus.DRAFT, RdqType.MATERIEL);
+            newRdq(owner, RdqStatus.SUBMITTED, RdqType.FORMATION);
+
+            // Écarts : compteur faux, compteur orphelin ; SUBMITTED, TYPE et USER manquants
+            LocalDateTime now = LocalDateTime.now();
+            statisticsRepository.increment(RdqStatisticDimension.STATUS, "DRAFT", 5, now);
+            statisticsRepository.increment(RdqStatisticDimension.STATUS, "APPROVED", 1, now);
+            statisticsRepository.increment(RdqStatisticDimension.PRIORITY, "MEDIUM", 3, now);
+            return owner.id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientProxy.unwrap(reconciler).repair = true;
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.deleteAll();
+            statisticsRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    /**
+     * Après réconciliation, chaque axe correspond au GROUP BY sur rdq
+     */
+    @Test
+    void shouldRepairDriftedCounters() {
+        reconciler.reconcileAll();
+
+        Map<String, Long> counters = counters();
+        assertEquals(2, counters.get("STATUS/DRAFT"));
+        assertEquals(1, counters.get("STATUS/SUBMITTED"));
+        assertEquals(0, counters.get("STATUS/APPROVED"));
+        assertEquals(2, counters.get("TYPE/FORMATION"));
+        assertEquals(1, counters.get("TYPE/MATERIEL"));
+        assertEquals(3, counters.get("PRIORITY/MEDIUM"));
+        assertEquals(3, counters.get("USER/" + ownerId));
+        assertEquals(7, counters.size());
+    }
+
+    /**
+     * Une seconde passe ne trouve plus d'écart
+     */
+    @Test
+    void shouldFindNoDriftAfterRepair() {
+        reconciler.reconcileAll();
+
+        for (RdqStatisticDimension dimension : RdqStatisticDimension.values()) {
+            assertEquals(0, QuarkusTransaction.requiringNew().call(() -> reconciler.reconcile(dimension)),
+                         dimension.name());
+        }
+    }
+
+    /**
+     * repair=false : écart seulement signalé, compteurs laissés tels quels
+     */
+    @Test
+    void shouldLeaveCountersUnchangedWithoutRepair() {
+        ClientProxy.unwrap(reconciler).repair = false;
+
+        assertEquals(3, QuarkusTransaction.requiringNew().call(
+                () -> reconciler.reconcile(RdqStatisticDimension.STATUS)));
+
+        assertEquals(Map.of("STATUS/DRAFT", 5L, "STATUS/APPROVED", 1L, "PRIORITY/MEDIUM", 3L), counters());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private void newRdq(UserEntity owner, RdqStatus status, RdqType type) {
+        RdqEntity rdq = new RdqEntity();
+        rdq.title = "RDQ " + status + " " + type;
+        rdq.description = "Description suffisamment longue pour la validation";
+        rdq.type = type;
+        rdq.priority = RdqPriority.MEDIUM;
+        rdq.status = status;
+        rdq.user = owner;
+        rdqRepository.persist(rdq);
+    }
+
+    private Map<String, Long> counters() {
+        return QuarkusTransaction.requiringNew().call(() -> statisticsRepository.listAll().stream()
+                .collect(Collectors.toMap(counter -> counter.dimension + "/" + counter.dimensionValue,
+                                          (RdqStatisticEntity counter) -> counter.rdqCount)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.rdq.service;
+
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du repli LIKE de la recherche textuelle (bases sans plein texte, H2 en tests)
+ * - Les jokers SQL saisis par l'utilisateur sont recherchés littéralement
+ */
+@QuarkusTest
+class RdqTextSearchFallbackTest {
+
+    @Inject
+    RdqService rdqService;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            UserEntity owner = TestDataBuilder.createUser("fallback-owner@example.com");
+            userRepository.persist(owner);
+            ownerId = owner.id;
+
+            newRdq(owner, "Formation Java avancée", "Réduction de 100% des temps de build");
+            newRdq(owner, "Formation SQL avancée", "Nommage des colonnes en snake_case");
+            newRdq(owner, "Formation Kubernetes", "Déploiement continu sur un cluster");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+    }
+
+    /**
+     * "%" et "_" ne correspondent qu'à eux-mêmes
+     */
+    @Test
+    void shouldMatchWildcardsLiterally() {
+        assertEquals(1, rdqService.searchByText("%", ownerId, 0, 10).getTotalElements());
+        assertEquals(1, rdqService.searchByText("_", ownerId, 0, 10).getTotalElements());
+        assertEquals(1, rdqService.searchByText("100%", ownerId, 0, 10).getTotalElements());
+        assertEquals(0, rdqService.searchByText("a_ancée", ownerId, 0, 10).getTotalElements());
+    }
+
+    /**
+     * Le caractère d'échappement saisi tel quel n'altère pas le motif
+     */
+    @Test
+    void shouldMatchEscapeCharacterLiterally() {
+        assertEquals(0, rdqService.searchByText("!%", ownerId, 0, 10).getTotalElements());
+        assertEquals(3, rdqService.searchByText("formation", ownerId, 0, 10).getTotalElements());
+    }
+
+    private void newRdq(UserEntity owner, String title, String description) {
+        RdqEntity rdq = new RdqEntity();
+        rdq.title = title;
+        rdq.description = description + " pour l'équipe";
+        rdq.type = RdqType.FORMATION;
+        rdq.priority = RdqPriority.MEDIUM;
+        rdq.status = RdqStatus.DRAFT;
+        rdq.user = owner;
+        rdqRepository.persist(rdq);
+    }
+}
@@ -0,0 +1,116 @@
+package com.rdq.service;
+
+import com.rdq.dto.RdqUploadDto;
+import com.rdq.entity.AttachmentKind;
+import com.rdq.entity.RdqUploadSessionEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la fusion des blocs reçus en plages (état d'un envoi en plusieurs blocs)
+ * - Blocs adjacents, chevauchants, inclus ou renvoyés : une seule plage
+ * - Trou : plages distinctes, reprise (nextOffset) à la fin de la première plage partant de 0
+ * - Envoi complet seulement quand la première plage couvre tout le fichier
+ */
+class RdqUploadRangesTest {
+
+    private static final long SIZE = 100;
+
+    @Test
+    void shouldReportNothingReceivedWithoutChunks() {
+        RdqUploadDto state = state();
+
+        assertEquals(List.of(), spans(state));
+        assertEquals(0, state.getReceivedBytes());
+        assertEquals(0, state.getNextOffset());
+        assertFalse(state.isComplete());
+    }
+
+    @Test
+    void shouldMergeAdjacentChunks() {
+        RdqUploadDto state = state(chunk(0, 10), chunk(10, 10), chunk(20, 5));
+
+        assertEquals(List.of("0-24"), spans(state));
+        assertEquals(25, state.getReceivedBytes());
+        assertEquals(25, state.getNextOffset());
+    }
+
+    @Test
+    void shouldMergeOverlappingAndContainedChunks() {
+        RdqUploadDto state = state(chunk(0, 15), chunk(5, 5), chunk(10, 10));
+
+        assertEquals(List.of("0-19"), spans(state));
+        assertEquals(20, state.getReceivedBytes());
+    }
+
+    @Test
+    void shouldCountDuplicateChunkOnce() {
+        RdqUploadDto state = state(chunk(0, 10), chunk(0, 10), chunk(0, 4));
+
+        assertEquals(List.of("0-9"), spans(state));
+        assertEquals(10, state.getReceivedBytes());
+        assertEquals(10, state.getNextOffset());
+    }
+
+    /**
+     * Trou après le premier bloc : reprise à sa fin, blocs suivants conservés
+     */
+    @Test
+    void shouldKeepGapsAndResumeAtFirstGap() {
+        RdqUploadDto state = state(chunk(0, 10), chunk(30, 10), chunk(40, 60));
+
+        assertEquals(List.of("0-9", "30-99"), spans(state));
+        assertEquals(80, state.getReceivedBytes());
+        assertEquals(10, state.getNextOffset());
+        assertFalse(state.isComplete());
+    }
+
+    /**
+     * Début du fichier manquant : reprise à 0 même si la suite est reçue
+     */
+    @Test
+    void shouldResumeAtZeroWhenStartIsMissing() {
+        RdqUploadDto state = state(chunk(50, 50));
+
+        assertEquals(List.of("50-99"), spans(state));
+        assertEquals(0, state.getNextOffset());
+        assertFalse(state.isComplete());
+    }
+
+    @Test
+    void shouldBeCompleteWhenWholeFileIsCovered() {
+        RdqUploadDto state = state(chunk(0, 60), chunk(40, 60));
+
+        assertEquals(List.of("0-99"), spans(state));
+        assertEquals(SIZE, state.getReceivedBytes());
+        assertTrue(state.isComplete());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    /**
+     * État calculé à partir de blocs triés par position, comme les renvoie le dépôt
+     */
+    private static RdqUploadDto state(long[]... chunks) {
+        RdqUploadSessionEntity session = new RdqUploadSessionEntity();
+        session.id = "00000000-0000-0000-0000-000000000001";
+        session.rdqId = 1L;
+        session.userId = 1L;
+        session.kind = AttachmentKind.CV;
+        session.fileName = "cv.pdf";
+        session.contentType = "application/pdf";
+        session.sizeBytes = SIZE;
+        return RdqUploadService.toDto(session, List.of(chunks));
+    }
+
+    private static long[] chunk(long start, long length) {
+        return new long[] {start, length};
+    }
+
+    private static List<String> spans(RdqUploadDto state) {
+        return state.getReceived().stream().map(span -> span.getStart() + "-" + span.getEnd()).toList();
+    }
+}
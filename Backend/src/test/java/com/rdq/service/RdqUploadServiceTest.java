@@ -0,0 +1,130 @@
+package com.rdq.service;
+
+import com.rdq.dto.CreateUploadDto;
+import com.rdq.entity.AttachmentKind;
+import com.rdq.entity.RdqEntity;
+import com.rdq.entity.RdqPriority;
+import com.rdq.entity.RdqStatus;
+import com.rdq.entity.RdqType;
+import com.rdq.entity.UserEntity;
+import com.rdq.exception.UploadNotFoundException;
+import com.rdq.repository.RdqRepository;
+import com.rdq.repository.RdqUploadSessionRepository;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la purge des envois en plusieurs blocs abandonnés
+ * - Fichier partiel sans écriture depuis session-ttl : session, blocs et fichier supprimés
+ * - Session ancienne dont le fichier a disparu : supprimée
+ * - Envoi actif : conservé
+ */
+@QuarkusTest
+class RdqUploadServiceTest {
+
+    private static final Duration ABANDONED = Duration.ofDays(2);
+
+    @Inject
+    RdqUploadService uploadService;
+
+    @Inject
+    RdqUploadSessionRepository sessionRepository;
+
+    @Inject
+    RdqRepository rdqRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    AttachmentStore store;
+
+    private Long ownerId;
+    private Long rdqId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            UserEntity owner = TestDataBuilder.createUser("upload-owner@example.com");
+            userRepository.persist(owner);
+
+            RdqEntity rdq = new RdqEntity();
+            rdq.title = "Formation avec pièce jointe";
+            rdq.description = "Description suffisamment longue pour la validation";
+            rdq.type = RdqType.FORMATION;
+            rdq.priority = RdqPriority.MEDIUM;
+            rdq.status = RdqStatus.DRAFT;
+            rdq.user = owner;
+            rdqRepository.persist(rdq);
+
+            ownerId = owner.id;
+            rdqId = rdq.id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (String uploadId : QuarkusTransaction.requiringNew().call(() ->
+                sessionRepository.list("userId", ownerId).stream().map(session -> session.id).toList())) {
+            QuarkusTransaction.requiringNew().run(() -> sessionRepository.deleteWithChunks(uploadId));
+            store.deletePartial(uploadId);
+        }
+        QuarkusTransaction.requiringNew().run(() -> {
+            rdqRepository.delete("user.id", ownerId);
+            userRepository.deleteById(ownerId);
+        });
+    }
+
+    /**
+     * Fichier partiel inactif depuis plus de session-ttl : envoi purgé, l'envoi actif reste
+     */
+    @Test
+    void shouldPurgeUploadWithStalePartialFile() throws IOException {
+        String stale = createUpload();
+        String active = createUpload();
+        Files.setLastModifiedTime(store.partialPath(stale), FileTime.from(Instant.now().minus(ABANDONED)));
+
+        uploadService.purgeAbandoned();
+
+        assertThrows(UploadNotFoundException.class, () -> uploadService.getUpload(rdqId, stale, ownerId));
+        assertFalse(store.hasPartial(stale));
+        assertEquals(active, uploadService.getUpload(rdqId, active, ownerId).getUploadId());
+        assertTrue(store.hasPartial(active));
+    }
+
+    /**
+     * Session plus ancienne que session-ttl sans fichier partiel : purgée
+     */
+    @Test
+    void shouldPurgeOldSessionWithoutPartialFile() throws IOException {
+        String orphan = createUpload();
+        store.deletePartial(orphan);
+        QuarkusTransaction.requiringNew().run(() -> sessionRepository.update(
+                "createdAt = ?1 WHERE id = ?2", LocalDateTime.now().minus(ABANDONED), orphan));
+
+        uploadService.purgeAbandoned();
+
+        assertThrows(UploadNotFoundException.class, () -> uploadService.getUpload(rdqId, orphan, ownerId));
+    }
+
+    private String createUpload() {
+        return uploadService.createUpload(rdqId,
+                new CreateUploadDto("programme.pdf", "application/pdf", 100L, AttachmentKind.OTHER), ownerId)
+                .getUploadId();
+    }
+}
@@ -0,0 +1,131 @@
+package com.rdq.service;
+
+import com.rdq.dto.UpdateUserDto;
+import com.rdq.entity.UserEntity;
+import com.rdq.repository.UserRepository;
+import com.rdq.util.TestDataBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du cache de second niveau de UserEntity
+ * - Une lecture par ID déjà en cache n'émet aucune requête SQL
+ * - Les écritures (entité managée, suppression, mise à jour HQL) ne laissent jamais d'entrée périmée
+ */
+@QuarkusTest
+class UserCacheTest {
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory.getCache().evictAllRegions();
+        userId = QuarkusTransaction.requiringNew().call(() -> {
+            UserEntity user = TestDataBuilder.createUser("cached@example.com");
+            user.firstName = "Avant";
+            userRepository.persist(user);
+            return user.id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> userRepository.deleteAll());
+    }
+
+    /**
+     * Deuxième lecture servie par le cache
+     */
+    @Test
+    void shouldServeRepeatedReadFromCache() {
+        readUser();
+
+        long statements = statementsFor(this::readUser);
+
+        assertEquals(0, statements);
+        assertTrue(sessionFactory.getCache().contains(UserEntity.class, userId));
+    }
+
+    /**
+     * Mise à jour par le service : la lecture suivante voit la nouvelle valeur, toujours sans requête
+     */
+    @Test
+    void shouldRefreshCacheEntryOnUpdate() {
+        readUser();
+
+        userService.updateUser(userId, UpdateUserDto.builder().firstName("Après").build());
+
+        long statements = statementsFor(() -> assertEquals("Après", readUser().firstName));
+        assertEquals(0, statements);
+    }
+
+    /**
+     * Désactivation : l'état lu après commit n'est pas celui mis en cache avant
+     */
+    @Test
+    void shouldRefreshCacheEntryOnDeactivation() {
+        assertTrue(readUser().active);
+
+        userService.deactivateUser(userId);
+
+        assertFalse(readUser().active);
+    }
+
+    /**
+     * Suppression : entrée retirée du cache, la lecture suivante ne trouve plus l'utilisateur
+     */
+    @Test
+    void shouldEvictCacheEntryOnDelete() {
+        readUser();
+        assertTrue(sessionFactory.getCache().contains(UserEntity.class, userId));
+
+        QuarkusTransaction.requiringNew().run(() -> userRepository.deleteById(userId));
+
+        assertFalse(sessionFactory.getCache().contains(UserEntity.class, userId));
+        assertNull(readUser());
+    }
+
+    /**
+     * Mise à jour HQL en masse : Hibernate invalide la région, pas de lecture périmée
+     */
+    @Test
+    void shouldInvalidateCacheOnBulkUpdate() {
+        readUser();
+
+        QuarkusTransaction.requiringNew().run(() ->
+                userRepository.update("lastName = ?1 where id = ?2", "Renommé", userId));
+
+        assertFalse(sessionFactory.getCache().contains(UserEntity.class, userId));
+        assertEquals("Renommé", readUser().lastName);
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private UserEntity readUser() {
+        return QuarkusTransaction.requiringNew().call(() -> userRepository.findById(userId));
+    }
+
+    private long statementsFor(Runnable action) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
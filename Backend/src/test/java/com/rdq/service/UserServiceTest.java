@@ -0,0 +1,112 @@
+package com.rdq.service;
+
+import com.rdq.dto.CreateUserDto;
+import com.rdq.dto.UserDto;
+import com.rdq.entity.UserEntity;
+import com.rdq.entity.UserRole;
+import com.rdq.exception.BusinessException;
+import com.rdq.repository.UserRepository;
+import com.rdq.security.PasswordService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la création d'utilisateur (hash BCrypt calculé hors transaction)
+ */
+@QuarkusTest
+class UserServiceTest {
+
+    private static final String PASSWORD = "Motdepasse1!";
+
+    @Inject
+    UserService userService;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    PasswordService passwordService;
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            userRepository.delete("manager is not null");
+            userRepository.deleteAll();
+        });
+    }
+
+    /**
+     * Utilisateur persisté avec son manager et un hash vérifiable
+     */
+    @Test
+    void shouldPersistUserWithVerifiableHash() {
+        UserDto manager = userService.createUser(newUser("manager-create@example.com", PASSWORD, null));
+
+        UserDto created = userService.createUser(newUser("create@example.com", PASSWORD, manager.getId()));
+
+        UserEntity entity = QuarkusTransaction.requiringNew().call(() -> {
+            UserEntity user = userRepository.findById(created.getId());
+            assertEquals(manager.getId(), user.manager.id);
+            return user;
+        });
+        assertNotEquals(PASSWORD, entity.passwordHash);
+        assertTrue(passwordService.verifyPassword(PASSWORD, entity.passwordHash));
+    }
+
+    /**
+     * Email encore inconnu : création acceptée (le contrôle d'unicité ne refuse pas tout)
+     */
+    @Test
+    void shouldAcceptUnusedEmail() {
+        UserDto created = userService.createUser(newUser("new-email@example.com", PASSWORD, null));
+
+        assertNotNull(created.getId());
+        assertEquals("new-email@example.com", created.getEmail());
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> userRepository.emailExists("new-email@example.com")));
+    }
+
+    /**
+     * Email déjà utilisé : refus, aucun second utilisateur
+     */
+    @Test
+    void shouldRejectDuplicateEmail() {
+        userService.createUser(newUser("duplicate@example.com", PASSWORD, null));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> userService.createUser(newUser("duplicate@example.com", PASSWORD, null)));
+
+        assertEquals("EMAIL_ALREADY_EXISTS", exception.getCode());
+        assertEquals(1, QuarkusTransaction.requiringNew().call(() -> userRepository.count()));
+    }
+
+    /**
+     * Mot de passe faible ou manager inconnu : refus, rien n'est persisté
+     */
+    @Test
+    void shouldRejectWeakPasswordAndUnknownManager() {
+        BusinessException weak = assertThrows(BusinessException.class,
+                () -> userService.createUser(newUser("weak@example.com", "faible", null)));
+        BusinessException noManager = assertThrows(BusinessException.class,
+                () -> userService.createUser(newUser("orphan@example.com", PASSWORD, 999_999L)));
+
+        assertEquals("WEAK_PASSWORD", weak.getCode());
+        assertEquals("MANAGER_NOT_FOUND", noManager.getCode());
+        assertEquals(0, QuarkusTransaction.requiringNew().call(() -> userRepository.count()));
+    }
+
+    private static CreateUserDto newUser(String email, String password, Long managerId) {
+        return CreateUserDto.builder()
+                .email(email)
+                .firstName("Prénom")
+                .lastName("Nom")
+                .role(managerId == null ? UserRole.MANAGER : UserRole.USER)
+                .password(password)
+                .managerId(managerId)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.rdq.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de l'analyse de l'en-tête Range
+ * - Plage bornée, ouverte, suffixe ; fin ramenée au dernier octet
+ * - Multi-plages et en-têtes mal formés : contenu entier (null)
+ * - Début au-delà de la fin : non satisfaisable (416)
+ */
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    /**
+     * bytes=0-99 : les 100 premiers octets
+     */
+    @Test
+    void shouldParseBoundedRange() {
+        ByteRange range = ByteRange.parse("bytes=0-99", SIZE);
+
+        assertRange(0, 99, range);
+        assertEquals(100, range.length());
+        assertEquals("bytes 0-99/1000", range.contentRange(SIZE));
+    }
+
+    /**
+     * bytes=900- : jusqu'à la fin ; fin au-delà du fichier ramenée au dernier octet
+     */
+    @Test
+    void shouldParseOpenEndedRange() {
+        assertRange(900, 999, ByteRange.parse("bytes=900-", SIZE));
+        assertRange(900, 999, ByteRange.parse("bytes=900-5000", SIZE));
+        assertRange(999, 999, ByteRange.parse("bytes=999-", SIZE));
+    }
+
+    /**
+     * bytes=-100 : les 100 derniers octets ; suffixe plus long que le fichier : fichier entier
+     */
+    @Test
+    void shouldParseSuffixRange() {
+        assertRange(900, 999, ByteRange.parse("bytes=-100", SIZE));
+        assertRange(0, 999, ByteRange.parse("bytes=-5000", SIZE));
+    }
+
+    /**
+     * Début au-delà de la fin, suffixe nul ou fichier vide : 416, Content-Range sans plage
+     */
+    @Test
+    void shouldReportUnsatisfiableRange() {
+        assertFalse(ByteRange.parse("bytes=1000-", SIZE).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=2000-3000", SIZE).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=-0", SIZE).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=-10", 0).isSatisfiable());
+        assertEquals("bytes */1000", ByteRange.unsatisfiedContentRange(SIZE));
+    }
+
+    /**
+     * Plusieurs plages : non prises en charge, contenu servi en entier
+     */
+    @Test
+    void shouldServeWholeContentForMultipleRanges() {
+        assertNull(ByteRange.parse("bytes=0-99,200-299", SIZE));
+        assertNull(ByteRange.parse("bytes=0-99, -100", SIZE));
+    }
+
+    /**
+     * En-tête absent, autre unité, bornes inversées, vides ou hors des long : ignoré
+     */
+    @Test
+    void shouldIgnoreMalformedHeader() {
+        assertNull(ByteRange.parse(null, SIZE));
+        assertNull(ByteRange.parse("items=0-99", SIZE));
+        assertNull(ByteRange.parse("bytes=99-0", SIZE));
+        assertNull(ByteRange.parse("bytes=-", SIZE));
+        assertNull(ByteRange.parse("bytes=a-b", SIZE));
+        assertNull(ByteRange.parse("bytes=0-99999999999999999999", SIZE));
+    }
+
+    private static void assertRange(long start, long end, ByteRange range) {
+        assertNotNull(range);
+        assertTrue(range.isSatisfiable());
+        assertEquals(start, range.getStart());
+        assertEquals(end, range.getEnd());
+    }
+}
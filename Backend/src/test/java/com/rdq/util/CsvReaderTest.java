@@ -0,0 +1,139 @@
+package com.rdq.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du lecteur CSV en flux
+ * - Champs entre guillemets : virgules, guillemets doublés et retours à la ligne
+ * - Fins de ligne LF et CRLF, BOM en tête de flux
+ * - Numéro de ligne de début de chaque enregistrement
+ */
+class CsvReaderTest {
+
+    /**
+     * Virgule, guillemet doublé et retour à la ligne conservés dans un champ entre guillemets
+     */
+    @Test
+    void shouldReadQuotedFields() throws IOException {
+        List<List<String>> records = readAll("a,\"b, c\",\"d \"\"e\"\"\",\"f\ng\"\nh,i,j,k\n");
+
+        assertEquals(List.of(
+                List.of("a", "b, c", "d \"e\"", "f\ng"),
+                List.of("h", "i", "j", "k")), records);
+    }
+
+    /**
+     * Champs vides, entre guillemets ou non, et virgule finale
+     */
+    @Test
+    void shouldReadEmptyFields() throws IOException {
+        assertEquals(List.of(List.of("", "", "x", "")), readAll(",\"\",x,\n"));
+    }
+
+    /**
+     * CRLF : séparateur d'enregistrements hors guillemets, conservé tel quel entre guillemets
+     */
+    @Test
+    void shouldHandleCrlfLineEndings() throws IOException {
+        List<List<String>> records = readAll("a,b\r\n\"c\r\nd\",e\r\n");
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c\r\nd", "e")), records);
+    }
+
+    /**
+     * Dernier enregistrement sans fin de ligne, lignes vides ignorées
+     */
+    @Test
+    void shouldSkipBlankLinesAndReadUnterminatedLastRecord() throws IOException {
+        assertEquals(List.of(List.of("a"), List.of("b", "c")), readAll("\n\na\r\n\r\nb,c"));
+    }
+
+    /**
+     * BOM UTF-8 retiré du premier champ, y compris devant un guillemet ouvrant
+     */
+    @Test
+    void shouldSkipByteOrderMark() throws IOException {
+        assertEquals(List.of(List.of("userEmail", "title")), readAll("\uFEFFuserEmail,title\n"));
+        assertEquals(List.of(List.of("userEmail", "title")), readAll("\uFEFF\"userEmail\",title\n"));
+    }
+
+    /**
+     * Un BOM hors tête de flux fait partie des données
+     */
+    @Test
+    void shouldKeepByteOrderMarkInsideData() throws IOException {
+        assertEquals(List.of(List.of("a", "\uFEFFb")), readAll("a,\uFEFFb\n"));
+    }
+
+    /**
+     * Les enregistrements sont rendus tels quels, quel que soit leur nombre de colonnes :
+     * le contrôle par rapport à l'en-tête revient à l'appelant
+     */
+    @Test
+    void shouldReturnRecordsWithTheirOwnColumnCount() throws IOException {
+        List<List<String>> records = readAll("a,b,c\n1,2\n1,2,3,4\n");
+
+        assertEquals(List.of(3, 2, 4), records.stream().map(List::size).toList());
+    }
+
+    /**
+     * Numéro de ligne du début de l'enregistrement, même après un champ multiligne
+     */
+    @Test
+    void shouldReportRecordStartLine() throws IOException {
+        CsvReader reader = reader("a,b\n\"multi\nligne\",c\n\nd,e\n");
+
+        reader.next();
+        assertEquals(1, reader.recordLine());
+        reader.next();
+        assertEquals(2, reader.recordLine());
+        reader.next();
+        assertEquals(5, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    /**
+     * Guillemet jamais fermé : erreur avec la ligne de début de l'enregistrement
+     */
+    @Test
+    void shouldRejectUnterminatedQuote() throws IOException {
+        CsvReader reader = reader("a,b\nc,\"non fermé\nd\n");
+        reader.next();
+
+        IOException exception = assertThrows(IOException.class, reader::next);
+        assertTrue(exception.getMessage().contains("ligne 2"), exception.getMessage());
+    }
+
+    /**
+     * Flux vide : aucun enregistrement
+     */
+    @Test
+    void shouldReturnNullForEmptyInput() throws IOException {
+        assertNull(reader("").next());
+        assertNull(reader("\uFEFF").next());
+    }
+
+    // ========== Méthodes utilitaires ==========
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new BufferedReader(new StringReader(content)));
+    }
+
+    private static List<List<String>> readAll(String content) throws IOException {
+        CsvReader reader = reader(content);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,79 @@
+package com.rdq.util;
+
+import com.rdq.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du curseur de pagination keyset
+ * - Aller-retour encodage/décodage
+ * - Rejet des curseurs altérés
+ */
+class KeysetCursorTest {
+
+    /**
+     * Un curseur encodé se décode à l'identique, nanosecondes comprises
+     */
+    @Test
+    void shouldRoundTripThroughEncoding() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30, 12, 123456789);
+
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, 42L).encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    /**
+     * Le jeton est opaque et utilisable tel quel dans une URL
+     */
+    @Test
+    void shouldEncodeAsUrlSafeToken() {
+        String token = KeysetCursor.of(LocalDateTime.of(2024, 3, 15, 10, 30), Long.MAX_VALUE).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    /**
+     * Absence de curseur : première page
+     */
+    @Test
+    void shouldReturnNullForMissingCursor() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode("  "));
+    }
+
+    /**
+     * Jeton qui n'est pas du Base64 URL-safe
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"pas-du-base64!", "2024-03-15T10:30,42"})
+    void shouldRejectNonBase64Cursor(String token) {
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode(token));
+    }
+
+    /**
+     * Test paramétré : contenu altéré rejeté en erreur de validation
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-03-15T10:30,",
+            ",42",
+            "2024-03-15T10:30",
+            "2024-03-15T10:30,quarante-deux",
+            "2024-13-45T10:30,42",
+            "2024-03-15T10:30,99999999999999999999"
+    })
+    void shouldRejectTamperedCursor(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode(token));
+    }
+}
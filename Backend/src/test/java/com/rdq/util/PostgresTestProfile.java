@@ -0,0 +1,29 @@
+package com.rdq.util;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Profil de test sur PostgreSQL réel (Testcontainers) pour les requêtes natives
+ * - Recherche plein texte, upserts ON CONFLICT : non reproductibles sur H2
+ * - Schéma généré par Hibernate, complété par les objets propres à PostgreSQL (db/postgres-test-schema.sql)
+ * - Les classes de test l'associent à @Testcontainers(disabledWithoutDocker = true)
+ */
+public class PostgresTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "quarkus.datasource.db-kind", "postgresql",
+                "quarkus.datasource.jdbc.driver", "org.testcontainers.jdbc.ContainerDatabaseDriver",
+                "quarkus.datasource.jdbc.url", "jdbc:tc:postgresql:16:///rdq_test",
+                "quarkus.hibernate-orm.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "quarkus.hibernate-orm.sql-load-script", "db/postgres-test-schema.sql");
+    }
+
+    @Override
+    public String getConfigProfile() {
+        return "test";
+    }
+}
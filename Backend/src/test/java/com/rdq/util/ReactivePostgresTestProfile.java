@@ -0,0 +1,38 @@
+package com.rdq.util;
+
+import com.rdq.repository.ReactiveRdqRepository;
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Profil de test des lectures réactives /api/reactive/rdq sur PostgreSQL réel
+ * - Propriété de build rdq.reactive.enabled réactivée, client réactif sur le même conteneur que JDBC
+ *   (ReactivePostgresTestResource)
+ * - Même schéma que PostgresTestProfile (Hibernate, complété par db/postgres-test-schema.sql)
+ * - Les classes de test l'associent à @Testcontainers(disabledWithoutDocker = true)
+ */
+public class ReactivePostgresTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "quarkus.datasource.db-kind", "postgresql",
+                "quarkus.datasource.jdbc.driver", "org.postgresql.Driver",
+                "quarkus.datasource.reactive", "true",
+                ReactiveRdqRepository.REACTIVE_PROPERTY, "true",
+                "quarkus.hibernate-orm.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "quarkus.hibernate-orm.sql-load-script", "db/postgres-test-schema.sql");
+    }
+
+    @Override
+    public List<TestResourceEntry> testResources() {
+        return List.of(new TestResourceEntry(ReactivePostgresTestResource.class));
+    }
+
+    @Override
+    public String getConfigProfile() {
+        return "test";
+    }
+}
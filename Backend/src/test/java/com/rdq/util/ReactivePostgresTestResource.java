@@ -0,0 +1,36 @@
+package com.rdq.util;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Map;
+
+/**
+ * Conteneur PostgreSQL partagé par le datasource JDBC et le client réactif
+ * - Une URL jdbc:tc crée un conteneur propre au driver JDBC, injoignable par le client Vert.x :
+ *   le conteneur est démarré ici et ses coordonnées données aux deux clients
+ */
+public class ReactivePostgresTestResource implements QuarkusTestResourceLifecycleManager {
+
+    private PostgreSQLContainer<?> postgres;
+
+    @Override
+    public Map<String, String> start() {
+        postgres = new PostgreSQLContainer<>("postgres:16").withDatabaseName("rdq_test");
+        postgres.start();
+
+        String hostAndPort = postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+        return Map.of(
+                "quarkus.datasource.jdbc.url", postgres.getJdbcUrl(),
+                "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + postgres.getDatabaseName(),
+                "quarkus.datasource.username", postgres.getUsername(),
+                "quarkus.datasource.password", postgres.getPassword());
+    }
+
+    @Override
+    public void stop() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
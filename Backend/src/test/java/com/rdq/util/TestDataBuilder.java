@@ -17,22 +17,39 @@ import java.time.LocalDateTime;
 public class TestDataBuilder {
     
     /**
-     * Crée un utilisateur de test
+     * Crée un utilisateur de test à persister (ID et horodatages attribués par Hibernate)
      */
-    public static UserEntity createUser(Long id, String email) {
+    public static UserEntity createUser(String email) {
         UserEntity user = new UserEntity();
-        user.id = id;
         user.email = email;
         user.firstName = "John";
         user.lastName = "Doe";
         user.role = UserRole.USER;
         user.active = true;
+        user.passwordHash = "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl.jvKq.L7O"; // "password"
+        return user;
+    }
+    
+    /**
+     * Crée un utilisateur de test
+     */
+    public static UserEntity createUser(Long id, String email) {
+        UserEntity user = createUser(email);
+        user.id = id;
         user.createdAt = LocalDateTime.now();
         user.updatedAt = LocalDateTime.now();
-        user.passwordHash = "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl.jvKq.L7O"; // "password"
         return user;
     }
     
+    /**
+     * Crée un manager de test à persister
+     */
+    public static UserEntity createManager(String email) {
+        UserEntity manager = createUser(email);
+        manager.role = UserRole.MANAGER;
+        return manager;
+    }
+    
     /**
      * Crée un manager de test
      */
@@ -79,11 +96,12 @@ public class TestDataBuilder {
     
     /**
      * Crée une RDQ approuvée de test
+     * (le manager décideur est celui du propriétaire, RdqEntity n'a pas de manager propre)
      */
     public static RdqEntity createApprovedRdq(Long id, String title, UserEntity user, UserEntity manager) {
         RdqEntity rdq = createRdq(id, title, user);
         rdq.status = RdqStatus.APPROVED;
-        rdq.manager = manager;
+        user.manager = manager;
         rdq.managerComment = "Approuvé par " + manager.firstName;
         return rdq;
     }
@@ -94,7 +112,7 @@ public class TestDataBuilder {
     public static RdqEntity createRejectedRdq(Long id, String title, UserEntity user, UserEntity manager) {
         RdqEntity rdq = createRdq(id, title, user);
         rdq.status = RdqStatus.REJECTED;
-        rdq.manager = manager;
+        user.manager = manager;
         rdq.managerComment = "Rejeté par " + manager.firstName;
         return rdq;
     }
@@ -0,0 +1,27 @@
+package com.rdq.util;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Profil de test où le client de test n'est pas un proxy de confiance
+ * - X-Forwarded-For envoyé par le client doit être ignoré
+ * - Limite par IP abaissée pour l'atteindre en quelques requêtes
+ */
+public class UntrustedProxyTestProfile implements QuarkusTestProfile {
+
+    public static final int MAX_PER_IP = 3;
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "quarkus.http.proxy.trusted-proxies", "10.255.255.1",
+                "rdq.auth.throttle.max-per-ip", String.valueOf(MAX_PER_IP));
+    }
+
+    @Override
+    public String getConfigProfile() {
+        return "test";
+    }
+}
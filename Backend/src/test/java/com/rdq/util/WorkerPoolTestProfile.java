@@ -0,0 +1,22 @@
+package com.rdq.util;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Profil de test du build de repli sur le pool de travail (rdq.virtual-threads.endpoints=false)
+ * - Propriété de build : l'application est reconstruite avec les variantes WorkerPool* des ressources
+ */
+public class WorkerPoolTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("rdq.virtual-threads.endpoints", "false");
+    }
+
+    @Override
+    public String getConfigProfile() {
+        return "test";
+    }
+}
@@ -0,0 +1,3 @@
+-- Complément au schéma généré par Hibernate pour PostgresTestProfile : colonne plein texte du changeset 004
+ALTER TABLE rdq ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (setweight(to_tsvector('french', coalesce(title, '')), 'A') || setweight(to_tsvector('french', coalesce(description, '')), 'B') || setweight(to_tsvector('french', coalesce(justification, '')), 'C')) STORED;
+CREATE INDEX idx_rdq_search_vector ON rdq USING GIN (search_vector);